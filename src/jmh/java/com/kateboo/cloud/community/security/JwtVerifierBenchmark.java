@@ -0,0 +1,57 @@
+package com.kateboo.cloud.community.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 Access Token 검증 비용: JwtVerifier vs JJWT(JwtTokenProvider)
+ *
+ * ./gradlew jmh 로 실행 (GC 프로파일러 포함, 결과는 build/results/jmh/results.txt)
+ * 호출당 할당량은 gc.alloc.rate.norm (B/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLW1pbmltdW0tMjU2LWJpdHMtcmVxdWlyZWQtMTIzNDU2Nzg5MGFiY2RlZmdoaWprbG1ub3BxcnN0dXZ3eHl6QUJDREVGR0hJSktMTU5PUFFSU1RVVldYWVo=";
+    private static final String BEARER = "Bearer ";
+
+    private JwtVerifier jwtVerifier;
+    private JwtTokenProvider jwtTokenProvider;
+    private String header;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtVerifier = new JwtVerifier(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800000);
+        header = BEARER + jwtTokenProvider.generateToken(UUID.randomUUID(), "bench@example.com");
+        token = header.substring(BEARER.length());
+    }
+
+    @Benchmark
+    public long jwtVerifier() {
+        return jwtVerifier.verify(header, BEARER.length()).userIdLeastSigBits();
+    }
+
+    @Benchmark
+    public long jjwt() {
+        return jwtTokenProvider.getUserIdFromToken(token).getLeastSignificantBits();
+    }
+}
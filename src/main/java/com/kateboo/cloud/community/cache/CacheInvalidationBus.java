@@ -0,0 +1,105 @@
+package com.kateboo.cloud.community.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 무효화 버스
+ *
+ * 서비스의 쓰기 메서드에서 publish()를 호출하면
+ * 1. 이 노드의 캐시는 즉시 + 커밋 후에 한 번 더 비움 (커밋 전에 다시 읽힌 값 정리)
+ * 2. Transport를 통해 다른 노드로 전달 → 다른 노드는 커밋된 변경만 받아서 비움
+ *
+ * 메트릭
+ * - cache.invalidation.published : 이 노드에서 발행한 메시지 수
+ * - cache.invalidation.received  : 다른 노드에서 받은 메시지 수
+ * - cache.invalidation.lag       : 발행 시각부터 다른 노드에서 처리되기까지의 지연
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private final UUID nodeId = UUID.randomUUID();
+
+    private final CacheInvalidationTransport transport;
+    private final List<CacheInvalidationListener> listeners;
+
+    private final Counter published;
+    private final Counter received;
+    private final Timer lag;
+
+    public CacheInvalidationBus(CacheInvalidationTransport transport,
+                                List<CacheInvalidationListener> listeners,
+                                MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.listeners = listeners;
+
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("발행한 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("다른 노드에서 받은 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("캐시 무효화 전파 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        transport.subscribe(this::receive);
+        log.info("캐시 무효화 버스 초기화: nodeId={}, transport={}, listeners={}",
+                nodeId, transport.getClass().getSimpleName(), listeners.size());
+    }
+
+    public void publish(CacheRegion region, UUID key) {
+        dispatch(region, key, false);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(region, key, false);
+                }
+            });
+        }
+
+        transport.send(new CacheInvalidationMessage(region, key, nodeId, Instant.now()));
+        published.increment();
+    }
+
+    public UUID getNodeId() {
+        return nodeId;
+    }
+
+    private void receive(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.originNode())) {
+            return;
+        }
+
+        // 노드 간 시계 차이로 음수가 나오면 0으로 기록
+        Duration delay = Duration.between(message.createdAt(), Instant.now());
+        lag.record(delay.isNegative() ? Duration.ZERO : delay);
+        received.increment();
+        dispatch(message.region(), message.key(), true);
+    }
+
+    private void dispatch(CacheRegion region, UUID key, boolean remote) {
+        for (CacheInvalidationListener listener : listeners) {
+            try {
+                listener.invalidate(region, key, remote);
+            } catch (Exception e) {
+                log.error("캐시 무효화 실패: listener={}, region={}, key={}",
+                        listener.getClass().getSimpleName(), region, key, e);
+            }
+        }
+    }
+}
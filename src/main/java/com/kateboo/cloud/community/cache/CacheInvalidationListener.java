@@ -0,0 +1,14 @@
+package com.kateboo.cloud.community.cache;
+
+import java.util.UUID;
+
+/**
+ * 무효화 메시지를 받아 자신의 캐시에서 항목을 제거하는 빈
+ *
+ * remote가 false면 이 노드에서 발생한 변경 (커밋 전 1회, 커밋 후 1회 호출됨)
+ * remote가 true면 다른 노드에서 커밋된 변경
+ */
+public interface CacheInvalidationListener {
+
+    void invalidate(CacheRegion region, UUID key, boolean remote);
+}
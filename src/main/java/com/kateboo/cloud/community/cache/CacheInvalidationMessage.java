@@ -0,0 +1,14 @@
+package com.kateboo.cloud.community.cache;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 캐시 무효화 메시지
+ * originNode로 자신이 보낸 메시지를 구분하고, createdAt으로 전파 지연을 측정한다.
+ */
+public record CacheInvalidationMessage(CacheRegion region,
+                                       UUID key,
+                                       UUID originNode,
+                                       Instant createdAt) {
+}
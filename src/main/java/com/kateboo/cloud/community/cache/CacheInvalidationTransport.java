@@ -0,0 +1,19 @@
+package com.kateboo.cloud.community.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 무효화 메시지 전달 방식
+ *
+ * - database: 같은 트랜잭션에서 cache_invalidations 테이블에 기록하고 각 노드가 주기적으로 조회
+ * - loopback: 같은 JVM 안의 구독자에게 커밋 후 바로 전달 (테스트/단일 노드)
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * 쓰기 트랜잭션 안에서 호출됨. 다른 노드에는 커밋된 경우에만 전달되어야 한다.
+     */
+    void send(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> subscriber);
+}
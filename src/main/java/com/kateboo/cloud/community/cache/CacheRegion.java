@@ -0,0 +1,11 @@
+package com.kateboo.cloud.community.cache;
+
+/**
+ * 무효화 대상 영역 (key는 해당 엔티티의 ID)
+ */
+public enum CacheRegion {
+    USER,
+    POST,
+    // key는 로그아웃으로 폐기된 Access Token의 jti (TokenRevocationRegistry)
+    ACCESS_TOKEN
+}
@@ -0,0 +1,129 @@
+package com.kateboo.cloud.community.cache;
+
+import com.kateboo.cloud.community.entity.CacheInvalidation;
+import com.kateboo.cloud.community.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * cache_invalidations 테이블을 이용한 무효화 전달 (추가 인프라 불필요)
+ *
+ * - send(): 쓰기 트랜잭션 안에서 행을 저장 → 롤백되면 메시지도 사라지고, 커밋되어야 다른 노드에 보임
+ * - poll(): 마지막으로 읽은 id 이후의 행을 id 순서로 조회하여 구독자에게 전달
+ * - IDENTITY id는 커밋 순서와 다를 수 있으므로, settle 시간이 지난 행까지만 커서를 옮기고
+ *   그 이후의 행은 전달한 id를 기억해 두었다가 다음 조회에서 중복 전달하지 않음
+ * - retention이 지난 행은 주기적으로 삭제
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "database", matchIfMissing = true)
+@Slf4j
+public class DatabaseCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final long settleMillis;
+    private final int batchSize;
+    private final long retentionMillis;
+
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    // 이 id까지는 모두 전달 완료 (null이면 아직 첫 조회 전)
+    private Long cursor;
+    // 커서 이후에 이미 전달한 id
+    private final Set<Long> delivered = new ConcurrentSkipListSet<>();
+    // synchronized는 JDBC 대기 중 가상 스레드를 carrier에 고정시키므로 Lock 사용
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public DatabaseCacheInvalidationTransport(
+            CacheInvalidationRepository cacheInvalidationRepository,
+            @Value("${cache.invalidation.settle:5000}") long settleMillis,
+            @Value("${cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${cache.invalidation.retention:3600000}") long retentionMillis) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.settleMillis = settleMillis;
+        this.batchSize = batchSize;
+        this.retentionMillis = retentionMillis;
+    }
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        cacheInvalidationRepository.save(CacheInvalidation.builder()
+                .region(message.region())
+                .entityKey(message.key())
+                .originNode(message.originNode())
+                .createdAt(message.createdAt())
+                .build());
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval:1000}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (cursor == null) {
+                // 기동 이전의 메시지는 필요 없음 (캐시가 비어 있음)
+                cursor = cacheInvalidationRepository.findMaxInvalidationId();
+                return;
+            }
+
+            List<CacheInvalidation> rows = cacheInvalidationRepository
+                    .findByInvalidationIdGreaterThanOrderByInvalidationIdAsc(cursor, PageRequest.of(0, batchSize));
+
+            Instant settledBefore = Instant.now().minusMillis(settleMillis);
+            boolean advancing = true;
+
+            for (CacheInvalidation row : rows) {
+                if (delivered.add(row.getInvalidationId())) {
+                    deliver(row);
+                }
+
+                if (advancing && row.getCreatedAt().isBefore(settledBefore)) {
+                    cursor = row.getInvalidationId();
+                } else {
+                    advancing = false;
+                }
+            }
+
+            delivered.removeIf(id -> id <= cursor);
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 조회 중 오류 발생", e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval:600000}", initialDelay = 60_000)
+    public void purge() {
+        try {
+            int deleted = cacheInvalidationRepository.deleteByCreatedAtBefore(Instant.now().minusMillis(retentionMillis));
+            if (deleted > 0) {
+                log.info("오래된 캐시 무효화 메시지 {} 건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 정리 중 오류 발생", e);
+        }
+    }
+
+    private void deliver(CacheInvalidation row) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(
+                row.getRegion(), row.getEntityKey(), row.getOriginNode(), row.getCreatedAt());
+        for (Consumer<CacheInvalidationMessage> subscriber : subscribers) {
+            subscriber.accept(message);
+        }
+    }
+}
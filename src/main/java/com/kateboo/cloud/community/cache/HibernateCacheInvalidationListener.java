@@ -0,0 +1,39 @@
+package com.kateboo.cloud.community.cache;
+
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 다른 노드에서 변경된 엔티티를 이 노드의 Hibernate 2차 캐시에서 제거
+ * 이 노드에서의 변경은 Hibernate가 커밋 시 직접 갱신하므로 remote 메시지만 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheInvalidationListener implements CacheInvalidationListener {
+
+    private static final String POST_IMAGES_ROLE = Post.class.getName() + ".postImages";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void invalidate(CacheRegion region, UUID key, boolean remote) {
+        if (!remote) {
+            return;
+        }
+
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (region) {
+            case USER -> cache.evictEntityData(User.class, key);
+            case POST -> {
+                cache.evictEntityData(Post.class, key);
+                cache.evictCollectionData(POST_IMAGES_ROLE, key);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.kateboo.cloud.community.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 모든 애플리케이션 컨텍스트에 커밋 후 바로 전달
+ * 외부 인프라 없이 테스트하거나 단일 노드로 운영할 때 사용
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "loopback")
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    // 컨텍스트 간 공유 (한 JVM에서 여러 컨텍스트를 띄운 경우)
+    private static final List<Consumer<CacheInvalidationMessage>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<CacheInvalidationMessage>> ownSubscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(message);
+                }
+            });
+        } else {
+            deliver(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        ownSubscribers.add(subscriber);
+        SUBSCRIBERS.add(subscriber);
+    }
+
+    @PreDestroy
+    public void close() {
+        SUBSCRIBERS.removeAll(ownSubscribers);
+    }
+
+    private void deliver(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> subscriber : SUBSCRIBERS) {
+            subscriber.accept(message);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.kateboo.cloud.community.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -16,8 +18,24 @@ import java.util.concurrent.ThreadPoolExecutor;
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    /**
+     * 조회수 증가 Executor
+     * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 작업마다 가상 스레드를 만들고,
+     * 동시 실행 수를 기존 최대 스레드 + 큐 크기 수준으로 제한 (초과 시 호출 스레드가 대기)
+     */
     @Bean(name = "viewCountExecutor")
-    public Executor viewCountExecutor() {
+    public Executor viewCountExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ViewCount-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(110);
+            executor.setTaskTerminationTimeout(60_000);
+
+            log.info("ViewCount Executor 초기화: virtualThreads=true, concurrencyLimit={}", executor.getConcurrencyLimit());
+
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         executor.setCorePoolSize(2);
@@ -40,6 +58,71 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 비밀번호 해싱(BCrypt) 전용 Executor
+     * CPU 코어 수만큼만 동시에 해싱하고, 큐가 가득 차면 즉시 거절(503)하여
+     * 로그인 폭주가 조회 요청까지 굶기지 않도록 함
+     * CPU 작업이므로 가상 스레드 모드에서도 플랫폼 스레드 풀 유지
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${password-hash.executor.pool-size:0}") int poolSize,
+            @Value("${password-hash.executor.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(threads);
+
+        executor.setMaxPoolSize(threads);
+
+        executor.setQueueCapacity(queueCapacity);
+
+        executor.setThreadNamePrefix("PasswordHash-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("PasswordHash Executor 초기화: poolSize={}, queueCapacity={}", threads, queueCapacity);
+
+        return executor;
+    }
+
+    /**
+     * 이미지 축소본 생성 전용 Executor
+     * 디코딩/축소는 CPU와 메모리를 많이 쓰므로 코어 수의 절반까지만 동시에 실행하고,
+     * ImageVariantWorker는 남은 자리만큼만 작업을 꺼내 옴 (가득 차면 거절 → 다음 조회 때 다시 시도)
+     */
+    @Bean(name = "imageVariantExecutor")
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${image.variants.executor.pool-size:0}") int poolSize,
+            @Value("${image.variants.executor.queue-capacity:16}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor.setCorePoolSize(threads);
+
+        executor.setMaxPoolSize(threads);
+
+        executor.setQueueCapacity(queueCapacity);
+
+        executor.setThreadNamePrefix("ImageVariant-");
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        log.info("ImageVariant Executor 초기화: poolSize={}, queueCapacity={}", threads, queueCapacity);
+
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (throwable, method, params) -> {
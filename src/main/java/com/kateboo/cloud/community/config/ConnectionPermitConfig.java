@@ -0,0 +1,90 @@
+package com.kateboo.cloud.community.config;
+
+import com.kateboo.cloud.community.datasource.ConnectionPermitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hikari 풀마다 ConnectionPermitDataSource를 씌움 (jdbc.connection-permits.enabled, 가상 스레드 모드에서 기본 사용)
+ *
+ * 허가 수 기본값은 풀 크기 - nested-reserve
+ * 허가를 가진 스레드의 중첩 연결(시퀀스 테이블 id 블록 할당 등)은 허가 없이 나머지 연결을 씀
+ * 허가 수가 풀 크기 이상이면 허가를 가진 스레드끼리 중첩 연결을 기다리며 Hikari 풀이 바닥날 수 있음
+ *
+ * 메트릭 (pool 태그는 DataSource 빈 이름)
+ * - jdbc.connection.permits.available : 남은 허가 수
+ * - jdbc.connection.permits.waiting   : 허가를 기다리는 스레드 수
+ * - jdbc.connection.permits.rejected  : 대기 시간 초과로 거절된 수
+ * - jdbc.connection.permits.nested    : 허가 없이 통과시킨 중첩 연결 수
+ */
+@Configuration
+@ConditionalOnProperty(name = "jdbc.connection-permits.enabled", havingValue = "true")
+@Slf4j
+public class ConnectionPermitConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermitPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+
+                // 0이면 풀 크기에서 중첩 연결 몫(nested-reserve, 기본 풀의 10%, 최소 1)을 뺀 값
+                int poolSize = hikari.getMaximumPoolSize();
+                int permits = environment.getProperty("jdbc.connection-permits.permits", Integer.class, 0);
+                int reserve = environment.getProperty("jdbc.connection-permits.nested-reserve", Integer.class,
+                        Math.max(1, poolSize / 10));
+                long timeout = environment.getProperty("jdbc.connection-permits.timeout", Long.class,
+                        hikari.getConnectionTimeout());
+                int permitCount = permits > 0 ? permits : Math.max(1, poolSize - reserve);
+
+                if (permitCount >= poolSize) {
+                    log.warn("DB 연결 허가 수가 풀 크기 이상입니다. 중첩 연결(id 블록 할당 등)이 풀을 기다릴 수 있습니다: dataSource={}, permits={}, poolSize={}",
+                            beanName, permitCount, poolSize);
+                }
+                log.info("DB 연결 허가 제한 적용: dataSource={}, permits={}, poolSize={}, timeout={}ms",
+                        beanName, permitCount, poolSize, timeout);
+                return new ConnectionPermitDataSource(hikari, permitCount, timeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, dataSource) -> {
+            if (!(dataSource instanceof ConnectionPermitDataSource permitted)) {
+                return;
+            }
+
+            Gauge.builder("jdbc.connection.permits.available", permitted, ConnectionPermitDataSource::getAvailablePermits)
+                    .description("남은 DB 연결 허가 수")
+                    .tag("pool", name)
+                    .register(registry);
+            Gauge.builder("jdbc.connection.permits.waiting", permitted, ConnectionPermitDataSource::getWaitingThreads)
+                    .description("DB 연결 허가를 기다리는 스레드 수")
+                    .tag("pool", name)
+                    .register(registry);
+            FunctionCounter.builder("jdbc.connection.permits.rejected", permitted, ConnectionPermitDataSource::getRejectedCount)
+                    .description("대기 시간 초과로 거절된 DB 연결 요청 수")
+                    .tag("pool", name)
+                    .register(registry);
+            FunctionCounter.builder("jdbc.connection.permits.nested", permitted, ConnectionPermitDataSource::getNestedCount)
+                    .description("허가 없이 통과시킨 중첩 DB 연결 수")
+                    .tag("pool", name)
+                    .register(registry);
+        });
+    }
+}
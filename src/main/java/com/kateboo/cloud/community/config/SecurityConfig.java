@@ -1,15 +1,35 @@
 package com.kateboo.cloud.community.config;
 
+import com.kateboo.cloud.community.security.CalibratedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * 기동 시 목표 해싱 시간(target-millis)에 맞춰 비용을 보정한 PasswordEncoder
+     * 알고리즘과 파라미터는 해시 문자열에 함께 저장되며, 저장된 해시가 다른 알고리즘이거나
+     * 설정의 최소 비용보다 낮을 때만 다음 로그인 때 재해싱됨 (최소 비용 이상인 해시는 그대로 둠)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hash.algorithm:bcrypt}") String algorithm,
+            @Value("${password-hash.calibrate:true}") boolean calibrate,
+            @Value("${password-hash.target-millis:50}") long targetMillis,
+            @Value("${password-hash.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${password-hash.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${password-hash.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${password-hash.argon2.iterations:2}") int argon2Iterations) {
+
+        if (!calibrate) {
+            return CalibratedPasswordEncoder.fixed(
+                    algorithm, bcryptStrength, argon2MemoryKib, argon2Parallelism, argon2Iterations);
+        }
+
+        return CalibratedPasswordEncoder.calibrate(
+                algorithm, targetMillis, bcryptStrength, argon2MemoryKib, argon2Parallelism, argon2Iterations);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.kateboo.cloud.community.config;
 
+import com.kateboo.cloud.community.image.UploadResourceResolver;
+import com.kateboo.cloud.community.image.UploadStorage;
 import com.kateboo.cloud.community.security.CurrentUserArgumentResolver;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -20,12 +22,19 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private CurrentUserArgumentResolver currentUserArgumentResolver;
 
+    @Autowired
+    private UploadStorage uploadStorage;
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    // direct: UploadedImageController (immutable 캐시/ETag/Range/sendfile), resource: 기존 정적 리소스 핸들러 (비교용)
+    @Value("${file.serving.handler:direct}")
+    private String servingHandler;
+
     @PostConstruct
     public void init(){
-        log.info("정적 리소스 경로 설정: /uploads/** -> file:{}", uploadDir);
+        log.info("업로드 이미지 제공: /uploads/images/** -> file:{} (샤드 디렉토리), handler={}", uploadDir, servingHandler);
     }
 
     @Override
@@ -47,8 +56,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (!"resource".equals(servingHandler)) {
+            return;
+        }
+
+        // 파일 이름 → 샤드 디렉토리(이전 평면 파일 포함) 변환은 UploadStorage가 담당
         registry.addResourceHandler("/uploads/images/**")
-                .addResourceLocations("file:" + uploadDir + "/");
+                .addResourceLocations("file:" + uploadDir + "/")
+                .resourceChain(false)
+                .addResolver(new UploadResourceResolver(uploadStorage));
 
     }
 }
\ No newline at end of file
@@ -3,13 +3,16 @@ package com.kateboo.cloud.community.controller;
 import com.kateboo.cloud.community.dto.request.LoginRequest;
 import com.kateboo.cloud.community.dto.request.SignupRequest;
 import com.kateboo.cloud.community.dto.response.AuthResponse;
+import com.kateboo.cloud.community.dto.response.AvailabilityResponse;
 import com.kateboo.cloud.community.dto.response.TokenResponse;
 import com.kateboo.cloud.community.exception.UnauthorizedException;
 import com.kateboo.cloud.community.service.AuthService;
+import com.kateboo.cloud.community.service.UserAvailabilityService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final UserAvailabilityService userAvailabilityService;
 
     @PostMapping("/signup")
     public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request, HttpServletResponse response) {
@@ -100,14 +104,19 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
             @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
             HttpServletResponse response) {
 
         log.info("로그아웃 요청");
 
-        if (refreshToken != null && !refreshToken.isEmpty()) {
-            authService.logout(refreshToken);
+        // 현재 Access Token도 만료 전까지 사용할 수 없도록 함께 폐기
+        String accessToken = null;
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            accessToken = authorization.substring(7);
         }
 
+        authService.logout(refreshToken, accessToken);
+
         ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
                 .httpOnly(true)
                 .secure(false)
@@ -122,4 +131,15 @@ public class AuthController {
 
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 이메일/닉네임 사용 가능 여부 (회원가입 폼 입력 중 확인용)
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String nickname) {
+
+        return ResponseEntity.ok(userAvailabilityService.checkAvailability(email, nickname));
+    }
+}
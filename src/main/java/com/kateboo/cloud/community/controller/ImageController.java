@@ -1,18 +1,23 @@
 package com.kateboo.cloud.community.controller;
 
+import com.kateboo.cloud.community.dto.request.ImageUploadSessionRequest;
 import com.kateboo.cloud.community.dto.response.ImageUploadResponse;
+import com.kateboo.cloud.community.dto.response.ImageUploadSessionResponse;
+import com.kateboo.cloud.community.image.ChunkedUploadService;
+import com.kateboo.cloud.community.image.ImageUploadService;
+import com.kateboo.cloud.community.image.StoredImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -23,19 +28,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageController {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    private final ImageUploadService imageUploadService;
+    private final ChunkedUploadService chunkedUploadService;
 
     @PostMapping
     public ResponseEntity<ImageUploadResponse> uploadImages(
             @RequestParam("images") List<MultipartFile> images) throws IOException {
 
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-            log.info("업로드 디렉토리 생성: {}", uploadPath.toAbsolutePath());
-        }
-
         List<String> urls = new ArrayList<>();
 
         for (MultipartFile image : images) {
@@ -43,23 +42,75 @@ public class ImageController {
                 continue;
             }
 
-            String originalFilename = image.getOriginalFilename();
+            StoredImage stored = imageUploadService.store(image);
+            urls.add(stored.url());
 
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String filename = UUID.randomUUID().toString() + extension;
+            log.info("이미지 업로드 완료: {} -> {} (중복: {})", image.getOriginalFilename(), stored.url(), stored.duplicate());
+        }
+
+        return ResponseEntity.ok(new ImageUploadResponse(urls));
+    }
+
+    /**
+     * 요청 본문이 이미지 한 장 (Content-Type: image/* 또는 application/octet-stream)
+     * multipart 파싱/임시 파일 없이 바로 저장
+     */
+    @PostMapping(value = "/stream", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImageUploadResponse> uploadImageStream(HttpServletRequest request) throws IOException {
+        StoredImage stored;
+        try (InputStream body = request.getInputStream()) {
+            stored = imageUploadService.store(body);
+        }
 
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        log.info("이미지 업로드 완료 (stream): {} (중복: {})", stored.url(), stored.duplicate());
+        return ResponseEntity.ok(new ImageUploadResponse(List.of(stored.url())));
+    }
 
-            String imageUrl = "/uploads/images/" + filename;
-            urls.add(imageUrl);
+    /**
+     * 이어 올리기(청크) 업로드 세션 생성
+     * 이후 PUT /uploads/{uploadId}?offset=N 으로 청크를 보내고, 끊기면 GET으로 offset을 확인해 그 위치부터 다시 보냄
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ImageUploadSessionResponse> createUploadSession(
+            @Valid @RequestBody ImageUploadSessionRequest request) throws IOException {
+        ImageUploadSessionResponse response = ImageUploadSessionResponse.from(
+                chunkedUploadService.create(request.getSize()), chunkedUploadService.getChunkBytes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
 
-            log.info("이미지 업로드 완료: {} -> {}", originalFilename, imageUrl);
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ImageUploadSessionResponse> getUploadSession(@PathVariable UUID uploadId) {
+        return ResponseEntity.ok(ImageUploadSessionResponse.from(
+                chunkedUploadService.status(uploadId), chunkedUploadService.getChunkBytes()));
+    }
+
+    /**
+     * 요청 본문(청크)을 offset 위치에 씀
+     */
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ImageUploadSessionResponse> uploadChunk(
+            @PathVariable UUID uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request) throws IOException {
+        ImageUploadSessionResponse response;
+        try (InputStream body = request.getInputStream()) {
+            response = ImageUploadSessionResponse.from(
+                    chunkedUploadService.write(uploadId, offset, body), chunkedUploadService.getChunkBytes());
         }
+        return ResponseEntity.ok(response);
+    }
 
-        return ResponseEntity.ok(new ImageUploadResponse(urls));
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ImageUploadResponse> completeUpload(@PathVariable UUID uploadId) throws IOException {
+        StoredImage stored = chunkedUploadService.complete(uploadId);
+
+        log.info("이미지 업로드 완료 (chunked): {} (중복: {})", stored.url(), stored.duplicate());
+        return ResponseEntity.ok(new ImageUploadResponse(List.of(stored.url())));
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> cancelUpload(@PathVariable UUID uploadId) throws IOException {
+        chunkedUploadService.cancel(uploadId);
+        return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.kateboo.cloud.community.controller;
+
+import com.kateboo.cloud.community.image.UploadedImageServer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+
+/**
+ * 업로드 이미지 제공 (GET/HEAD)
+ * file.serving.handler=resource 이면 이 컨트롤러 대신 기존 ResourceHttpRequestHandler 사용 (WebConfig)
+ */
+@Controller
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.serving.handler", havingValue = "direct", matchIfMissing = true)
+public class UploadedImageController {
+
+    private final UploadedImageServer uploadedImageServer;
+
+    @GetMapping("/uploads/images/{name}")
+    public void serve(@PathVariable String name,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        uploadedImageServer.serve(name, request, response);
+    }
+}
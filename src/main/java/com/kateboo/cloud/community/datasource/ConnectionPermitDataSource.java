@@ -0,0 +1,155 @@
+package com.kateboo.cloud.community.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션 풀 앞에서 동시에 연결을 빌릴 수 있는 수를 제한하는 DataSource
+ *
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로 수천 개의 스레드가 한꺼번에 Hikari 대기열로 몰릴 수 있음.
+ * 허가(permit)를 먼저 얻은 스레드만 풀에서 연결을 빌리고,
+ * timeout 안에 허가를 얻지 못하면 SQLTransientConnectionException으로 빠르게 실패한다.
+ * 허가는 Connection.close() 시 반환됨.
+ *
+ * 이미 연결을 빌린 스레드가 하나 더 빌리는 경우(시퀀스 테이블 id 블록 할당, REQUIRES_NEW 등)는 허가 없이 통과시킨다.
+ * 허가를 가진 스레드들이 서로의 허가 반환을 기다리는 교착을 막기 위함이며,
+ * 이런 중첩 연결이 쓸 여유분은 허가 수를 풀 크기보다 작게 잡아 남겨 둔다 (ConnectionPermitConfig).
+ *
+ * 빈으로 등록된 풀을 대신하므로 close()는 감싼 풀을 닫는다 (Spring이 추론한 destroy 메서드로 호출됨).
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int permitCount;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder nested = new LongAdder();
+    // 스레드별로 빌려 간 연결 수 (0보다 크면 중첩 연결)
+    private final ThreadLocal<AtomicInteger> borrowed = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConnectionPermitDataSource(DataSource target, int permitCount, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(permitCount, true);
+        this.permitCount = permitCount;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger held = borrowed.get();
+        boolean permitted = acquireUnlessNested(held);
+        try {
+            return withPermit(obtainTargetDataSource().getConnection(), held, permitted);
+        } catch (SQLException | RuntimeException e) {
+            if (permitted) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger held = borrowed.get();
+        boolean permitted = acquireUnlessNested(held);
+        try {
+            return withPermit(obtainTargetDataSource().getConnection(username, password), held, permitted);
+        } catch (SQLException | RuntimeException e) {
+            if (permitted) {
+                permits.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    public int getPermitCount() {
+        return permitCount;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getNestedCount() {
+        return nested.sum();
+    }
+
+    /**
+     * 이 스레드가 이미 연결을 가지고 있으면 허가 없이 통과 (false), 아니면 허가를 얻고 true
+     */
+    private boolean acquireUnlessNested(AtomicInteger held) throws SQLException {
+        if (held.get() > 0) {
+            nested.increment();
+            return false;
+        }
+        acquire();
+        return true;
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 연결 허가 대기 시간 초과 (" + timeoutMillis + "ms, 허가 " + permitCount + "개)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 허가 대기 중 인터럽트", e);
+        }
+    }
+
+    private Connection withPermit(Connection connection, AtomicInteger held, boolean permitted) {
+        held.incrementAndGet();
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                held.decrementAndGet();
+                                if (permitted) {
+                                    permits.release();
+                                }
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,82 @@
+package com.kateboo.cloud.community.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자가 직접 쓴 내용을 바로 다시 읽을 때 복제 지연으로 이전 값이 보이지 않도록,
+ * 쓰기 트랜잭션이 커밋된 뒤 window 동안 그 사용자의 읽기는 primary로 보냄
+ *
+ * - 사용자는 JwtAuthenticationFilter가 넣은 요청 속성 "userId"로 구분 (요청 밖이나 비로그인은 대상 아님)
+ * - 노드별 메모리에만 기록하므로 다른 노드로 간 요청에는 적용되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReadYourWritesTracker {
+
+    private final long windowMillis;
+    private final Map<UUID, Long> recentWriters = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(
+            @Value("${spring.datasource.replica.read-your-writes-window:5000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 primary 연결을 얻을 때 호출, 커밋되면 window 시작
+     */
+    public void onWriteTransaction() {
+        UUID userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, System.currentTimeMillis() + windowMillis);
+            }
+        });
+    }
+
+    public boolean isRecentWriter() {
+        UUID userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+
+        Long until = recentWriters.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            recentWriters.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        recentWriters.values().removeIf(until -> until < now);
+    }
+
+    private static UUID currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (UUID) attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST);
+    }
+}
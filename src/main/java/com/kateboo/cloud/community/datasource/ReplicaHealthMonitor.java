@@ -0,0 +1,101 @@
+package com.kateboo.cloud.community.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 레플리카 상태 확인
+ *
+ * - 주기적으로 연결 유효성을 확인하고, lag-query가 설정되어 있으면 복제 지연(초)도 확인
+ * - 연결 실패나 max-lag 초과 시 unhealthy → 읽기 전용 트랜잭션도 primary로 보냄
+ * - 요청 처리 중 레플리카 연결에 실패하면 markDown()으로 즉시 unhealthy 처리, 다음 확인에서 복구
+ *
+ * 메트릭: datasource.replica.healthy (1: 정상, 0: 제외됨)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final int validationTimeoutSeconds;
+
+    private volatile boolean healthy = true;
+
+    public ReplicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${spring.datasource.replica.max-lag:5}") long maxLagSeconds,
+            @Value("${spring.datasource.replica.validation-timeout:1}") int validationTimeoutSeconds) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+
+        Gauge.builder("datasource.replica.healthy", this, monitor -> monitor.healthy ? 1 : 0)
+                .description("레플리카 사용 여부 (1: 정상, 0: primary로 우회)")
+                .register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public void markDown(Exception cause) {
+        if (healthy) {
+            healthy = false;
+            log.warn("레플리카 연결 실패, primary로 우회: {}", cause.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.health-check-interval:5000}")
+    public void check() {
+        String problem = probe();
+
+        if (problem == null && !healthy) {
+            log.info("레플리카 복구, 읽기 전용 트랜잭션을 다시 레플리카로 보냄");
+        } else if (problem != null && healthy) {
+            log.warn("레플리카 제외, primary로 우회: {}", problem);
+        }
+        healthy = problem == null;
+    }
+
+    /**
+     * 정상이면 null, 아니면 사유
+     */
+    private String probe() {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                return "연결 유효성 확인 실패";
+            }
+            if (lagQuery.isBlank()) {
+                return null;
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next() || resultSet.getObject(1) == null) {
+                    return "복제 상태를 확인할 수 없음";
+                }
+                long lagSeconds = resultSet.getLong(1);
+                return lagSeconds > maxLagSeconds ? "복제 지연 " + lagSeconds + "초" : null;
+            }
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kateboo.cloud.community.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary로 보내는 DataSource
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 연결을 얻도록 해야 함
+ *
+ * 레플리카로 보내지 않는 경우
+ * - 레플리카가 unhealthy (ReplicaHealthMonitor)
+ * - 같은 사용자가 window 안에 쓰기를 커밋함 (ReadYourWritesTracker)
+ * - 레플리카 연결 획득 실패 → 즉시 primary로 재시도
+ *
+ * 메트릭
+ * - datasource.routing{target}      : 연결 획득 횟수 (primary/replica)
+ * - datasource.replica.fallback     : 레플리카 연결 실패로 primary를 사용한 횟수
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaHealthMonitor healthMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.healthMonitor = healthMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.fallbacks = Counter.builder("datasource.replica.fallback")
+                .description("레플리카 연결 실패로 primary를 사용한 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                healthMonitor.markDown(e);
+                fallbacks.increment();
+            }
+        }
+
+        primaryRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryRoutes.increment();
+        return primary.getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.onWriteTransaction();
+            return false;
+        }
+        return healthMonitor.isHealthy() && !readYourWritesTracker.isRecentWriter();
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("DataSource 연결 획득 횟수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -16,5 +16,6 @@ public class AuthResponse {
     private String email;
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl;
     private boolean accountRestored;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.kateboo.cloud.community.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+    // 요청에 포함되지 않은 필드는 null
+    private Boolean emailAvailable;
+    private Boolean nicknameAvailable;
+}
@@ -21,11 +21,14 @@ public class CommentResponse {
     private Instant createdAt;
     private Instant updatedAt;
 
-    public static CommentResponse from(Comment comment) {
+    /**
+     * 작성자 정보는 UserSummaryCache에서 조회한 값을 전달 (comment.getUser()를 초기화하지 않음)
+     */
+    public static CommentResponse from(Comment comment, UserSummaryResponse user) {
         return CommentResponse.builder()
                 .commentId(comment.getCommentId())
                 .body(comment.getBody())
-                .user(comment.getUser() != null ? UserSummaryResponse.from(comment.getUser()) : null)
+                .user(user)
                 .postId(comment.getPost() != null ? comment.getPost().getPostId() : null)
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
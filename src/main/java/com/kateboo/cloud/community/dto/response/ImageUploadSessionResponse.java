@@ -0,0 +1,33 @@
+package com.kateboo.cloud.community.dto.response;
+
+import com.kateboo.cloud.community.entity.ImageUploadSession;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSessionResponse {
+
+    private UUID uploadId;
+    private Long size;
+    // 다음 청크를 보낼 위치 (지금까지 받은 바이트 수)
+    private Long offset;
+    // 권장 청크 크기
+    private Long chunkSize;
+    private Instant expiresAt;
+
+    public static ImageUploadSessionResponse from(ImageUploadSession session, long chunkSize) {
+        return ImageUploadSessionResponse.builder()
+                .uploadId(session.getUploadId())
+                .size(session.getTotalSize())
+                .offset(session.getReceivedSize())
+                .chunkSize(chunkSize)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.kateboo.cloud.community.dto.response;
 
 import com.kateboo.cloud.community.entity.PostImage;
+import com.kateboo.cloud.community.image.ImageVariant;
 import lombok.*;
 
 @Getter
@@ -12,13 +13,29 @@ public class PostImageResponse {
 
     private Long imageId;
     private String imageUrl;
+    // 피드 카드용 정사각형 축소본 / 상세 화면용 축소본 (외부/이전 URL이면 null)
+    private String thumbnailUrl;
+    private String mediumUrl;
     private Integer orderNo;
+    // 이미지를 받기 전에 자리를 잡고 흐린 미리보기를 그릴 수 있도록 (알 수 없으면 null)
+    private Integer width;
+    private Integer height;
+    private Long byteSize;
+    private String mimeType;
+    private String blurHash;
 
     public static PostImageResponse from(PostImage image) {
         return PostImageResponse.builder()
                 .imageId(image.getImageId())
                 .imageUrl(image.getImageUrl())
+                .thumbnailUrl(ImageVariant.THUMBNAIL.urlOf(image.getImageUrl()))
+                .mediumUrl(ImageVariant.MEDIUM.urlOf(image.getImageUrl()))
                 .orderNo(image.getOrderNo())
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .byteSize(image.getByteSize())
+                .mimeType(image.getMimeType())
+                .blurHash(image.getBlurHash())
                 .build();
     }
 }
\ No newline at end of file
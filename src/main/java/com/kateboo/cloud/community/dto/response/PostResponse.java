@@ -34,7 +34,10 @@ public class PostResponse {
     private String formattedCommentsCount;
     private String formattedLikesCount;
 
-    public static PostResponse from(Post post) {
+    /**
+     * 작성자 정보는 UserSummaryCache에서 조회한 값을 전달 (post.getUser()를 초기화하지 않음)
+     */
+    public static PostResponse from(Post post, UserSummaryResponse user) {
         if (post == null) {
             return null;
         }
@@ -54,7 +57,7 @@ public class PostResponse {
                 .body(post.getBody())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
-                .user(UserSummaryResponse.from(post.getUser()))
+                .user(user)
                 .images(imageResponses)
                 .stats(statsResponse)
                 .build();
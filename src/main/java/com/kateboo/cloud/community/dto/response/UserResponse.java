@@ -1,6 +1,7 @@
 package com.kateboo.cloud.community.dto.response;
 
 import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.image.ImageVariant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +19,7 @@ public class UserResponse {
     private String email;
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl;
     private Boolean isActive;
     private Instant createdAt;
 
@@ -31,6 +33,7 @@ public class UserResponse {
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(user.getProfileImageUrl()))
                 .isActive(user.getIsActive())
                 .createdAt(user.getCreatedAt())
                 .build();
@@ -1,6 +1,7 @@
 package com.kateboo.cloud.community.dto.response;
 
 import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.image.ImageVariant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +18,7 @@ public class UserSummaryResponse {
     private UUID userId;
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl;
 
     public static UserSummaryResponse from(User user) {
         if (user == null) {
@@ -27,6 +29,7 @@ public class UserSummaryResponse {
                 .userId(user.getUserId())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(user.getProfileImageUrl()))
                 .build();
     }
 }
\ No newline at end of file
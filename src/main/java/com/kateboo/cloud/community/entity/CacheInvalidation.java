@@ -0,0 +1,41 @@
+package com.kateboo.cloud.community.entity;
+
+import com.kateboo.cloud.community.cache.CacheRegion;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 노드 간 캐시 무효화 메시지 (database transport)
+ * 쓰기 트랜잭션과 함께 커밋되고, 각 노드가 id 순서로 조회한 뒤 보관 기간이 지나면 삭제됨
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invalidation_id")
+    private Long invalidationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "region", nullable = false, length = 20)
+    private CacheRegion region;
+
+    @Column(name = "entity_key", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID entityKey;
+
+    @Column(name = "origin_node", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
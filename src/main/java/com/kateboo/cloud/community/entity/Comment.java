@@ -1,8 +1,8 @@
 package com.kateboo.cloud.community.entity;
 
+import com.kateboo.cloud.community.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_at")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,7 +23,7 @@ import java.util.UUID;
 public class Comment {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @UuidV7
     @Column(name = "comment_id", columnDefinition = "BINARY(16)")
     private UUID commentId;
 
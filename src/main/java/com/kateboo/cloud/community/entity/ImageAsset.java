@@ -0,0 +1,42 @@
+package com.kateboo.cloud.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 업로드된 원본 파일의 정보 (내용 해시 이름 하나당 한 행)
+ * 업로드 시 기록하고, 게시글 작성/수정 시 post_images에 복사함 (조회 시에는 읽지 않음)
+ */
+@Entity
+@Table(name = "image_assets")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageAsset {
+
+    // <sha256>.<ext>
+    @Id
+    @Column(name = "asset_name", length = 255)
+    private String assetName;
+
+    @Column(name = "mime_type", nullable = false, length = 50)
+    private String mimeType;
+
+    @Column(name = "byte_size", nullable = false)
+    private Long byteSize;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "blur_hash", length = 64)
+    private String blurHash;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,45 @@
+package com.kateboo.cloud.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 이어 올리기(청크) 업로드 세션
+ * 생성 시 total_size만큼 미리 잡아 둔 임시 파일(<upload_id>.part)에 청크를 위치 지정 쓰기로 채우고,
+ * received_size까지 받은 것으로 기록함 (클라이언트는 끊기면 received_size부터 다시 보냄)
+ * expires_at까지 청크가 오지 않으면 ChunkedUploadService.purgeExpired가 파일과 함께 삭제
+ */
+@Entity
+@Table(name = "image_upload_sessions",
+        indexes = @Index(name = "idx_image_upload_sessions_expires", columnList = "expires_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageUploadSession {
+
+    // 세션 ID를 아는 것만으로 청크를 쓸 수 있으므로 추측할 수 없는 난수 UUID (UUIDv7 아님)
+    @Id
+    @Column(name = "upload_id", updatable = false, nullable = false, columnDefinition = "BINARY(16)")
+    private UUID uploadId;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "received_size", nullable = false)
+    @Builder.Default
+    private Long receivedSize = 0L;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public boolean isComplete() {
+        return receivedSize.equals(totalSize);
+    }
+}
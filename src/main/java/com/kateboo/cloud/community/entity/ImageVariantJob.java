@@ -0,0 +1,53 @@
+package com.kateboo.cloud.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 업로드 이미지 축소본 생성 작업
+ * 새 파일이 저장될 때 한 건 기록되고 ImageVariantWorker가 locked_until로 선점해 처리한 뒤 completed_at을 기록함
+ * 실패하면 next_attempt_at을 지수적으로 늦추고, max-attempts번 실패하면 failed_at을 기록하고 더 이상 시도하지 않음
+ */
+@Entity
+@Table(name = "image_variant_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_variant_jobs_source", columnNames = "source_name"),
+        indexes = @Index(name = "idx_image_variant_jobs_pending", columnList = "completed_at, failed_at, next_attempt_at"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageVariantJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    // 업로드 파일 이름 (<sha256>.<ext>)
+    @Column(name = "source_name", nullable = false, length = 255)
+    private String sourceName;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at")
+    private Instant failedAt;
+}
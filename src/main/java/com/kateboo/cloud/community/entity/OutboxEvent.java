@@ -0,0 +1,64 @@
+package com.kateboo.cloud.community.entity;
+
+import com.kateboo.cloud.community.event.AggregateType;
+import com.kateboo.cloud.community.event.DomainEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트 outbox
+ * 쓰기 트랜잭션과 함께 저장되고 OutboxRelay가 id 순서로 읽어 전달한 뒤 published_at을 기록함
+ * 실패하면 next_attempt_at을 지수적으로 늦추고, max-attempts번 실패하면 failed_at을 기록하고 더 이상 전달하지 않음
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "published_at, failed_at, outbox_id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id, outbox_id")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private DomainEventType eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at")
+    private Instant failedAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+}
@@ -0,0 +1,30 @@
+package com.kateboo.cloud.community.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox 전달을 담당하는 노드 (여러 노드 중 한 곳만 전달하여 애그리거트별 순서를 유지)
+ * 담당 노드가 lease를 갱신하지 못하고 expires_at이 지나면 다른 노드가 가져감
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxRelayLease {
+
+    @Id
+    @Column(name = "lease_name", length = 50)
+    private String leaseName;
+
+    @Column(name = "owner_node", columnDefinition = "BINARY(16)")
+    private UUID ownerNode;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -1,8 +1,11 @@
 package com.kateboo.cloud.community.entity;
 
+import com.kateboo.cloud.community.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,7 +17,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at", columnList = "created_at, post_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +29,7 @@ import java.util.UUID;
 public class Post {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @UuidV7
     @Column(name = "post_id", columnDefinition = "BINARY(16)")
     private UUID postId;
 
@@ -46,6 +52,9 @@ public class Post {
     private User user;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-images")
+    @BatchSize(size = 100)
+    @OrderBy("orderNo ASC")
     @Builder.Default
     private List<PostImage> postImages = new ArrayList<>();
 
@@ -2,6 +2,8 @@ package com.kateboo.cloud.community.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -10,6 +12,7 @@ import java.time.LocalDateTime;
 
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post-image")
 @Table(name = "post_images")
 @Getter @Setter
 @NoArgsConstructor
@@ -18,8 +21,11 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class PostImage {
 
+    // IDENTITY는 행마다 INSERT 후 키를 받아야 해서 JDBC 배치가 불가능
+    // → 시퀀스(MySQL은 post_images_seq 테이블)에서 50개씩 미리 받아 두고 배치 INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_images_seq")
+    @SequenceGenerator(name = "post_images_seq", sequenceName = "post_images_seq", allocationSize = 50)
     @Column(name = "image_id")
     private Long imageId;
 
@@ -30,6 +36,22 @@ public class PostImage {
     @Builder.Default
     private Integer orderNo = 0;
 
+    // 업로드 시 추출한 정보 (image_assets에서 복사, 외부 URL이면 null)
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "byte_size")
+    private Long byteSize;
+
+    @Column(name = "mime_type", length = 50)
+    private String mimeType;
+
+    @Column(name = "blur_hash", length = 64)
+    private String blurHash;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -8,7 +8,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 
 @Entity
-@Table(name = "post_likes", uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"}))
+@Table(name = "post_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"}),
+        indexes = @Index(name = "idx_post_likes_user", columnList = "user_id"))
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,8 +18,10 @@ import java.time.Instant;
 @EntityListeners(AuditingEntityListener.class)
 public class PostLike {
 
+    // PostImage와 같이 시퀀스에서 50개씩 미리 받아 두고 배치 INSERT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_likes_seq")
+    @SequenceGenerator(name = "post_likes_seq", sequenceName = "post_likes_seq", allocationSize = 50)
     @Column(name = "like_id")
     private Long likeId;
 
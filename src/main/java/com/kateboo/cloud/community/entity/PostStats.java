@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "post_stats")
+@Table(name = "post_stats", indexes = {
+        @Index(name = "idx_post_stats_views", columnList = "views_count, post_id"),
+        @Index(name = "idx_post_stats_likes", columnList = "likes_count, post_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
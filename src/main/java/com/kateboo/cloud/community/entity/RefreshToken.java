@@ -6,10 +6,14 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jwt_refresh_tokens")
+@Table(name = "jwt_refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_previous_token_hash", columnList = "previous_token_hash"),
+        @Index(name = "idx_refresh_expires_at", columnList = "expires_at, refresh_id"),
+        @Index(name = "idx_refresh_revoked_at", columnList = "revoked_at, refresh_id"),
+        @Index(name = "idx_refresh_user", columnList = "user_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,8 +26,13 @@ public class RefreshToken {
     @Column(name = "refresh_id")
     private Long refreshId;
 
-    @Column(name = "token_hash", nullable = false, unique = true, length = 255)
-    private String token;
+    // 원문 토큰이 아닌 SHA-256 digest만 저장
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
+    // 직전 토큰의 digest (이미 교체된 토큰의 재사용 감지용)
+    @Column(name = "previous_token_hash", columnDefinition = "BINARY(32)")
+    private byte[] previousTokenHash;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -36,6 +45,9 @@ public class RefreshToken {
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
     @Column(name = "revoked_at")
     private Instant revokedAt;
-}
\ No newline at end of file
+}
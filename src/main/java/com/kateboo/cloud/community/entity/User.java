@@ -1,8 +1,10 @@
 package com.kateboo.cloud.community.entity;
 
+import com.kateboo.cloud.community.entity.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,9 +14,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uk_email", columnNames = "email"),
         @UniqueConstraint(name = "uk_nickname", columnNames = "nickname")
+}, indexes = {
+        @Index(name = "idx_users_inactive", columnList = "is_active, deactivated_at")
 })
 @Getter @Setter
 @NoArgsConstructor
@@ -24,14 +29,14 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @UuidGenerator(style = UuidGenerator.Style.RANDOM)
+    @UuidV7
     @Column(name = "user_id", updatable = false, nullable = false ,columnDefinition = "BINARY(16)")
     private UUID userId;
 
     @Column(name = "email", nullable = false, unique = true, length = 254)
     private String email;
 
-    @Column(name = "password_hash", nullable = false, length = 100)
+    @Column(name = "password_hash", nullable = false, length = 255)
     private String passwordHash;
 
     @Column(name = "nickname", nullable = false, unique = true, length = 10)
@@ -0,0 +1,22 @@
+package com.kateboo.cloud.community.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 시간 순서 UUID(v7) 식별자
+ *
+ * @UuidGenerator(style = RANDOM)(v4) 대신 사용하면 새 행의 PK가 생성 시각 순으로 증가하여
+ * BINARY(16) 클러스터드 인덱스의 오른쪽 끝에 추가된다 (페이지 분할/버퍼 풀 낭비 감소)
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,10 @@
+package com.kateboo.cloud.community.event;
+
+/**
+ * 이벤트가 속한 애그리거트 (같은 애그리거트의 이벤트는 발생 순서대로 전달됨)
+ * 댓글/좋아요는 게시글 애그리거트에 속함
+ */
+public enum AggregateType {
+    POST,
+    USER
+}
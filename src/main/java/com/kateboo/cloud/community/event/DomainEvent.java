@@ -0,0 +1,16 @@
+package com.kateboo.cloud.community.event;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outbox에서 읽어 구독자에게 전달하는 도메인 이벤트
+ * eventId는 outbox 행 ID로, 같은 이벤트가 다시 전달되었는지 구독자가 판단할 때 사용
+ */
+public record DomainEvent(long eventId,
+                          DomainEventType type,
+                          UUID aggregateId,
+                          Map<String, Object> payload,
+                          Instant createdAt) {
+}
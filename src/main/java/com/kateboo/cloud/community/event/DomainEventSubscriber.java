@@ -0,0 +1,13 @@
+package com.kateboo.cloud.community.event;
+
+/**
+ * Outbox 이벤트 구독자
+ *
+ * - 최소 한 번 전달: 실패하거나 처리 도중 종료되면 같은 이벤트가 다시 전달되므로 멱등하게 구현해야 함
+ * - 같은 애그리거트의 이벤트는 발생 순서대로 전달되며, 앞선 이벤트가 실패하면 뒤의 이벤트는 대기
+ * - 예외를 던지면 모든 구독자에게 재전달되므로, 재시도가 필요 없는 오류는 직접 처리할 것
+ */
+public interface DomainEventSubscriber {
+
+    void handle(DomainEvent event);
+}
@@ -0,0 +1,27 @@
+package com.kateboo.cloud.community.event;
+
+public enum DomainEventType {
+    POST_CREATED(AggregateType.POST),
+    POST_UPDATED(AggregateType.POST),
+    POST_DELETED(AggregateType.POST),
+    POST_LIKED(AggregateType.POST),
+    POST_UNLIKED(AggregateType.POST),
+    COMMENT_CREATED(AggregateType.POST),
+    COMMENT_UPDATED(AggregateType.POST),
+    COMMENT_DELETED(AggregateType.POST),
+
+    USER_PROFILE_UPDATED(AggregateType.USER),
+    USER_PASSWORD_CHANGED(AggregateType.USER),
+    USER_DEACTIVATED(AggregateType.USER),
+    USER_DELETED(AggregateType.USER);
+
+    private final AggregateType aggregateType;
+
+    DomainEventType(AggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+}
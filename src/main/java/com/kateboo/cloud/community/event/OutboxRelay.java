@@ -0,0 +1,268 @@
+package com.kateboo.cloud.community.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kateboo.cloud.community.entity.OutboxEvent;
+import com.kateboo.cloud.community.entity.OutboxRelayLease;
+import com.kateboo.cloud.community.repository.OutboxEventRepository;
+import com.kateboo.cloud.community.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Outbox 이벤트를 배치로 읽어 구독자에게 전달
+ *
+ * - lease를 가진 노드 하나만 전달 (노드가 죽으면 lease 만료 후 다른 노드가 이어받음)
+ *   배치마다 lease를 연장하고, 연장하지 못하면(만료되어 다른 노드가 가져갔을 수 있음) 즉시 중단
+ * - id 순서로 읽고, 전달이 끝난 이벤트만 published_at 기록 → 최소 한 번 전달
+ * - id는 커밋 순서와 다를 수 있으므로 settle 시간이 지난 이벤트만 전달
+ *   (먼저 커밋된 뒤 id의 이벤트가 아직 보이지 않는 앞 id보다 먼저 전달되지 않도록)
+ * - 실패하면 retry-delay * 2^(시도 횟수)만큼 next_attempt_at을 늦춤
+ *   실행 시작 시각 기준으로 조회하므로 같은 실행에서 실패한 이벤트를 다시 읽지 않음
+ * - 같은 애그리거트의 앞선 이벤트가 대기(백오프) 중이면 뒤의 이벤트도 전달하지 않음
+ *   → 재시도 시각이 되면 실패한 이벤트부터 다시 순서대로 전달
+ * - max-attempts번 실패한 이벤트는 failed_at을 기록하고 제외, 그 애그리거트의 이후 이벤트도 계속 보류
+ *   (순서가 어긋난 전달보다 멈춤이 나음, failed_at을 지우면 다시 전달됨)
+ *
+ * 메트릭
+ * - outbox.relay.dispatched : 전달 완료 이벤트 수
+ * - outbox.relay.failed     : 전달 실패 횟수
+ * - outbox.relay.lag        : 이벤트 기록부터 전달 완료까지의 지연
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final String LEASE_NAME = "outbox-relay";
+    private static final long MAX_RETRY_DELAY_MILLIS = 300_000;
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final UUID nodeId = UUID.randomUUID();
+    // synchronized는 JDBC 대기 중 가상 스레드를 carrier에 고정시키므로 Lock 사용
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+    private final List<DomainEventSubscriber> subscribers;
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+    private final int maxBatches;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final long leaseMillis;
+    private final long retentionMillis;
+    private final long settleMillis;
+
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer lag;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxRelayLeaseRepository outboxRelayLeaseRepository,
+            List<DomainEventSubscriber> subscribers,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-batches:50}") int maxBatches,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.retry-delay:1000}") long retryDelayMillis,
+            @Value("${outbox.relay.lease:30000}") long leaseMillis,
+            @Value("${outbox.retention:86400000}") long retentionMillis,
+            @Value("${outbox.relay.settle:5000}") long settleMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelayLeaseRepository = outboxRelayLeaseRepository;
+        this.subscribers = subscribers;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxAttempts = maxAttempts;
+        // 0이면 같은 실행에서 실패한 이벤트를 다시 읽을 수 있으므로 최소 1ms
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+        this.leaseMillis = leaseMillis;
+        this.retentionMillis = retentionMillis;
+        this.settleMillis = settleMillis;
+
+        this.dispatched = Counter.builder("outbox.relay.dispatched")
+                .description("전달 완료된 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed")
+                .description("outbox 이벤트 전달 실패 횟수")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("outbox 이벤트 기록부터 전달 완료까지의 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:500}",
+            initialDelayString = "${outbox.relay.initial-delay:10000}")
+    public void scheduledRelay() {
+        try {
+            relay();
+        } catch (Exception e) {
+            log.error("outbox 이벤트 전달 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * lease를 얻은 경우에만 대기 중인 이벤트를 전달하고 전달 완료 수를 반환
+     */
+    public int relay() {
+        relayLock.lock();
+        try {
+            if (!acquireLease()) {
+                return 0;
+            }
+
+            // 이번 실행에서 실패한 이벤트는 next_attempt_at이 now 이후가 되어 다시 조회되지 않음
+            Instant now = Instant.now();
+            Instant settledBefore = now.minusMillis(settleMillis);
+            int total = 0;
+            for (int batch = 0; batch < maxBatches; batch++) {
+                // 구독자가 느려 앞 배치가 오래 걸렸다면 그 사이 다른 노드가 전달을 시작했을 수 있음
+                if (batch > 0 && !renewLease()) {
+                    log.warn("outbox 전달 lease 연장 실패, 이번 실행 중단: nodeId={}", nodeId);
+                    break;
+                }
+
+                List<OutboxEvent> events = outboxEventRepository.findPending(now, settledBefore, PageRequest.of(0, batchSize));
+                if (events.isEmpty()) {
+                    break;
+                }
+
+                int published = dispatchBatch(events);
+                total += published;
+
+                // 전부 실패했거나 마지막 배치면 다음 실행에서 이어서 처리
+                if (published == 0 || events.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.debug("outbox 이벤트 {} 건 전달", total);
+            }
+            return total;
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:3600000}", initialDelay = 300_000)
+    public void purgePublished() {
+        try {
+            int deleted = outboxEventRepository.deleteByPublishedAtBefore(Instant.now().minusMillis(retentionMillis));
+            if (deleted > 0) {
+                log.info("전달 완료된 outbox 이벤트 {} 건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("outbox 이벤트 정리 중 오류 발생", e);
+        }
+    }
+
+    private int dispatchBatch(List<OutboxEvent> events) {
+        List<Long> publishedIds = new ArrayList<>();
+        Set<UUID> blockedAggregates = new HashSet<>();
+
+        for (OutboxEvent event : events) {
+            if (blockedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+
+            try {
+                DomainEvent domainEvent = toDomainEvent(event);
+                for (DomainEventSubscriber subscriber : subscribers) {
+                    subscriber.handle(domainEvent);
+                }
+                publishedIds.add(event.getOutboxId());
+                dispatched.increment();
+                lag.record(Duration.between(event.getCreatedAt(), Instant.now()));
+            } catch (Exception e) {
+                // 같은 배치의 뒤 이벤트는 여기서 막고, 이후 배치/실행에서는 findPending이 제외
+                blockedAggregates.add(event.getAggregateId());
+                failed.increment();
+                int attempts = event.getAttempts() + 1;
+                Instant now = Instant.now();
+                long delay = Math.min(MAX_RETRY_DELAY_MILLIS, retryDelayMillis << Math.min(attempts - 1, 20));
+                outboxEventRepository.recordFailure(
+                        event.getOutboxId(), truncate(e.toString()), maxAttempts, now, now.plusMillis(delay));
+
+                if (attempts >= maxAttempts) {
+                    log.error("outbox 이벤트 전달 포기 (이 애그리거트의 이후 이벤트 보류): outboxId={}, type={}, aggregateId={}, attempts={}",
+                            event.getOutboxId(), event.getEventType(), event.getAggregateId(), attempts, e);
+                } else {
+                    log.warn("outbox 이벤트 전달 실패: outboxId={}, type={}, aggregateId={}, 다음 시도 {}ms 후, error={}",
+                            event.getOutboxId(), event.getEventType(), event.getAggregateId(), delay, e.getMessage());
+                }
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.markPublished(publishedIds, Instant.now());
+        }
+        return publishedIds.size();
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) throws Exception {
+        return new DomainEvent(
+                event.getOutboxId(),
+                event.getEventType(),
+                event.getAggregateId(),
+                objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE),
+                event.getCreatedAt());
+    }
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Instant until = now.plusMillis(leaseMillis);
+
+        if (outboxRelayLeaseRepository.acquire(LEASE_NAME, nodeId, until, now) == 1) {
+            return true;
+        }
+        if (outboxRelayLeaseRepository.existsById(LEASE_NAME)) {
+            return false;
+        }
+
+        try {
+            outboxRelayLeaseRepository.saveAndFlush(OutboxRelayLease.builder()
+                    .leaseName(LEASE_NAME)
+                    .ownerNode(nodeId)
+                    .expiresAt(until)
+                    .build());
+            log.info("outbox 전달 담당 노드로 등록: nodeId={}", nodeId);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 등록함
+            return false;
+        }
+    }
+
+    private boolean renewLease() {
+        Instant now = Instant.now();
+        return outboxRelayLeaseRepository.renew(LEASE_NAME, nodeId, now.plusMillis(leaseMillis), now) == 1;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
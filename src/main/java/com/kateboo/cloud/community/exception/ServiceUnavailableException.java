@@ -0,0 +1,16 @@
+package com.kateboo.cloud.community.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/*
+    503 Service Unavailable
+    서버가 일시적으로 요청을 처리할 수 없을 때
+    ex) 비밀번호 해싱 작업 큐가 가득 찬 경우
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,268 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.entity.ImageUploadSession;
+import com.kateboo.cloud.community.exception.BadRequestException;
+import com.kateboo.cloud.community.exception.ConflictException;
+import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.repository.ImageUploadSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이어 올리기(청크) 업로드
+ *
+ * 1. create(size)  : 세션 생성 + size만큼 잡아 둔 임시 파일 (file.temp-dir/chunked/<uploadId>.part)
+ * 2. write(offset) : 요청 본문을 FileChannel.transferFrom으로 offset 위치에 바로 씀 (본문 전체를 버퍼링하지 않음)
+ *                    디스크에 내린(force) 뒤에만 received_size를 늘리므로, 끊기면 status()의 offset부터 다시 보내면 됨
+ * 3. complete()    : 모두 받았으면 새 임시 파일로 복사하며 해시 계산 → 내용 해시 이름으로 이동 (일반 업로드와 같은 중복 제거/축소본)
+ *
+ * - offset은 지금까지 받은 바이트 수 이하여야 함 (중간이 비면 409, 이미 받은 범위를 다시 보내면 덮어씀)
+ * - 청크가 올 때마다 만료 시각을 expires-after만큼 연장, 만료된 세션은 purgeExpired()가 파일과 함께 삭제
+ * - 임시 파일은 업로드 디렉토리와 같은 파일 시스템이므로 여러 노드가 같은 세션을 이어 받을 수 있음
+ *
+ * 메트릭
+ * - image.upload.chunks : 받은 청크 수
+ * - image.upload.chunk.bytes : 임시 파일에 쓴 바이트 수
+ * - image.upload.sessions.expired : 만료로 삭제된 세션 수
+ */
+@Service
+@Slf4j
+public class ChunkedUploadService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final ImageUploadSessionRepository imageUploadSessionRepository;
+    private final ImageUploadService imageUploadService;
+    private final Path sessionDir;
+    private final long maxBytes;
+    private final long chunkBytes;
+    private final long expiresAfterMillis;
+    private final int purgeBatchSize;
+
+    private final Counter chunks;
+    private final Counter chunkBytesWritten;
+    private final Counter expired;
+
+    public ChunkedUploadService(
+            ImageUploadSessionRepository imageUploadSessionRepository,
+            ImageUploadService imageUploadService,
+            MeterRegistry meterRegistry,
+            @Value("${file.temp-dir}") String tempDir,
+            @Value("${file.max-size:10MB}") DataSize maxSize,
+            @Value("${file.chunked-upload.chunk-size:1MB}") DataSize chunkSize,
+            @Value("${file.chunked-upload.expires-after:86400000}") long expiresAfterMillis,
+            @Value("${file.chunked-upload.purge-batch-size:100}") int purgeBatchSize) {
+        this.imageUploadSessionRepository = imageUploadSessionRepository;
+        this.imageUploadService = imageUploadService;
+        this.sessionDir = Paths.get(tempDir).toAbsolutePath().resolve("chunked");
+        this.maxBytes = maxSize.toBytes();
+        this.chunkBytes = chunkSize.toBytes();
+        this.expiresAfterMillis = expiresAfterMillis;
+        this.purgeBatchSize = purgeBatchSize;
+
+        this.chunks = Counter.builder("image.upload.chunks")
+                .description("받은 업로드 청크 수")
+                .register(meterRegistry);
+        this.chunkBytesWritten = Counter.builder("image.upload.chunk.bytes")
+                .description("청크 업로드 임시 파일에 쓴 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.expired = Counter.builder("image.upload.sessions.expired")
+                .description("만료로 삭제된 청크 업로드 세션 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(sessionDir);
+        log.info("청크 업로드 경로: sessionDir={}, chunkSize={}bytes, expiresAfter={}ms",
+                sessionDir, chunkBytes, expiresAfterMillis);
+    }
+
+    public long getChunkBytes() {
+        return chunkBytes;
+    }
+
+    public ImageUploadSession create(long size) throws IOException {
+        if (size <= 0) {
+            throw new BadRequestException("파일 크기는 0보다 커야 합니다");
+        }
+        if (size > maxBytes) {
+            throw new BadRequestException("이미지는 " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB 이하만 업로드할 수 있습니다");
+        }
+
+        UUID uploadId = UUID.randomUUID();
+        Path part = partOf(uploadId);
+        // 마지막 바이트를 써서 전체 길이를 미리 잡아 둠 (이후 청크는 위치 지정 쓰기만 함)
+        try (FileChannel channel = FileChannel.open(part,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+            channel.write(ByteBuffer.allocate(1), size - 1);
+        }
+
+        Instant now = Instant.now();
+        try {
+            ImageUploadSession session = imageUploadSessionRepository.save(ImageUploadSession.builder()
+                    .uploadId(uploadId)
+                    .totalSize(size)
+                    .createdAt(now)
+                    .expiresAt(now.plusMillis(expiresAfterMillis))
+                    .build());
+            log.debug("청크 업로드 세션 생성: uploadId={}, size={}", uploadId, size);
+            return session;
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+    }
+
+    public ImageUploadSession status(UUID uploadId) {
+        return find(uploadId);
+    }
+
+    /**
+     * body를 offset 위치부터 씀 (세션 크기를 넘으면 400, offset이 받은 위치보다 뒤면 409)
+     */
+    public ImageUploadSession write(UUID uploadId, long offset, InputStream body) throws IOException {
+        ImageUploadSession session = find(uploadId);
+        if (offset < 0 || offset > session.getTotalSize()) {
+            throw new BadRequestException("잘못된 업로드 위치입니다: " + offset);
+        }
+        if (offset > session.getReceivedSize()) {
+            throw new ConflictException("업로드 위치가 맞지 않습니다 (현재 " + session.getReceivedSize() + "바이트까지 받음)");
+        }
+
+        long end;
+        try (FileChannel channel = FileChannel.open(partOf(uploadId), StandardOpenOption.WRITE);
+             ReadableByteChannel in = Channels.newChannel(body)) {
+            long position = offset;
+            long transferred;
+            while (position < session.getTotalSize()
+                    && (transferred = channel.transferFrom(in, position, session.getTotalSize() - position)) > 0) {
+                position += transferred;
+            }
+            if (position == session.getTotalSize() && body.read() != -1) {
+                throw new BadRequestException("업로드 크기(" + session.getTotalSize() + "바이트)를 넘는 청크입니다");
+            }
+            // 받은 것으로 기록하기 전에 디스크에 내림 (노드가 죽어도 기록된 offset까지는 남아 있음)
+            channel.force(false);
+            end = position;
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException("업로드 세션을 찾을 수 없습니다");
+        }
+
+        if (imageUploadSessionRepository.advance(uploadId, offset, end, Instant.now().plusMillis(expiresAfterMillis)) != 1) {
+            // 그 사이 완료/취소/만료로 삭제됨
+            throw new NotFoundException("업로드 세션을 찾을 수 없습니다");
+        }
+        chunks.increment();
+        chunkBytesWritten.increment(end - offset);
+        return find(uploadId);
+    }
+
+    /**
+     * 모두 받은 세션을 일반 업로드와 같은 방식으로 저장하고 세션 삭제
+     */
+    public StoredImage complete(UUID uploadId) throws IOException {
+        ImageUploadSession session = find(uploadId);
+        if (!session.isComplete()) {
+            throw new ConflictException("아직 모두 받지 않았습니다 (" + session.getReceivedSize() + "/" + session.getTotalSize() + "바이트)");
+        }
+        if (imageUploadSessionRepository.claimCompleted(uploadId) != 1) {
+            throw new NotFoundException("업로드 세션을 찾을 수 없습니다");
+        }
+
+        // .part 파일은 늦게 도착한 청크가 아직 쓰고 있을 수 있으므로 그대로 이동하지 않고,
+        // 새 임시 파일로 복사하면서 해시 계산 (해시한 내용 = 저장되는 내용)
+        Path part = partOf(uploadId);
+        try {
+            return imageUploadService.store(part, "chunked");
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    public void cancel(UUID uploadId) throws IOException {
+        if (imageUploadSessionRepository.discard(uploadId) != 1) {
+            throw new NotFoundException("업로드 세션을 찾을 수 없습니다");
+        }
+        Files.deleteIfExists(partOf(uploadId));
+    }
+
+    /**
+     * 만료된 세션을 purge-batch-size개씩 삭제하고, 세션 행 없이 남은 오래된 임시 파일(완료 중 노드 종료 등)도 삭제
+     * 삭제한 세션 수 반환
+     */
+    public int purgeExpired() throws IOException {
+        Instant now = Instant.now();
+        int purged = 0;
+        List<UUID> ids;
+        do {
+            ids = imageUploadSessionRepository.findExpiredIds(now, PageRequest.of(0, purgeBatchSize));
+            for (UUID id : ids) {
+                // 조회 후 청크가 와서 연장된 세션은 남겨 둠
+                if (imageUploadSessionRepository.discardExpired(id, now) == 1) {
+                    Files.deleteIfExists(partOf(id));
+                    purged++;
+                }
+            }
+        } while (ids.size() == purgeBatchSize);
+
+        Instant orphanBefore = now.minusMillis(expiresAfterMillis);
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(sessionDir, "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                String name = part.getFileName().toString();
+                UUID id = parseId(name.substring(0, name.length() - PART_SUFFIX.length()));
+                if (Files.getLastModifiedTime(part).toInstant().isBefore(orphanBefore)
+                        && (id == null || !imageUploadSessionRepository.existsById(id))) {
+                    Files.deleteIfExists(part);
+                }
+            }
+        }
+
+        if (purged > 0) {
+            expired.increment(purged);
+            log.info("만료된 청크 업로드 세션 삭제: {}건", purged);
+        }
+        return purged;
+    }
+
+    private ImageUploadSession find(UUID uploadId) {
+        return imageUploadSessionRepository.findById(uploadId)
+                .filter(session -> session.getExpiresAt().isAfter(Instant.now()))
+                .orElseThrow(() -> new NotFoundException("업로드 세션을 찾을 수 없습니다"));
+    }
+
+    private Path partOf(UUID uploadId) {
+        return sessionDir.resolve(uploadId + PART_SUFFIX);
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
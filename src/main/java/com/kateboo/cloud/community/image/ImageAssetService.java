@@ -0,0 +1,87 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.entity.ImageAsset;
+import com.kateboo.cloud.community.entity.PostImage;
+import com.kateboo.cloud.community.repository.ImageAssetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지 정보(크기, MIME, 바이트 수, BlurHash) 기록과 게시글 이미지로의 복사
+ *
+ * - 업로드 시 파일을 한 번 읽어 image_assets에 기록
+ * - 게시글 작성/수정 시 새로 추가되는 이미지에만 IN 쿼리 1회로 찾아 post_images 컬럼에 복사
+ *   → 피드/상세 조회는 post_images만 읽으면 됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageAssetService {
+
+    private final ImageAssetRepository imageAssetRepository;
+    private final ImageMetadataExtractor imageMetadataExtractor;
+    private final UploadStorage storage;
+
+    /**
+     * 원본의 정보 추출/기록 (실패해도 업로드는 성공으로 처리)
+     * 중복 업로드는 기록이 없을 때만 (이전 업로드, 기록 실패) 추출
+     */
+    public void record(StoredImage image) {
+        String name = ImageUploadService.fileName(image.hash(), image.type());
+        if (image.duplicate() && imageAssetRepository.existsById(name)) {
+            return;
+        }
+
+        ImageMetadata metadata = storage.locate(name)
+                .map(imageMetadataExtractor::extract)
+                .orElse(ImageMetadata.UNKNOWN);
+
+        try {
+            imageAssetRepository.save(ImageAsset.builder()
+                    .assetName(name)
+                    .mimeType(image.type().getMimeType())
+                    .byteSize(image.size())
+                    .width(metadata.width())
+                    .height(metadata.height())
+                    .blurHash(metadata.blurHash())
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (DataAccessException e) {
+            log.warn("이미지 정보 기록 실패: asset={}, error={}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서비스가 저장한 이미지면 업로드 시 기록한 정보를 복사 (외부 URL은 그대로 둠)
+     */
+    public void applyTo(Collection<PostImage> images) {
+        Map<String, List<PostImage>> byName = new HashMap<>();
+        for (PostImage image : images) {
+            Optional<String> name = ImageUploadService.storedFileName(image.getImageUrl());
+            name.ifPresent(value -> byName.computeIfAbsent(value, key -> new ArrayList<>()).add(image));
+        }
+        if (byName.isEmpty()) {
+            return;
+        }
+
+        for (ImageAsset asset : imageAssetRepository.findAllById(byName.keySet())) {
+            for (PostImage image : byName.get(asset.getAssetName())) {
+                image.setMimeType(asset.getMimeType());
+                image.setByteSize(asset.getByteSize());
+                image.setWidth(asset.getWidth());
+                image.setHeight(asset.getHeight());
+                image.setBlurHash(asset.getBlurHash());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kateboo.cloud.community.image;
+
+/**
+ * 업로드 시 추출한 이미지 정보 (ImageIO로 읽을 수 없는 형식이면 width/height/blurHash는 null)
+ *
+ * @param width    원본 가로 픽셀
+ * @param height   원본 세로 픽셀
+ * @param blurHash 흐린 미리보기 BlurHash 문자열
+ */
+public record ImageMetadata(Integer width, Integer height, String blurHash) {
+
+    public static final ImageMetadata UNKNOWN = new ImageMetadata(null, null, null);
+}
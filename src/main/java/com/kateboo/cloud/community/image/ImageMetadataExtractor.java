@@ -0,0 +1,66 @@
+package com.kateboo.cloud.community.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 업로드 파일의 크기(헤더만 읽음)와 BlurHash 추출
+ *
+ * BlurHash는 긴 변이 SAMPLE_EDGE 이하가 되도록 서브샘플링하며 디코딩한 작은 이미지로 계산
+ * (업로드 요청 안에서 실행되므로 원본 전체를 메모리에 올리지 않음)
+ */
+@Component
+@Slf4j
+public class ImageMetadataExtractor {
+
+    private static final int SAMPLE_EDGE = 64;
+
+    private final long maxPixels;
+
+    public ImageMetadataExtractor(@Value("${image.variants.max-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public ImageMetadata extract(Path file) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return ImageMetadata.UNKNOWN;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return new ImageMetadata(width, height, null);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / SAMPLE_EDGE);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                BufferedImage sample = reader.read(0, param);
+                boolean landscape = width >= height;
+                return new ImageMetadata(width, height, BlurHash.encode(sample, landscape ? 4 : 3, landscape ? 3 : 4));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            // 정보가 없어도 이미지는 제공 가능
+            log.warn("이미지 정보 추출 실패: file={}, error={}", file.getFileName(), e.getMessage());
+            return ImageMetadata.UNKNOWN;
+        }
+    }
+}
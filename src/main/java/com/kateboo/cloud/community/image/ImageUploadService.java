@@ -0,0 +1,251 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지를 내용 해시(SHA-256) 이름으로 저장
+ *
+ * - 스트리밍(요청 본문 그대로): 임시 파일에 FileChannel.transferFrom으로 쓰면서 해시 계산 → 이름 변경
+ *   → 디스크 쓰기 1회 (multipart 임시 파일 + 복사의 2회 대신)
+ * - multipart: 컨테이너가 쓴 임시 파일을 읽어서 해시만 계산한 뒤 transferTo(이름 변경)
+ *   (spring.servlet.multipart.location을 같은 파일 시스템의 file.temp-dir로 두어 복사 없이 이동)
+ * - 청크(이어 올리기): ChunkedUploadService가 다 채운 임시 파일을 스트리밍과 같은 방식으로 새 임시 파일에 복사하며 해시 계산
+ * - 같은 해시의 파일이 이미 있으면 새로 저장하지 않고 기존 URL 반환
+ * - 파일 위치(샤드 디렉토리)는 UploadStorage가 결정
+ * - 새로 저장된 원본은 크기/BlurHash를 기록하고(ImageAssetService) 축소본 생성 작업을 등록 (ImageVariantWorker)
+ *
+ * 메트릭
+ * - image.upload{source=stream|multipart|chunked, result=stored|duplicate} : 업로드 수
+ * - image.upload.bytes.written : 업로드 디렉토리에 새로 저장된 바이트 수
+ */
+@Service
+@Slf4j
+public class ImageUploadService {
+
+    public static final String URL_PREFIX = "/uploads/images/";
+
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+
+    private final UploadStorage storage;
+    private final ImageAssetService imageAssetService;
+    private final ImageVariantWorker imageVariantWorker;
+    private final Path tempDir;
+    private final long maxBytes;
+    private final MeterRegistry meterRegistry;
+    private final Counter bytesWritten;
+
+    public ImageUploadService(
+            UploadStorage storage,
+            ImageAssetService imageAssetService,
+            ImageVariantWorker imageVariantWorker,
+            MeterRegistry meterRegistry,
+            @Value("${file.temp-dir}") String tempDir,
+            @Value("${file.max-size:10MB}") DataSize maxSize) {
+        this.meterRegistry = meterRegistry;
+        this.storage = storage;
+        this.imageAssetService = imageAssetService;
+        this.imageVariantWorker = imageVariantWorker;
+        this.tempDir = Paths.get(tempDir).toAbsolutePath();
+        this.maxBytes = maxSize.toBytes();
+        this.bytesWritten = Counter.builder("image.upload.bytes.written")
+                .description("업로드 디렉토리에 새로 저장된 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(tempDir);
+        log.info("이미지 업로드 경로: tempDir={}, maxSize={}bytes", tempDir, maxBytes);
+    }
+
+    /**
+     * 요청 본문을 그대로 저장 (multipart 버퍼링 없음)
+     */
+    public StoredImage store(InputStream body) throws IOException {
+        return store(body, "stream");
+    }
+
+    private StoredImage store(InputStream body, String source) throws IOException {
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".upload");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 ReadableByteChannel in = Channels.newChannel(new DigestInputStream(body, digest))) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                    if (position > maxBytes) {
+                        throw tooLarge();
+                    }
+                }
+                size = position;
+            }
+
+            ImageType type = detect(temp);
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), type, size, source);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * multipart 파트 저장 (컨테이너의 임시 파일은 읽기만 하고 이동)
+     */
+    public StoredImage store(MultipartFile image) throws IOException {
+        if (image.getSize() > maxBytes) {
+            throw tooLarge();
+        }
+
+        MessageDigest digest = sha256();
+        byte[] header = new byte[ImageType.HEADER_LENGTH];
+        int headerLength = 0;
+        try (InputStream in = image.getInputStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (headerLength < header.length) {
+                    int copy = Math.min(read, header.length - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, copy);
+                    headerLength += copy;
+                }
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        ImageType type = ImageType.detect(header, headerLength)
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 이미지 형식입니다 (jpg, png, gif, webp)"));
+        String hash = HexFormat.of().formatHex(digest.digest());
+        if (storage.exists(fileName(hash, type))) {
+            return duplicate(hash, type, image.getSize(), "multipart");
+        }
+
+        // 같은 파일 시스템이므로 transferTo/store 모두 이름 변경
+        Path temp = tempDir.resolve(UUID.randomUUID() + ".upload");
+        try {
+            image.transferTo(temp);
+            return commit(temp, hash, type, image.getSize(), "multipart");
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 다 채워진 임시 파일(청크 업로드) 저장
+     * 원본 파일은 읽기만 하고 새 임시 파일로 복사하면서 해시 계산 → 해시한 내용과 저장되는 내용이 항상 같음
+     * (원본 파일을 그대로 해시/이동하면 해시 계산 후 늦게 도착한 청크 쓰기가 저장 파일 내용을 바꿀 수 있음)
+     */
+    StoredImage store(Path file, String source) throws IOException {
+        if (Files.size(file) > maxBytes) {
+            throw tooLarge();
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return store(in, source);
+        }
+    }
+
+    /**
+     * 임시 파일을 해시 이름으로 이동 (이미 있으면 임시 파일은 호출한 쪽에서 삭제)
+     */
+    StoredImage commit(Path temp, String hash, ImageType type, long size, String source) throws IOException {
+        if (!storage.store(temp, fileName(hash, type))) {
+            return duplicate(hash, type, size, source);
+        }
+        return stored(hash, type, size, source);
+    }
+
+    private StoredImage stored(String hash, ImageType type, long size, String source) {
+        count(source, "stored");
+        bytesWritten.increment(size);
+        log.info("이미지 저장: hash={}, type={}, size={}", hash, type, size);
+        StoredImage image = new StoredImage(URL_PREFIX + fileName(hash, type), hash, type, size, false);
+        imageAssetService.record(image);
+        imageVariantWorker.enqueue(image);
+        return image;
+    }
+
+    private StoredImage duplicate(String hash, ImageType type, long size, String source) {
+        count(source, "duplicate");
+        log.debug("중복 이미지: hash={}", hash);
+        StoredImage image = new StoredImage(URL_PREFIX + fileName(hash, type), hash, type, size, true);
+        imageAssetService.record(image);
+        return image;
+    }
+
+    private void count(String source, String result) {
+        Counter.builder("image.upload")
+                .description("이미지 업로드 수")
+                .tag("source", source)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private BadRequestException tooLarge() {
+        return new BadRequestException("이미지는 " + DataSize.ofBytes(maxBytes).toMegabytes() + "MB 이하만 업로드할 수 있습니다");
+    }
+
+    private static ImageType detect(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ImageType.HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // 앞부분만 읽음
+            }
+        }
+        return ImageType.detect(header.array(), header.position())
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 이미지 형식입니다 (jpg, png, gif, webp)"));
+    }
+
+    static String fileName(String hash, ImageType type) {
+        return hash + "." + type.getExtension();
+    }
+
+    /**
+     * 이 서비스가 저장한 이미지 URL이면 파일 이름(<sha256>.<ext>), 외부/이전(UUID 이름) URL이면 empty
+     */
+    public static Optional<String> storedFileName(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return Optional.empty();
+        }
+        String name = url.substring(URL_PREFIX.length());
+        return STORED_NAME.matcher(name).matches() ? Optional.of(name) : Optional.empty();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
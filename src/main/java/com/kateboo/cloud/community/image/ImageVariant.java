@@ -0,0 +1,89 @@
+package com.kateboo.cloud.community.image;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 원본에서 미리 만들어 두는 축소본
+ *
+ * 이름은 원본 해시로 정해지므로 (<sha256>_thumb.jpg) DB 조회 없이 URL을 만들 수 있고,
+ * 원본과 같은 샤드 디렉토리에 놓인다.
+ * 아직 만들어지지 않았으면 UploadResourceResolver가 원본으로 대신 응답한다.
+ * 내용 해시 이름이 아닌 이전 업로드(UUID 이름)는 축소본이 없음 (URL도 null)
+ */
+public enum ImageVariant {
+
+    // 피드 카드/프로필: 정사각형 가운데 자르기
+    THUMBNAIL("thumb", 320, true),
+    // 상세 화면: 긴 변 기준 축소 (원본보다 크게 만들지 않음)
+    MEDIUM("medium", 1080, false);
+
+    public static final String EXTENSION = "jpg";
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("([0-9a-f]{64})_([a-z]+)\\." + EXTENSION);
+
+    private final String suffix;
+    private final int size;
+    private final boolean crop;
+
+    ImageVariant(String suffix, int size, boolean crop) {
+        this.suffix = suffix;
+        this.size = size;
+        this.crop = crop;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isCrop() {
+        return crop;
+    }
+
+    /**
+     * 원본 해시 → 축소본 파일 이름
+     */
+    public String fileName(String hash) {
+        return hash + "_" + suffix + "." + EXTENSION;
+    }
+
+    /**
+     * 업로드 이미지 URL → 축소본 URL (이 서비스가 저장한 내용 해시 이름이 아니면 null)
+     */
+    public String urlOf(String imageUrl) {
+        return ImageUploadService.storedFileName(imageUrl)
+                .map(name -> ImageUploadService.URL_PREFIX + fileName(name.substring(0, name.indexOf('.'))))
+                .orElse(null);
+    }
+
+    /**
+     * 원본 해시 → 저장된 원본 위치 (축소본이 아직 없을 때 대신 응답)
+     */
+    static Optional<Path> locateSource(UploadStorage storage, String hash) {
+        for (ImageType type : ImageType.values()) {
+            Optional<Path> original = storage.locate(hash + "." + type.getExtension());
+            if (original.isPresent()) {
+                return original;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 축소본 파일 이름이면 원본 해시 반환
+     */
+    public static Optional<String> sourceHashOf(String fileName) {
+        Matcher matcher = VARIANT_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equals(matcher.group(2))) {
+                return Optional.of(matcher.group(1));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,186 @@
+package com.kateboo.cloud.community.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * 업로드 원본에서 ImageVariant별 JPEG 축소본을 만들어 UploadStorage에 저장
+ *
+ * - 원본 크기를 먼저 읽고, 가장 큰 축소본의 2배 이상만 남도록 서브샘플링하며 디코딩
+ *   (6000x4000 원본도 전체 픽셀을 메모리에 올리지 않음)
+ * - 축소는 목표 크기까지 절반씩 반복 (한 번에 크게 줄이면 bilinear 보간이 계단 현상을 만듦)
+ * - 투명 배경은 흰색으로 채움 (JPEG)
+ * - max-pixels를 넘는 원본은 디코딩하지 않고 실패 처리
+ */
+@Component
+@Slf4j
+public class ImageVariantGenerator {
+
+    private final UploadStorage storage;
+    private final Path tempDir;
+    private final float quality;
+    private final long maxPixels;
+
+    public ImageVariantGenerator(
+            UploadStorage storage,
+            @Value("${file.temp-dir}") String tempDir,
+            @Value("${image.variants.jpeg-quality:0.8}") float quality,
+            @Value("${image.variants.max-pixels:50000000}") long maxPixels) {
+        this.storage = storage;
+        this.tempDir = Paths.get(tempDir).toAbsolutePath();
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        // 파일에서 바로 읽고 쓰므로 ImageIO의 임시 파일 캐시는 불필요
+        ImageIO.setUseCache(false);
+    }
+
+    /**
+     * 이 JVM의 ImageIO로 읽을 수 있는 형식인지 (기본 JDK는 WebP를 읽지 못함)
+     */
+    public boolean supports(ImageType type) {
+        return ImageIO.getImageReadersByMIMEType(type.getMimeType()).hasNext();
+    }
+
+    /**
+     * 원본(<sha256>.<ext>)의 모든 축소본 생성, 이미 있는 축소본은 건너뜀
+     */
+    public void generate(String sourceName) throws IOException {
+        Path source = storage.locate(sourceName).orElseThrow(() -> new NoSuchFileException(sourceName));
+        String hash = sourceName.substring(0, sourceName.indexOf('.'));
+
+        BufferedImage decoded = null;
+        for (ImageVariant variant : ImageVariant.values()) {
+            String name = variant.fileName(hash);
+            if (storage.exists(name)) {
+                continue;
+            }
+            if (decoded == null) {
+                decoded = decode(source);
+            }
+
+            BufferedImage resized = variant.isCrop()
+                    ? cropSquare(decoded, variant.getSize())
+                    : fit(decoded, variant.getSize());
+            Path temp = tempDir.resolve(UUID.randomUUID() + ".variant");
+            try {
+                writeJpeg(resized, temp);
+                storage.store(temp, name);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("축소본 생성: {} ({}x{})", name, resized.getWidth(), resized.getHeight());
+        }
+    }
+
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("읽을 수 없는 이미지 형식: " + source.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지 픽셀 수가 너무 큼: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(width, height);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 모든 축소본이 목표 크기의 2배 이상에서 줄어들도록 하는 가장 큰 간격
+    private static int subsampling(int width, int height) {
+        int step = Integer.MAX_VALUE;
+        for (ImageVariant variant : ImageVariant.values()) {
+            int edge = variant.isCrop() ? Math.min(width, height) : Math.max(width, height);
+            step = Math.min(step, edge / (variant.getSize() * 2));
+        }
+        return Math.max(1, step);
+    }
+
+    private static BufferedImage cropSquare(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        // getSubimage는 픽셀을 복사하지 않음
+        BufferedImage square = image.getSubimage(
+                (image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+        return resize(square, target, target);
+    }
+
+    private static BufferedImage fit(BufferedImage image, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        return resize(image,
+                Math.max(1, (int) Math.round(image.getWidth() * scale)),
+                Math.max(1, (int) Math.round(image.getHeight() * scale)));
+    }
+
+    private static BufferedImage resize(BufferedImage image, int targetWidth, int targetHeight) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
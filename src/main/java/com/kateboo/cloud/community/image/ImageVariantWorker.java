@@ -0,0 +1,173 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.entity.ImageVariantJob;
+import com.kateboo.cloud.community.repository.ImageVariantJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * image_variant_jobs를 읽어 imageVariantExecutor에서 축소본 생성
+ *
+ * - 업로드 요청은 작업 한 행만 기록하고 바로 응답 (생성은 백그라운드)
+ * - Executor에 남은 자리만큼만 꺼내고, locked_until로 선점한 작업만 실행 → 여러 노드가 같은 작업을 중복 처리하지 않음
+ *   (처리 중 노드가 죽으면 lease 만료 후 다른 노드가 다시 처리)
+ * - 실패하면 retry-delay * 2^(시도 횟수)만큼 늦춰 다시 시도, max-attempts번 실패하면 포기
+ *
+ * 메트릭
+ * - image.variants.generated : 축소본 생성 완료 원본 수
+ * - image.variants.failed    : 생성 실패 횟수
+ * - image.variants.duration  : 원본 하나의 축소본 생성 시간
+ */
+@Component
+@Slf4j
+public class ImageVariantWorker {
+
+    private static final long MAX_RETRY_DELAY_MILLIS = 3_600_000;
+
+    private final ImageVariantJobRepository imageVariantJobRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final long leaseMillis;
+
+    private final Counter generated;
+    private final Counter failed;
+    private final Timer duration;
+
+    public ImageVariantWorker(
+            ImageVariantJobRepository imageVariantJobRepository,
+            ImageVariantGenerator imageVariantGenerator,
+            @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry,
+            @Value("${image.variants.max-attempts:5}") int maxAttempts,
+            @Value("${image.variants.retry-delay:30000}") long retryDelayMillis,
+            @Value("${image.variants.lease:300000}") long leaseMillis) {
+        this.imageVariantJobRepository = imageVariantJobRepository;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.leaseMillis = leaseMillis;
+
+        this.generated = Counter.builder("image.variants.generated")
+                .description("축소본 생성이 끝난 원본 이미지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("image.variants.failed")
+                .description("축소본 생성 실패 횟수")
+                .register(meterRegistry);
+        this.duration = Timer.builder("image.variants.duration")
+                .description("원본 하나의 축소본 생성 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로 저장된 원본의 축소본 생성 작업 기록 (ImageIO로 읽을 수 없는 형식은 원본만 제공)
+     */
+    public void enqueue(StoredImage image) {
+        if (!imageVariantGenerator.supports(image.type())) {
+            log.debug("축소본을 만들 수 없는 형식: {}", image.url());
+            return;
+        }
+
+        Instant now = Instant.now();
+        try {
+            imageVariantJobRepository.save(ImageVariantJob.builder()
+                    .sourceName(ImageUploadService.fileName(image.hash(), image.type()))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 원본이 동시에 올라와 이미 기록됨
+            log.debug("이미 등록된 축소본 작업: {}", image.hash());
+        } catch (DataAccessException e) {
+            // 업로드는 이미 끝났으므로 실패시키지 않음 (축소본 URL은 원본으로 응답됨)
+            log.warn("축소본 작업 등록 실패: source={}, error={}", image.url(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${image.variants.poll-interval:1000}",
+            initialDelayString = "${image.variants.initial-delay:10000}")
+    public void scheduledPoll() {
+        try {
+            poll();
+        } catch (Exception e) {
+            log.error("축소본 작업 조회 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * Executor의 남은 자리만큼 실행 가능한 작업을 선점해 넘기고 넘긴 수를 반환
+     */
+    public int poll() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        int free = executor.getMaxPoolSize() + executor.getQueueCapacity()
+                - pool.getActiveCount() - pool.getQueue().size();
+        if (free <= 0) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        List<ImageVariantJob> jobs = imageVariantJobRepository.findRunnable(now, PageRequest.of(0, free));
+        int submitted = 0;
+        for (ImageVariantJob job : jobs) {
+            if (imageVariantJobRepository.claim(job.getJobId(), now, now.plusMillis(leaseMillis)) != 1) {
+                continue;
+            }
+            try {
+                executor.execute(() -> process(job));
+                submitted++;
+            } catch (TaskRejectedException e) {
+                imageVariantJobRepository.release(job.getJobId());
+                break;
+            }
+        }
+        return submitted;
+    }
+
+    void process(ImageVariantJob job) {
+        long startedAt = System.nanoTime();
+        try {
+            imageVariantGenerator.generate(job.getSourceName());
+            imageVariantJobRepository.markCompleted(job.getJobId(), Instant.now());
+            generated.increment();
+            duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            failed.increment();
+            int attempts = job.getAttempts() + 1;
+            Instant now = Instant.now();
+            long delay = Math.min(MAX_RETRY_DELAY_MILLIS, retryDelayMillis << Math.min(attempts - 1, 20));
+            imageVariantJobRepository.recordFailure(
+                    job.getJobId(), truncate(e.toString()), maxAttempts, now, now.plusMillis(delay));
+
+            if (attempts >= maxAttempts) {
+                log.error("축소본 생성 포기: source={}, attempts={}", job.getSourceName(), attempts, e);
+            } else {
+                log.warn("축소본 생성 실패: source={}, attempts={}, 다음 시도 {}ms 후, error={}",
+                        job.getSourceName(), attempts, delay, e.getMessage());
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,120 @@
+package com.kateboo.cloud.community.image;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 파일 이름 앞 4글자로 나눈 2단계 디렉토리에 저장 (예: 3fa9c0...png → 3f/a9/3fa9c0...png)
+ *
+ * - 한 디렉토리에 수백만 개가 쌓이면 조회/목록/백업이 느려지므로 디렉토리당 파일 수를 1/65536로 분산
+ * - 새 이름은 SHA-256, 이전 이름은 UUID라서 둘 다 앞부분이 균등한 16진수
+ *   (그 외 이름은 이름의 해시로 샤드 결정)
+ * - 이전(평면) 레이아웃 파일은 locate()가 루트에서도 찾아 줌
+ *   → UploadLayoutMigrator가 옮기는 동안에도 기존 URL이 그대로 동작
+ */
+@Component
+@Slf4j
+public class ShardedUploadStorage implements UploadStorage {
+
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,254}");
+    private static final Pattern HEX_PREFIX = Pattern.compile("[0-9a-f]{4}.*");
+
+    private final Path root;
+
+    public ShardedUploadStorage(@Value("${file.upload-dir}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(root);
+        log.info("업로드 저장소: root={} (2단계 샤드)", root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public Path pathOf(String name) {
+        String shard = shard(requireSafe(name));
+        return root.resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(name);
+    }
+
+    @Override
+    public Optional<Path> locate(String name) {
+        if (!isSafe(name)) {
+            return Optional.empty();
+        }
+        Path sharded = pathOf(name);
+        if (Files.isRegularFile(sharded)) {
+            return Optional.of(sharded);
+        }
+        Path flat = root.resolve(name);
+        if (Files.isRegularFile(flat)) {
+            return Optional.of(flat);
+        }
+        // 두 확인 사이에 이전 작업이 평면 → 샤드로 옮겼을 수 있음
+        return Files.isRegularFile(sharded) ? Optional.of(sharded) : Optional.empty();
+    }
+
+    /**
+     * ATOMIC_MOVE(rename)는 POSIX에서 기존 파일을 조용히 덮어쓰므로 동시에 올라온 같은 내용을 구분할 수 없음
+     * → 하드 링크(link)로 이름을 만들어 이미 있으면 실패(EEXIST)하게 하고, 성공하면 임시 이름을 지움
+     * (임시 디렉토리와 같은 파일 시스템이어야 하는 조건은 이동과 같음)
+     */
+    @Override
+    public boolean store(Path source, String name) throws IOException {
+        if (exists(name)) {
+            return false;
+        }
+        Path target = pathOf(name);
+        Files.createDirectories(target.getParent());
+        if (!link(source, target)) {
+            return false;
+        }
+        Files.deleteIfExists(source);
+        return true;
+    }
+
+    /**
+     * target 이름으로 source의 하드 링크 생성, 같은 이름이 이미 있으면 false (내용은 완성된 파일 그대로 보임)
+     */
+    static boolean link(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용이 동시에 올라온 경우
+            return false;
+        }
+    }
+
+    static boolean isSafe(String name) {
+        return name != null && SAFE_NAME.matcher(name).matches() && !name.contains("..");
+    }
+
+    private static String requireSafe(String name) {
+        if (!isSafe(name)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 이름: " + name);
+        }
+        return name;
+    }
+
+    private static String shard(String name) {
+        if (HEX_PREFIX.matcher(name).matches()) {
+            return name.substring(0, 4);
+        }
+        return String.format("%04x", name.hashCode() & 0xFFFF);
+    }
+}
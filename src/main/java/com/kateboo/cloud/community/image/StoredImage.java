@@ -0,0 +1,13 @@
+package com.kateboo.cloud.community.image;
+
+/**
+ * 저장된(또는 이미 있던) 업로드 이미지
+ *
+ * @param url       /uploads/images/... 형식의 공개 URL
+ * @param hash      원본 SHA-256 (hex)
+ * @param type      내용으로 판별한 이미지 형식
+ * @param size      바이트 수
+ * @param duplicate 같은 내용이 이미 있어서 새로 저장하지 않았는지
+ */
+public record StoredImage(String url, String hash, ImageType type, long size, boolean duplicate) {
+}
@@ -0,0 +1,108 @@
+package com.kateboo.cloud.community.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * 업로드 루트에 평면으로 쌓인 이전 파일을 샤드 디렉토리로 옮김 (서비스 중단 없이)
+ *
+ * - 한 번에 batch-size개만 원자적 이름 변경으로 옮김 → 파일은 항상 평면/샤드 중 한 곳에 있고,
+ *   ShardedUploadStorage.locate()가 둘 다 찾으므로 옮기는 중에도 기존 URL이 동작
+ * - 여러 노드가 같은 디렉토리를 돌려도 먼저 옮긴 쪽만 성공 (나머지는 NoSuchFile로 건너뜀)
+ * - 샤드에 같은 이름이 이미 있으면(내용 해시 이름이 같음) 평면 쪽은 삭제
+ * - 더 옮길 파일이 없으면 이후 실행은 루트 목록만 확인하고 끝남
+ *
+ * 메트릭: image.storage.migrated{result=moved|duplicate}
+ */
+@Component
+@Slf4j
+public class UploadLayoutMigrator {
+
+    private final ShardedUploadStorage storage;
+    private final int batchSize;
+    private final Counter moved;
+    private final Counter duplicates;
+
+    private volatile boolean completed;
+
+    public UploadLayoutMigrator(
+            ShardedUploadStorage storage,
+            MeterRegistry meterRegistry,
+            @Value("${file.layout-migration.batch-size:500}") int batchSize) {
+        this.storage = storage;
+        this.batchSize = batchSize;
+        this.moved = migratedCounter(meterRegistry, "moved");
+        this.duplicates = migratedCounter(meterRegistry, "duplicate");
+    }
+
+    /**
+     * 평면 파일을 최대 batch-size개 옮김
+     *
+     * @return 처리한 파일 수 (0이면 남은 파일 없음)
+     */
+    public int migrateBatch() throws IOException {
+        int processed = 0;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(storage.getRoot(), Files::isRegularFile)) {
+            for (Path flat : entries) {
+                if (processed >= batchSize) {
+                    break;
+                }
+                String name = flat.getFileName().toString();
+                if (!ShardedUploadStorage.isSafe(name)) {
+                    log.warn("이동하지 않는 파일 이름: {}", flat);
+                    continue;
+                }
+                if (migrate(flat, name)) {
+                    processed++;
+                }
+            }
+        }
+
+        if (processed > 0) {
+            completed = false;
+            log.info("업로드 파일 샤드 이동: {} 개", processed);
+        } else if (!completed) {
+            completed = true;
+            log.info("업로드 파일 샤드 이동 완료 (평면 레이아웃 파일 없음)");
+        }
+        return processed;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private boolean migrate(Path flat, String name) throws IOException {
+        Path target = storage.pathOf(name);
+        try {
+            Files.createDirectories(target.getParent());
+            // rename은 샤드 쪽 기존 파일을 덮어쓰므로 링크로 만들어 이미 있는지 구분
+            if (ShardedUploadStorage.link(flat, target)) {
+                moved.increment();
+            } else {
+                duplicates.increment();
+            }
+            Files.deleteIfExists(flat);
+            return true;
+        } catch (NoSuchFileException e) {
+            // 다른 노드가 먼저 옮김
+            return false;
+        }
+    }
+
+    private static Counter migratedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.storage.migrated")
+                .description("평면 레이아웃에서 샤드 디렉토리로 옮긴 업로드 파일 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
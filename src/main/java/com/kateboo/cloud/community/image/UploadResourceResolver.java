@@ -0,0 +1,38 @@
+package com.kateboo.cloud.community.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * /uploads/images/{name} 요청을 UploadStorage 위치로 연결
+ * (샤드 디렉토리 우선, 아직 옮기지 않은 평면 파일도 같은 URL로 제공)
+ * 축소본(<sha256>_thumb.jpg 등)이 아직 만들어지지 않았으면 원본으로 응답
+ */
+@RequiredArgsConstructor
+public class UploadResourceResolver implements ResourceResolver {
+
+    private final UploadStorage storage;
+
+    @Override
+    @Nullable
+    public Resource resolveResource(@Nullable HttpServletRequest request, String requestPath,
+                                    List<? extends Resource> locations, ResourceResolverChain chain) {
+        return storage.locate(requestPath)
+                .or(() -> ImageVariant.sourceHashOf(requestPath).flatMap(hash -> ImageVariant.locateSource(storage, hash)))
+                .map(FileSystemResource::new)
+                .orElse(null);
+    }
+
+    @Override
+    @Nullable
+    public String resolveUrlPath(String resourcePath, List<? extends Resource> locations, ResourceResolverChain chain) {
+        return storage.exists(resourcePath) ? resourcePath : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.kateboo.cloud.community.image;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 (공개 URL의 파일 이름 → 실제 파일)
+ *
+ * URL은 /uploads/images/{name} 형태로 그대로 두고, 파일이 어디에 놓이는지는 구현이 결정한다.
+ */
+public interface UploadStorage {
+
+    /**
+     * 새 파일이 저장될 위치 (존재 여부와 무관)
+     */
+    Path pathOf(String name);
+
+    /**
+     * 현재 파일이 있는 위치 (이전 레이아웃 포함), 없으면 empty
+     */
+    Optional<Path> locate(String name);
+
+    default boolean exists(String name) {
+        return locate(name).isPresent();
+    }
+
+    /**
+     * 임시 파일을 name으로 저장 (완성된 파일만 보이고, 같은 이름이 동시에 저장되어도 한 쪽만 성공)
+     *
+     * @return 새로 저장했으면 true, 같은 이름이 이미 있으면 false (임시 파일은 호출한 쪽에서 삭제)
+     */
+    boolean store(Path source, String name) throws IOException;
+}
@@ -0,0 +1,240 @@
+package com.kateboo.cloud.community.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/images/{name} 응답
+ *
+ * - 내용 해시 이름(원본, 축소본)은 내용이 바뀌지 않으므로 1년 immutable 캐시 + 해시를 강한 ETag로 사용
+ *   (아직 축소본이 없어 원본으로 대신 응답할 때만 짧게 캐시)
+ * - 이전 업로드(UUID 이름)는 1일 캐시, ETag는 크기/수정 시각
+ * - If-None-Match / If-Modified-Since → 304, 단일 Range(If-Range 포함) → 206, 범위 밖 → 416
+ * - 본문은 sendfile-min-size 이상이고 Tomcat이 sendfile을 지원하면 커널 sendfile로 (힙 복사 없음),
+ *   그 외에는 FileChannel.transferTo로 응답 스트림에 바로 씀
+ *
+ * 메트릭
+ * - image.serve{result=ok|partial|not_modified|fallback|not_found|unsatisfiable} : 응답 수
+ * - image.serve.bytes{transfer=sendfile|channel} : 보낸 본문 바이트 수
+ */
+@Component
+public class UploadedImageServer {
+
+    // Tomcat NIO/NIO2 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String CACHE_FALLBACK = "public, max-age=60";
+    private static final String CACHE_LEGACY = "public, max-age=86400";
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("([0-9a-f]{64})(_[a-z]+)?\\.[a-z]+");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
+    private static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private final UploadStorage storage;
+    private final long sendfileMinBytes;
+    private final MeterRegistry meterRegistry;
+    private final Counter sendfileBytes;
+    private final Counter channelBytes;
+
+    public UploadedImageServer(
+            UploadStorage storage,
+            MeterRegistry meterRegistry,
+            @Value("${file.serving.sendfile-min-size:48KB}") DataSize sendfileMinSize) {
+        this.storage = storage;
+        this.meterRegistry = meterRegistry;
+        this.sendfileMinBytes = sendfileMinSize.toBytes();
+        this.sendfileBytes = bytesCounter(meterRegistry, "sendfile");
+        this.channelBytes = bytesCounter(meterRegistry, "channel");
+    }
+
+    public void serve(String name, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<ServedFile> resolved = resolve(name);
+        if (resolved.isEmpty()) {
+            count("not_found");
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        ServedFile file = resolved.get();
+        long size = Files.size(file.path());
+        long lastModified = Files.getLastModifiedTime(file.path()).toMillis();
+        String etag = file.etag() != null ? file.etag() : "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.cacheControl());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        // 일치하면 304로 끝, 아니면 ETag/Last-Modified 헤더만 설정됨
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            count("not_modified");
+            return;
+        }
+        response.setContentType(file.contentType());
+
+        ByteRange range = new ByteRange(0, size);
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            ByteRange requested = parseRange(rangeHeader, size);
+            if (requested == UNSATISFIABLE) {
+                count("unsatisfiable");
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (requested != null) {
+                range = requested;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + range.start() + "-" + (range.end() - 1) + "/" + size);
+            }
+        }
+        count(range.length() < size ? "partial" : file.fallback() ? "fallback" : "ok");
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+        write(file.path(), range, request, response);
+    }
+
+    private void write(Path path, ByteRange range, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (range.length() >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 서블릿이 끝난 뒤 Tomcat이 파일 → 소켓으로 바로 전송
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end());
+            sendfileBytes.increment(range.length());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            while (position < range.end()) {
+                position += channel.transferTo(position, range.end() - position, out);
+            }
+        }
+        channelBytes.increment(range.length());
+    }
+
+    private Optional<ServedFile> resolve(String name) {
+        Matcher contentAddressed = CONTENT_ADDRESSED.matcher(name);
+        Optional<Path> path = storage.locate(name);
+
+        if (path.isPresent()) {
+            if (contentAddressed.matches()) {
+                String tag = contentAddressed.group(1) + (contentAddressed.group(2) == null ? "" : contentAddressed.group(2));
+                return Optional.of(new ServedFile(path.get(), contentType(name), "\"" + tag + "\"", CACHE_IMMUTABLE, false));
+            }
+            return Optional.of(new ServedFile(path.get(), contentType(name), null, CACHE_LEGACY, false));
+        }
+
+        // 축소본이 아직 없으면 원본으로 (곧 바뀌므로 짧게 캐시)
+        return ImageVariant.sourceHashOf(name)
+                .flatMap(hash -> ImageVariant.locateSource(storage, hash)
+                        .map(source -> new ServedFile(source, contentType(source.getFileName().toString()),
+                                "\"" + hash + "\"", CACHE_FALLBACK, true)));
+    }
+
+    /**
+     * 단일 범위만 처리 (여러 범위/형식 오류/끝 < 시작은 null → 전체 응답, 시작이 파일 끝 이후면 416)
+     */
+    static ByteRange parseRange(String header, long size) {
+        Matcher matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+
+        if (matcher.group(1).isEmpty()) {
+            // bytes=-N : 마지막 N바이트
+            long suffix = Long.parseLong(matcher.group(2));
+            return suffix == 0 || size == 0 ? UNSATISFIABLE : new ByteRange(Math.max(0, size - suffix), size);
+        }
+
+        long start = Long.parseLong(matcher.group(1));
+        if (!matcher.group(2).isEmpty() && Long.parseLong(matcher.group(2)) < start) {
+            // bytes=5-2 처럼 끝이 시작보다 앞이면 잘못된 Range → 무시 (RFC 9110 14.2)
+            return null;
+        }
+        if (start >= size) {
+            return UNSATISFIABLE;
+        }
+        long end = matcher.group(2).isEmpty() ? size : Math.min(size, Long.parseLong(matcher.group(2)) + 1);
+        return new ByteRange(start, end);
+    }
+
+    // If-Range가 없거나 현재 ETag/수정 시각과 같을 때만 Range 적용
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String contentType(String name) {
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+        for (ImageType type : ImageType.values()) {
+            if (type.getExtension().equals(extension)) {
+                return type.getMimeType();
+            }
+        }
+        return MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    private void count(String result) {
+        Counter.builder("image.serve")
+                .description("업로드 이미지 응답 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Counter bytesCounter(MeterRegistry meterRegistry, String transfer) {
+        return Counter.builder("image.serve.bytes")
+                .description("업로드 이미지 응답 본문 바이트 수")
+                .baseUnit("bytes")
+                .tag("transfer", transfer)
+                .register(meterRegistry);
+    }
+
+    private record ServedFile(Path path, String contentType, String etag, String cacheControl, boolean fallback) {
+    }
+
+    record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start;
+        }
+    }
+}
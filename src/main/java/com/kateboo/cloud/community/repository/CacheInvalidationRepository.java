@@ -0,0 +1,27 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    @Query("SELECT COALESCE(MAX(ci.invalidationId), 0) FROM CacheInvalidation ci")
+    long findMaxInvalidationId();
+
+    List<CacheInvalidation> findByInvalidationIdGreaterThanOrderByInvalidationIdAsc(Long invalidationId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,9 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.ImageAsset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, String> {
+}
@@ -0,0 +1,63 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.ImageUploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ImageUploadSessionRepository extends JpaRepository<ImageUploadSession, UUID> {
+
+    @Query("""
+            SELECT s.uploadId FROM ImageUploadSession s
+            WHERE s.expiresAt < :now
+            ORDER BY s.expiresAt ASC
+            """)
+    List<UUID> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * [offset, end) 청크를 받은 것으로 기록하고 만료 시각 연장
+     * 이미 받은 범위를 다시 보낸 경우(응답 유실 후 재전송)는 received_size를 줄이지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ImageUploadSession s
+            SET s.receivedSize = CASE WHEN s.receivedSize < :end THEN :end ELSE s.receivedSize END,
+                s.expiresAt = :expiresAt
+            WHERE s.uploadId = :id AND s.receivedSize >= :offset
+            """)
+    int advance(@Param("id") UUID id,
+                @Param("offset") long offset,
+                @Param("end") long end,
+                @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 모두 받은 세션만 삭제 (1이면 이 요청이 완료 처리를 맡음 → 동시 완료 요청 중 하나만 저장)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageUploadSession s WHERE s.uploadId = :id AND s.receivedSize = s.totalSize")
+    int claimCompleted(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageUploadSession s WHERE s.uploadId = :id")
+    int discard(@Param("id") UUID id);
+
+    /**
+     * 그 사이 청크가 와서 연장되지 않았을 때만 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageUploadSession s WHERE s.uploadId = :id AND s.expiresAt < :now")
+    int discardExpired(@Param("id") UUID id, @Param("now") Instant now);
+}
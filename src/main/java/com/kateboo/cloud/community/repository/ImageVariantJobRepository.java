@@ -0,0 +1,72 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.ImageVariantJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ImageVariantJobRepository extends JpaRepository<ImageVariantJob, Long> {
+
+    Optional<ImageVariantJob> findBySourceName(String sourceName);
+
+    @Query("""
+            SELECT j FROM ImageVariantJob j
+            WHERE j.completedAt IS NULL AND j.failedAt IS NULL
+              AND j.nextAttemptAt <= :now
+              AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)
+            ORDER BY j.nextAttemptAt ASC, j.jobId ASC
+            """)
+    List<ImageVariantJob> findRunnable(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 다른 노드가 선점하지 않았을 때만 locked_until 설정 (1이면 선점 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ImageVariantJob j SET j.lockedUntil = :until
+            WHERE j.jobId = :id AND j.completedAt IS NULL
+              AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)
+            """)
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("until") Instant until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.lockedUntil = NULL WHERE j.jobId = :id")
+    int release(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageVariantJob j SET j.completedAt = :now, j.lockedUntil = NULL WHERE j.jobId = :id")
+    int markCompleted(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * 실패 횟수 증가 후 nextAttemptAt에 다시 시도, maxAttempts에 도달하면 failed_at 기록
+     * (MySQL은 SET을 왼쪽부터 적용하므로 failed_at을 attempts보다 먼저 계산)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ImageVariantJob j
+            SET j.failedAt = CASE WHEN j.attempts + 1 >= :maxAttempts THEN :now ELSE j.failedAt END,
+                j.attempts = j.attempts + 1,
+                j.lastError = :error,
+                j.nextAttemptAt = :nextAttemptAt,
+                j.lockedUntil = NULL
+            WHERE j.jobId = :id
+            """)
+    int recordFailure(@Param("id") Long id,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("now") Instant now,
+                      @Param("nextAttemptAt") Instant nextAttemptAt);
+}
@@ -0,0 +1,72 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * now 기준으로 전달할 차례인 이벤트를 id 순서로 조회
+     * - IDENTITY id는 커밋 순서와 다를 수 있으므로 settledBefore 이전에 기록된 이벤트만 조회
+     *   (그 시각 이전에 시작된 트랜잭션은 모두 커밋되었다고 보고, 앞선 id가 뒤늦게 보이는 일을 막음)
+     * - 같은 애그리거트의 앞선 이벤트가 아직 전달되지 않고 대기(백오프) 중이거나, 포기(failed_at)되었거나,
+     *   settle 시간이 지나지 않은 경우 뒤의 이벤트는 제외
+     */
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL AND e.failedAt IS NULL
+              AND e.nextAttemptAt <= :now
+              AND e.createdAt <= :settledBefore
+              AND NOT EXISTS (
+                  SELECT 1 FROM OutboxEvent b
+                  WHERE b.aggregateId = e.aggregateId
+                    AND b.outboxId < e.outboxId
+                    AND b.publishedAt IS NULL
+                    AND (b.failedAt IS NOT NULL OR b.nextAttemptAt > :now OR b.createdAt > :settledBefore))
+            ORDER BY e.outboxId ASC
+            """)
+    List<OutboxEvent> findPending(@Param("now") Instant now,
+                                  @Param("settledBefore") Instant settledBefore,
+                                  Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.outboxId IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    /**
+     * 실패 횟수 증가 후 nextAttemptAt에 다시 시도, maxAttempts에 도달하면 failed_at 기록
+     * (MySQL은 SET을 왼쪽부터 적용하므로 failed_at을 attempts보다 먼저 계산)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.failedAt = CASE WHEN e.attempts + 1 >= :maxAttempts THEN :now ELSE e.failedAt END,
+                e.attempts = e.attempts + 1,
+                e.lastError = :error,
+                e.nextAttemptAt = :nextAttemptAt
+            WHERE e.outboxId = :id
+            """)
+    int recordFailure(@Param("id") Long id,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("now") Instant now,
+                      @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deleteByPublishedAtBefore(@Param("before") Instant before);
+}
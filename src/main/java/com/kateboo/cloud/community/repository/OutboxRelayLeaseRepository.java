@@ -0,0 +1,46 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+
+    /**
+     * 담당 노드가 자신이거나 lease가 만료된 경우에만 갱신 (1이면 획득)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxRelayLease l
+            SET l.ownerNode = :owner, l.expiresAt = :until
+            WHERE l.leaseName = :name AND (l.ownerNode = :owner OR l.expiresAt < :now)
+            """)
+    int acquire(@Param("name") String name,
+                @Param("owner") UUID owner,
+                @Param("until") Instant until,
+                @Param("now") Instant now);
+
+    /**
+     * 자신이 가진 lease가 아직 유효할 때만 연장 (1이면 연장, 0이면 만료되었거나 다른 노드가 가져감)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE OutboxRelayLease l
+            SET l.expiresAt = :until
+            WHERE l.leaseName = :name AND l.ownerNode = :owner AND l.expiresAt >= :now
+            """)
+    int renew(@Param("name") String name,
+              @Param("owner") UUID owner,
+              @Param("until") Instant until,
+              @Param("now") Instant now);
+}
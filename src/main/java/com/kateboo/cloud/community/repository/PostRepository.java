@@ -13,24 +13,29 @@ import java.util.UUID;
 @Repository
 public interface PostRepository extends JpaRepository<Post, UUID> {
 
-    // 최신순 정렬
-    @EntityGraph(attributePaths = {"user", "postStats", "postImages"})
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.postStats LEFT JOIN FETCH p.user ORDER BY p.createdAt DESC")
+    // 작성자(user)는 조인하지 않음 → UserSummaryCache에서 조회
+    // 이미지 컬렉션은 fetch join하지 않음 (컬렉션 fetch join + 페이징은 전체를 읽어 메모리에서 자름)
+    // → Post.postImages의 @BatchSize로 페이지의 게시글 이미지를 IN 쿼리 1회로 조회
+    // 정렬 동점은 post_id(UUIDv7 → 생성 순)로 끊어 인덱스 순서와 맞춤
+
+    // 최신순 정렬 (idx_posts_created_at 역방향 스캔)
+    @Query(value = "SELECT p FROM Post p LEFT JOIN FETCH p.postStats ORDER BY p.createdAt DESC, p.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
     Page<Post> findAllOrderByCreatedAtDesc(Pageable pageable);
 
-    // 조회수순 정렬
-    @EntityGraph(attributePaths = {"user", "postStats", "postImages"})
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.postStats ps LEFT JOIN FETCH p.user ORDER BY ps.viewsCount DESC, p.createdAt DESC")
+    // 조회수순 정렬 (idx_post_stats_views 역방향 스캔 후 posts 조인)
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.postStats ps ORDER BY ps.viewsCount DESC, ps.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
     Page<Post> findAllOrderByViewsCountDesc(Pageable pageable);
 
-    // 좋아요순 정렬
-    @EntityGraph(attributePaths = {"user", "postStats", "postImages"})
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.postStats ps LEFT JOIN FETCH p.user ORDER BY ps.likesCount DESC, p.createdAt DESC")
+    // 좋아요순 정렬 (idx_post_stats_likes 역방향 스캔 후 posts 조인)
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.postStats ps ORDER BY ps.likesCount DESC, ps.postId DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
     Page<Post> findAllOrderByLikesCountDesc(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user", "postStats", "postImages"})
+    @EntityGraph(attributePaths = {"postStats"})
     Page<Post> findAll(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user", "postStats", "postImages"})
+    // 단건 조회는 엔티티 그래프 없이 em.find → Post/이미지는 2차 캐시에서 조회
     Optional<Post> findById(UUID postId);
 }
\ No newline at end of file
@@ -1,14 +1,15 @@
 package com.kateboo.cloud.community.repository;
 
 import com.kateboo.cloud.community.entity.RefreshToken;
-import com.kateboo.cloud.community.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +17,78 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * 토큰 교체: 유효한 기존 토큰을 새 토큰으로 바꾸는 단일 UPDATE
+     * 반환값이 0이면 존재하지 않거나, 만료/취소되었거나, 이미 교체된 토큰
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.previousTokenHash = rt.tokenHash, rt.tokenHash = :newHash, " +
+            "rt.expiresAt = :expiresAt, rt.rotatedAt = :now " +
+            "WHERE rt.tokenHash = :oldHash AND rt.revokedAt IS NULL AND rt.expiresAt > :now")
+    int rotate(@Param("oldHash") byte[] oldHash,
+               @Param("newHash") byte[] newHash,
+               @Param("expiresAt") Instant expiresAt,
+               @Param("now") Instant now);
+
+    @Query("SELECT u.userId AS userId, u.email AS email, u.nickname AS nickname, u.profileImageUrl AS profileImageUrl " +
+            "FROM RefreshToken rt JOIN rt.user u WHERE rt.tokenHash = :tokenHash")
+    Optional<TokenOwner> findOwnerByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash OR rt.previousTokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashOrPreviousTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now WHERE rt.tokenHash = :tokenHash AND rt.revokedAt IS NULL")
+    int revokeByTokenHash(@Param("tokenHash") byte[] tokenHash, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.revokedAt = :now WHERE rt.refreshId = :refreshId AND rt.revokedAt IS NULL")
+    int revokeById(@Param("refreshId") Long refreshId, @Param("now") Instant now);
 
     void deleteByUser_UserId(UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * 정리 대상 조회 (expires_at 인덱스 순서의 keyset 페이지네이션)
+     */
+    @Query("SELECT rt.refreshId AS refreshId, rt.expiresAt AS cursorAt FROM RefreshToken rt " +
+            "WHERE rt.expiresAt < :before " +
+            "AND (rt.expiresAt > :afterAt OR (rt.expiresAt = :afterAt AND rt.refreshId > :afterId)) " +
+            "ORDER BY rt.expiresAt, rt.refreshId")
+    List<PurgeKey> findExpiredKeys(@Param("before") Instant before,
+                                   @Param("afterAt") Instant afterAt,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    /**
+     * 정리 대상 조회 (revoked_at 인덱스 순서의 keyset 페이지네이션)
+     */
+    @Query("SELECT rt.refreshId AS refreshId, rt.revokedAt AS cursorAt FROM RefreshToken rt " +
+            "WHERE rt.revokedAt < :before " +
+            "AND (rt.revokedAt > :afterAt OR (rt.revokedAt = :afterAt AND rt.refreshId > :afterId)) " +
+            "ORDER BY rt.revokedAt, rt.refreshId")
+    List<PurgeKey> findRevokedKeys(@Param("before") Instant before,
+                                   @Param("afterAt") Instant afterAt,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.refreshId IN :refreshIds")
+    int deleteByRefreshIdIn(@Param("refreshIds") List<Long> refreshIds);
+
+    interface PurgeKey {
+        Long getRefreshId();
+
+        Instant getCursorAt();
+    }
+
+    interface TokenOwner {
+        UUID getUserId();
+
+        String getEmail();
+
+        String getNickname();
+
+        String getProfileImageUrl();
+    }
+}
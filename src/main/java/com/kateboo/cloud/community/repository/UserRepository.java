@@ -1,13 +1,21 @@
 package com.kateboo.cloud.community.repository;
 
 import com.kateboo.cloud.community.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -19,4 +27,53 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     List<User> findByIsActiveFalseAndDeactivatedAtBefore(Instant cutoffDate);
+
+    /**
+     * 이메일/닉네임만 스트리밍 조회 (트랜잭션 안에서 사용, MySQL은 useCursorFetch=true 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email AS email, u.nickname AS nickname FROM User u")
+    Stream<UserIdentifiers> streamAllIdentifiers();
+
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname, u.profileImageUrl AS profileImageUrl " +
+            "FROM User u WHERE u.userId IN :userIds")
+    List<UserSummary> findSummariesByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * 활성 여부/탈퇴 시각만 조회 (다른 노드의 탈퇴/복구 반영용)
+     * 읽기 전용이 아닌 트랜잭션으로 실행하여 레플리카 지연 없이 primary에서 읽음
+     */
+    @Transactional
+    @Query("SELECT u.isActive AS isActive, u.deactivatedAt AS deactivatedAt FROM User u WHERE u.userId = :userId")
+    Optional<UserStatus> findStatusByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 이메일/닉네임만 조회 (다른 노드의 가입/닉네임 변경 반영용, primary에서 읽음)
+     */
+    @Transactional
+    @Query("SELECT u.email AS email, u.nickname AS nickname FROM User u WHERE u.userId = :userId")
+    Optional<UserIdentifiers> findIdentifiersByUserId(@Param("userId") UUID userId);
+
+    interface UserIdentifiers {
+        String getEmail();
+
+        String getNickname();
+    }
+
+    interface UserSummary {
+        UUID getUserId();
+
+        String getNickname();
+
+        String getProfileImageUrl();
+    }
+
+    interface UserStatus {
+        Boolean getIsActive();
+
+        Instant getDeactivatedAt();
+    }
 }
\ No newline at end of file
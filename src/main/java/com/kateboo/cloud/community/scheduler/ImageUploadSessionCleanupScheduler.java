@@ -0,0 +1,31 @@
+package com.kateboo.cloud.community.scheduler;
+
+import com.kateboo.cloud.community.image.ChunkedUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중단된 청크 업로드 세션(임시 파일 포함) 정리 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageUploadSessionCleanupScheduler {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 기본 10분마다 실행 (file.chunked-upload.purge-interval)
+     */
+    @Scheduled(fixedDelayString = "${file.chunked-upload.purge-interval:600000}",
+            initialDelayString = "${file.chunked-upload.purge-initial-delay:60000}")
+    public void purgeExpiredSessions() {
+        try {
+            chunkedUploadService.purgeExpired();
+        } catch (Exception e) {
+            log.error("청크 업로드 세션 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kateboo.cloud.community.scheduler;
+
+import com.kateboo.cloud.community.service.RefreshTokenPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료/취소된 Refresh Token 정리 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenPurgeService refreshTokenPurgeService;
+
+    /**
+     * 기본 1시간마다 실행 (jwt.refresh-token.purge.interval)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge.interval:3600000}", initialDelay = 300_000)
+    public void purgeRefreshTokens() {
+        try {
+            refreshTokenPurgeService.purge();
+        } catch (Exception e) {
+            log.error("Refresh Token 정리 중 오류 발생", e);
+        }
+    }
+}
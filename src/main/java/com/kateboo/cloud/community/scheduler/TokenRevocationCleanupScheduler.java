@@ -0,0 +1,31 @@
+package com.kateboo.cloud.community.scheduler;
+
+import com.kateboo.cloud.community.security.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 토큰 폐기 목록 정리 스케줄러
+ * Access Token 유효기간이 지난 항목을 제거하고 Bloom filter를 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationCleanupScheduler {
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * 1분마다 실행
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void purgeExpiredRevocations() {
+        int removed = tokenRevocationRegistry.purgeExpired();
+
+        if (removed > 0) {
+            log.info("토큰 폐기 목록 정리: 제거 {} 건, 남은 항목 {} 건", removed, tokenRevocationRegistry.size());
+        }
+    }
+}
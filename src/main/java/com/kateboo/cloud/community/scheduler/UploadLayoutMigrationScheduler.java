@@ -0,0 +1,32 @@
+package com.kateboo.cloud.community.scheduler;
+
+import com.kateboo.cloud.community.image.UploadLayoutMigrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 평면 레이아웃 업로드 파일을 샤드 디렉토리로 조금씩 옮기는 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadLayoutMigrationScheduler {
+
+    private final UploadLayoutMigrator uploadLayoutMigrator;
+
+    /**
+     * 기본 10초마다 batch-size개씩 (file.layout-migration.interval)
+     * 옮길 파일이 없으면 루트 목록 확인만 하므로 계속 켜 두어도 됨
+     */
+    @Scheduled(fixedDelayString = "${file.layout-migration.interval:10000}",
+            initialDelayString = "${file.layout-migration.initial-delay:60000}")
+    public void migrateUploads() {
+        try {
+            uploadLayoutMigrator.migrateBatch();
+        } catch (Exception e) {
+            log.error("업로드 파일 샤드 이동 중 오류 발생", e);
+        }
+    }
+}
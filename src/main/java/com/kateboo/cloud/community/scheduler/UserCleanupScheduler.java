@@ -1,5 +1,6 @@
 package com.kateboo.cloud.community.scheduler;
 
+import com.kateboo.cloud.community.service.UserAvailabilityService;
 import com.kateboo.cloud.community.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 public class UserCleanupScheduler {
 
     private final UserService userService;
+    private final UserAvailabilityService userAvailabilityService;
 
     /**
      * 매일 새벽 3시에 7일 지난 계정 자동 삭제
@@ -35,6 +37,9 @@ public class UserCleanupScheduler {
         try {
             userService.deleteExpiredAccounts();
             log.info("비활성 계정 자동 정리 완료");
+
+            // 삭제된 이메일/닉네임을 Bloom filter에서 제거
+            userAvailabilityService.rebuildIfStale();
         } catch (Exception e) {
             log.error("비활성 계정 정리 중 오류 발생", e);
         }
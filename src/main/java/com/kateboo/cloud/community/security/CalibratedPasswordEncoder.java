@@ -0,0 +1,190 @@
+package com.kateboo.cloud.community.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기동 시 벤치마크로 해싱 비용을 정하는 PasswordEncoder
+ *
+ * - 저장 형식: {알고리즘}$파라미터$salt$hash (예: {bcrypt}$2a$12$..., {argon2}$argon2id$v=19$m=19456,t=3,p=1$...)
+ * - 접두사가 없는 기존 BCrypt 해시도 그대로 검증
+ * - upgradeEncoding()은 저장된 해시가 다른 알고리즘(접두사 없음 포함)이거나 설정의 최소 비용보다 낮을 때만 true → 로그인 시 재해싱
+ *   보정 결과는 노드의 하드웨어마다 다르므로, 보정 값과 다르다는 이유로 재해싱하면
+ *   성능이 다른 노드가 섞여 있을 때 로그인할 때마다 서로의 해시를 다시 만들게 됨
+ *   (최소 비용보다 높은 해시는 어느 노드에서 만들었든 그대로 둠)
+ */
+@Slf4j
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 20;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURE_RUNS = 5;
+    private static final String SAMPLE_PASSWORD = "Calibrate!2345";
+
+    private final DelegatingPasswordEncoder delegate;
+    private final String prefix;
+    private final int minBcryptStrength;
+    private final int minArgon2MemoryKib;
+    private final int minArgon2Iterations;
+
+    private CalibratedPasswordEncoder(String algorithm,
+                                      PasswordEncoder encoder,
+                                      int minBcryptStrength,
+                                      int minArgon2MemoryKib,
+                                      int minArgon2Iterations) {
+        BCryptPasswordEncoder legacyBcrypt = new BCryptPasswordEncoder();
+        PasswordEncoder bcrypt = BCRYPT.equals(algorithm) ? encoder : legacyBcrypt;
+        PasswordEncoder argon2 = ARGON2.equals(algorithm)
+                ? encoder
+                : Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+
+        this.delegate = new DelegatingPasswordEncoder(algorithm, Map.of(BCRYPT, bcrypt, ARGON2, argon2));
+        // 접두사 없는 기존 해시는 BCrypt로 검증 (BCrypt는 해시 안의 cost를 사용하므로 strength와 무관)
+        this.delegate.setDefaultPasswordEncoderForMatches(legacyBcrypt);
+
+        this.prefix = "{" + algorithm + "}";
+        this.minBcryptStrength = minBcryptStrength;
+        this.minArgon2MemoryKib = minArgon2MemoryKib;
+        this.minArgon2Iterations = minArgon2Iterations;
+    }
+
+    /**
+     * 목표 해싱 시간(targetMillis)에 가장 가까운 비용을 측정하여 생성
+     * 최소 비용(minBcryptStrength, minArgon2Iterations) 아래로는 내려가지 않음
+     */
+    public static CalibratedPasswordEncoder calibrate(String algorithm,
+                                                      long targetMillis,
+                                                      int minBcryptStrength,
+                                                      int argon2MemoryKib,
+                                                      int argon2Parallelism,
+                                                      int minArgon2Iterations) {
+        long startedAt = System.nanoTime();
+        PasswordEncoder encoder;
+
+        if (ARGON2.equals(algorithm)) {
+            double measured = measureMillis(argon2(argon2Parallelism, argon2MemoryKib, minArgon2Iterations));
+            double perIteration = measured / minArgon2Iterations;
+            int iterations = (int) Math.round(targetMillis / perIteration);
+            iterations = Math.min(MAX_ARGON2_ITERATIONS, Math.max(minArgon2Iterations, iterations));
+            encoder = argon2(argon2Parallelism, argon2MemoryKib, iterations);
+
+            log.info("Argon2 비용 보정: m={}KiB, p={}, t={} (t={}에서 {}ms, 목표 {}ms)",
+                    argon2MemoryKib, argon2Parallelism, iterations,
+                    minArgon2Iterations, Math.round(measured), targetMillis);
+
+        } else if (BCRYPT.equals(algorithm)) {
+            double measured = measureMillis(new BCryptPasswordEncoder(minBcryptStrength));
+            int strength = minBcryptStrength;
+            double estimated = measured;
+            // cost가 1 오를 때마다 시간이 2배 → 로그 스케일에서 목표에 가장 가까운 값 선택
+            while (strength < MAX_BCRYPT_STRENGTH && estimated * Math.sqrt(2) < targetMillis) {
+                strength++;
+                estimated *= 2;
+            }
+            encoder = new BCryptPasswordEncoder(strength);
+
+            log.info("BCrypt 비용 보정: strength={} (strength={}에서 {}ms, 예상 {}ms, 목표 {}ms)",
+                    strength, minBcryptStrength, Math.round(measured), Math.round(estimated), targetMillis);
+
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해싱 알고리즘입니다: " + algorithm);
+        }
+
+        log.info("비밀번호 해싱 보정 완료: {}ms 소요", (System.nanoTime() - startedAt) / 1_000_000);
+        return new CalibratedPasswordEncoder(algorithm, encoder, minBcryptStrength, argon2MemoryKib, minArgon2Iterations);
+    }
+
+    /**
+     * 보정 없이 고정 비용으로 생성 (테스트, 보정 비활성화 시)
+     */
+    public static CalibratedPasswordEncoder fixed(String algorithm,
+                                                  int bcryptStrength,
+                                                  int argon2MemoryKib,
+                                                  int argon2Parallelism,
+                                                  int argon2Iterations) {
+        PasswordEncoder encoder;
+        if (ARGON2.equals(algorithm)) {
+            encoder = argon2(argon2Parallelism, argon2MemoryKib, argon2Iterations);
+        } else if (BCRYPT.equals(algorithm)) {
+            encoder = new BCryptPasswordEncoder(bcryptStrength);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해싱 알고리즘입니다: " + algorithm);
+        }
+        return new CalibratedPasswordEncoder(algorithm, encoder, bcryptStrength, argon2MemoryKib, argon2Iterations);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (!encodedPassword.startsWith(prefix)) {
+            return true;
+        }
+
+        // {bcrypt}$2a$12$... → "2a", "12" / {argon2}$argon2id$v=19$m=19456,t=3,p=1$... → "argon2id", "v=19", "m=..,t=..,p=.."
+        try {
+            String[] params = encodedPassword.substring(prefix.length() + 1).split("\\$", 4);
+            if (prefix.equals("{" + BCRYPT + "}")) {
+                return params.length < 3 || Integer.parseInt(params[1]) < minBcryptStrength;
+            }
+            if (params.length < 4 || !"argon2id".equals(params[0])) {
+                return true;
+            }
+            Map<String, Integer> costs = new HashMap<>();
+            for (String param : params[2].split(",")) {
+                int index = param.indexOf('=');
+                costs.put(param.substring(0, index), Integer.parseInt(param.substring(index + 1)));
+            }
+            return costs.getOrDefault("m", 0) < minArgon2MemoryKib
+                    || costs.getOrDefault("t", 0) < minArgon2Iterations;
+        } catch (RuntimeException e) {
+            // 형식을 알 수 없는 해시는 다시 만듦
+            return true;
+        }
+    }
+
+    private static Argon2PasswordEncoder argon2(int parallelism, int memoryKib, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    private static double measureMillis(PasswordEncoder encoder) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+
+        long[] samples = new long[MEASURE_RUNS];
+        for (int i = 0; i < MEASURE_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+
+        return samples[MEASURE_RUNS / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.kateboo.cloud.community.security;
+
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.UUID;
+
+/**
+ * 현재 요청 사용자의 User 조회를 요청당 한 번으로 줄임
+ *
+ * - getUser(): 요청 안에서 처음 호출될 때만 SELECT, 이후에는 같은 엔티티 반환
+ * - getReference(): FK 연결만 필요한 경우 SELECT 없이 프록시 반환 (이미 조회했다면 그 엔티티)
+ * - 요청 밖(스케줄러, 테스트)이거나 필터가 검증한 사용자가 아니면 항상 UserRepository로 조회
+ *   (존재하지 않는 사용자는 NotFoundException)
+ * - 이미 조회한 엔티티가 현재 영속성 컨텍스트에 없으면(트랜잭션이 바뀐 경우) 다시 조회하여
+ *   준영속 엔티티를 수정하는 일이 없도록 함
+ *
+ * 탈퇴 후 영구 삭제(7일)까지의 기간이 Access Token 유효기간(30분)보다 훨씬 길고,
+ * 탈퇴 시점에 기존 토큰은 필터에서 차단되므로 프록시의 대상 행은 항상 존재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private static final String PRINCIPAL_ATTRIBUTE = CurrentUserContext.class.getName() + ".principal";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    public User getUser(UUID userId) {
+        CurrentUserPrincipal principal = principal(userId);
+        if (principal == null) {
+            return load(userId);
+        }
+
+        User user = principal.user;
+        if (user == null || !entityManager.contains(user)) {
+            user = load(userId);
+            principal.user = user;
+        }
+        return user;
+    }
+
+    public User getReference(UUID userId) {
+        CurrentUserPrincipal principal = principal(userId);
+        if (principal == null) {
+            return load(userId);
+        }
+
+        User user = principal.user;
+        if (user != null && entityManager.contains(user)) {
+            return user;
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    private User load(UUID userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+    }
+
+    /**
+     * 필터가 저장한 userId와 같은 사용자일 때만 요청 속성에 principal을 만들어 보관
+     */
+    private CurrentUserPrincipal principal(UUID userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || !userId.equals(attributes.getAttribute("userId", RequestAttributes.SCOPE_REQUEST))) {
+            return null;
+        }
+
+        CurrentUserPrincipal principal =
+                (CurrentUserPrincipal) attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (principal == null) {
+            principal = new CurrentUserPrincipal();
+            attributes.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+        return principal;
+    }
+
+    /**
+     * 요청 속성에 보관되는 현재 사용자 (User는 처음 필요할 때 채워짐)
+     */
+    private static final class CurrentUserPrincipal {
+        private User user;
+    }
+}
@@ -1,15 +1,13 @@
 package com.kateboo.cloud.community.security;
 
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -21,7 +19,12 @@ import java.util.UUID;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private static final String BEARER_PREFIX = "Bearer ";
+    // 탈퇴 후 유예 기간 안에 기존 토큰으로 복구할 수 있도록 탈퇴 차단에서 제외 (로그아웃한 토큰은 그대로 차단)
+    private static final String RESTORE_PATH = "/api/users/me/restore";
+
+    private final JwtVerifier jwtVerifier;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -41,39 +44,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = extractToken(request);
-
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
-
-                // ✅ Request Attribute에 userId 저장
-                request.setAttribute("userId", userId);
-                log.debug("인증 성공: userId={}", userId);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        // "Bearer " 접두사를 잘라낸 문자열을 만들지 않고 offset으로 바로 검증
+        if (authorization != null
+                && authorization.length() > BEARER_PREFIX.length()
+                && authorization.startsWith(BEARER_PREFIX)) {
+
+            JwtVerification verification = jwtVerifier.verify(authorization, BEARER_PREFIX.length());
+
+            switch (verification.status()) {
+                case VALID -> {
+                    // 로그아웃/탈퇴로 폐기된 토큰은 DB 조회 없이 메모리에서 차단
+                    if (tokenRevocationRegistry.isTokenRevoked(verification)
+                            || (tokenRevocationRegistry.isUserDeactivated(verification) && !isRestoreRequest(request))) {
+                        sendUnauthorizedError(response, "유효하지 않은 토큰입니다.");
+                        return;
+                    }
+
+                    UUID userId = verification.userId();
+
+                    // ✅ Request Attribute에 userId 저장
+                    request.setAttribute("userId", userId);
+                    log.debug("인증 성공: userId={}", userId);
+                }
+                case EXPIRED -> {
+                    sendUnauthorizedError(response, "토큰이 만료되었습니다.");
+                    return;
+                }
+                case INVALID -> {
+                    sendUnauthorizedError(response, "유효하지 않은 토큰입니다.");
+                    return;
+                }
             }
-
-            filterChain.doFilter(request, response);
-
-        } catch (ExpiredJwtException e) {
-            sendUnauthorizedError(response, "토큰이 만료되었습니다.");
-            return;
-
-        } catch (JwtException e) {
-            sendUnauthorizedError(response, "유효하지 않은 토큰입니다.");
-            return;
-
-        } catch (Exception e) {
-            sendUnauthorizedError(response, "인증 처리 중 오류가 발생했습니다.");
-            return;
         }
+
+        filterChain.doFilter(request, response);
     }
 
-    private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+    private static boolean isRestoreRequest(HttpServletRequest request) {
+        return "PATCH".equals(request.getMethod()) && RESTORE_PATH.equals(request.getRequestURI());
     }
 
     private void sendUnauthorizedError(HttpServletResponse response, String message) throws IOException {
@@ -3,12 +3,15 @@ package com.kateboo.cloud.community.security;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
@@ -17,17 +20,22 @@ import java.util.UUID;
 @Slf4j
 public class JwtTokenProvider {
 
-    private final byte[] secretKeyBytes;
+    // 키와 파서는 생성 시 한 번만 만들어 재사용 (JwtParser는 thread-safe)
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpiration;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token.expiration}") long accessTokenExpiration) {
-        this.secretKeyBytes = Base64.getDecoder().decode(secret);
+        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
 
         log.info("JWT TokenProvider 초기화 완료 (JJWT 0.11.2 + Base64)");
-        log.info("Secret 길이: {} (Base64), 디코딩 후: {} bytes", secret.length(), secretKeyBytes.length);
+        log.info("Secret 길이: {} (Base64), 디코딩 후: {} bytes", secret.length(), secretKey.getEncoded().length);
     }
 
     public String generateToken(UUID userId, String email) {
@@ -36,10 +44,11 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(userId.toString())
+                .setId(UUID.randomUUID().toString())
                 .claim("email", email)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS256, secretKeyBytes)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -66,8 +75,7 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKeyBytes)
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
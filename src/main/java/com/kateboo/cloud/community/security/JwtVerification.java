@@ -0,0 +1,47 @@
+package com.kateboo.cloud.community.security;
+
+import java.util.UUID;
+
+/**
+ * Access Token 검증 결과
+ * 예외 대신 상태값을 반환하고, subject(userId)와 jti는 UUID 객체 대신 long 두 개로 보관
+ */
+public record JwtVerification(Status status,
+                              long userIdMostSigBits,
+                              long userIdLeastSigBits,
+                              long tokenIdMostSigBits,
+                              long tokenIdLeastSigBits,
+                              long issuedAtSeconds,
+                              long expiresAtSeconds) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        INVALID
+    }
+
+    static final JwtVerification INVALID = new JwtVerification(Status.INVALID, 0L, 0L, 0L, 0L, 0L, 0L);
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    public UUID userId() {
+        return new UUID(userIdMostSigBits, userIdLeastSigBits);
+    }
+
+    /**
+     * jti 클레임이 없는 토큰(이전 버전 발급분)은 false
+     */
+    public boolean hasTokenId() {
+        return tokenIdMostSigBits != 0L || tokenIdLeastSigBits != 0L;
+    }
+
+    public UUID tokenId() {
+        return new UUID(tokenIdMostSigBits, tokenIdLeastSigBits);
+    }
+}
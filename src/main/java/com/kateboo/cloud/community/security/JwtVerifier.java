@@ -0,0 +1,322 @@
+package com.kateboo.cloud.community.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 요청 경로(JwtAuthenticationFilter)용 HS256 Access Token 검증기
+ *
+ * - SecretKey는 생성 시 한 번만 만들고, Mac과 버퍼는 작은 풀에서 빌려 재사용
+ *   (가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal로는 재사용되지 않음)
+ * - 만료/위조 여부를 예외가 아닌 JwtVerification 상태값으로 반환
+ * - 정규식, 문자열 분리, JSON 파싱 라이브러리를 사용하지 않음
+ * - 호출당 할당은 결과 record와 JDK Mac 내부 digest 버퍼 정도
+ *   (JJWT와의 B/op 비교는 JwtVerifierBenchmark, ./gradlew jmh / 상한 확인은 JwtVerifierAllocationLoadTest)
+ *
+ * 토큰 발급은 기존과 같이 JwtTokenProvider(JJWT)가 담당하며,
+ * 이 클래스는 JJWT가 발급한 compact 형식(헤더.페이로드.서명)만 검증한다.
+ */
+@Component
+@Slf4j
+public class JwtVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int MAX_TOKEN_LENGTH = 2048;
+    private static final int UUID_LENGTH = 36;
+
+    private static final byte[] SUB_KEY = {'"', 's', 'u', 'b', '"'};
+    private static final byte[] EXP_KEY = {'"', 'e', 'x', 'p', '"'};
+    private static final byte[] IAT_KEY = {'"', 'i', 'a', 't', '"'};
+    private static final byte[] JTI_KEY = {'"', 'j', 't', 'i', '"'};
+
+    private static final byte[] BASE64_URL_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    // 동시에 검증 중인 수만큼만 필요, 풀이 비어 있으면 새로 만들고 가득 차 있으면 버림
+    private static final int SCRATCH_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final SecretKey secretKey;
+    private final ArrayBlockingQueue<Scratch> scratchPool = new ArrayBlockingQueue<>(SCRATCH_POOL_SIZE);
+
+    public JwtVerifier(@Value("${jwt.secret}") String secret) {
+        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+
+        // 키/알고리즘 문제는 첫 요청이 아닌 기동 시점에 드러나도록 미리 한 번 생성
+        newMac();
+        log.info("JWT Verifier 초기화 완료 (HS256, 최대 토큰 길이: {})", MAX_TOKEN_LENGTH);
+    }
+
+    public JwtVerification verify(String token) {
+        return token == null ? JwtVerification.INVALID : verify(token, 0);
+    }
+
+    /**
+     * source의 offset 위치부터 끝까지를 토큰으로 보고 검증
+     * "Bearer " 접두사를 잘라낸 문자열을 만들지 않기 위해 사용
+     */
+    public JwtVerification verify(String source, int offset) {
+        int end = source.length();
+        int length = end - offset;
+        if (length <= 0 || length > MAX_TOKEN_LENGTH) {
+            return JwtVerification.INVALID;
+        }
+
+        int firstDot = source.indexOf('.', offset);
+        int secondDot = firstDot < 0 ? -1 : source.indexOf('.', firstDot + 1);
+        if (firstDot <= offset || secondDot <= firstDot + 1 || secondDot == end - 1
+                || source.indexOf('.', secondDot + 1) >= 0) {
+            return JwtVerification.INVALID;
+        }
+
+        Scratch buffers = scratchPool.poll();
+        if (buffers == null) {
+            buffers = new Scratch(newMac());
+        }
+        try {
+            return verify(source, offset, firstDot, secondDot, buffers);
+        } finally {
+            scratchPool.offer(buffers);
+        }
+    }
+
+    private JwtVerification verify(String source, int offset, int firstDot, int secondDot, Scratch buffers) {
+        int end = source.length();
+
+        // 1. 서명 검증: HMAC-SHA256(header.payload) == signature
+        byte[] input = buffers.input;
+        int inputLength = secondDot - offset;
+        for (int i = 0; i < inputLength; i++) {
+            char c = source.charAt(offset + i);
+            if (c >= 0x80) {
+                return JwtVerification.INVALID;
+            }
+            input[i] = (byte) c;
+        }
+
+        Mac mac = buffers.mac;
+        mac.update(input, 0, inputLength);
+        try {
+            mac.doFinal(buffers.expectedSignature, 0);
+        } catch (ShortBufferException e) {
+            mac.reset();
+            return JwtVerification.INVALID;
+        }
+
+        int signatureLength = decodeBase64Url(source, secondDot + 1, end, buffers.providedSignature);
+        if (signatureLength != SIGNATURE_LENGTH
+                || !MessageDigest.isEqual(buffers.expectedSignature, buffers.providedSignature)) {
+            return JwtVerification.INVALID;
+        }
+
+        // 2. 페이로드에서 sub, exp, iat, jti만 추출
+        byte[] payload = buffers.payload;
+        int payloadLength = decodeBase64Url(source, firstDot + 1, secondDot, payload);
+        if (payloadLength < 0) {
+            return JwtVerification.INVALID;
+        }
+
+        long[] uuid = buffers.uuid;
+        int subStart = findStringValue(payload, payloadLength, SUB_KEY);
+        if (!parseUuid(payload, subStart, payloadLength, uuid)) {
+            return JwtVerification.INVALID;
+        }
+        long userIdMostSigBits = uuid[0];
+        long userIdLeastSigBits = uuid[1];
+
+        long expSeconds = findNumberValue(payload, payloadLength, EXP_KEY);
+        if (expSeconds < 0) {
+            return JwtVerification.INVALID;
+        }
+
+        // 발급 시각과 토큰 ID는 폐기 여부 판단용 (이전 버전 토큰에는 jti가 없을 수 있음)
+        long issuedAtSeconds = Math.max(findNumberValue(payload, payloadLength, IAT_KEY), 0L);
+        int jtiStart = findStringValue(payload, payloadLength, JTI_KEY);
+        if (jtiStart < 0) {
+            uuid[0] = 0L;
+            uuid[1] = 0L;
+        } else if (!parseUuid(payload, jtiStart, payloadLength, uuid)) {
+            return JwtVerification.INVALID;
+        }
+
+        // JJWT와 동일하게 exp 시각을 지난 경우에만 만료로 판단
+        JwtVerification.Status status = System.currentTimeMillis() > expSeconds * 1000L
+                ? JwtVerification.Status.EXPIRED
+                : JwtVerification.Status.VALID;
+
+        return new JwtVerification(status, userIdMostSigBits, userIdLeastSigBits,
+                uuid[0], uuid[1], issuedAtSeconds, expSeconds);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 검증용 Mac 초기화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 패딩 없는 Base64URL 디코딩, 실패 시 -1
+     */
+    static int decodeBase64Url(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || (length / 4) * 3 + 2 > out.length) {
+            return -1;
+        }
+
+        int written = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[written++] = (byte) (buffer >> bits);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * "key" : "value" 형태에서 value 첫 글자 위치, 없으면 -1
+     */
+    private static int findStringValue(byte[] json, int length, byte[] key) {
+        int valueStart = findValueStart(json, length, key);
+        if (valueStart < 0 || valueStart >= length || json[valueStart] != '"') {
+            return -1;
+        }
+        return valueStart + 1;
+    }
+
+    /**
+     * "key" : 123 형태의 음이 아닌 정수 값, 없으면 -1
+     */
+    private static long findNumberValue(byte[] json, int length, byte[] key) {
+        int i = findValueStart(json, length, key);
+        if (i < 0 || i >= length || json[i] < '0' || json[i] > '9') {
+            return -1;
+        }
+
+        long value = 0;
+        int digits = 0;
+        while (i < length && json[i] >= '0' && json[i] <= '9') {
+            if (++digits > 15) {
+                return -1;
+            }
+            value = value * 10 + (json[i++] - '0');
+        }
+        return value;
+    }
+
+    private static int findValueStart(byte[] json, int length, byte[] key) {
+        outer:
+        for (int i = 0; i + key.length < length; i++) {
+            for (int k = 0; k < key.length; k++) {
+                if (json[i + k] != key[k]) {
+                    continue outer;
+                }
+            }
+            // 값 내부에 이스케이프된 문자열("\"sub\"")은 키로 보지 않음
+            if (i > 0 && json[i - 1] == '\\') {
+                continue;
+            }
+
+            int j = skipWhitespace(json, i + key.length, length);
+            if (j < length && json[j] == ':') {
+                return skipWhitespace(json, j + 1, length);
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int from, int length) {
+        int i = from;
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 36자리 UUID 문자열을 long 두 개로 변환하여 out[0], out[1]에 저장
+     */
+    private static boolean parseUuid(byte[] json, int start, int length, long[] out) {
+        if (start < 0 || start + UUID_LENGTH >= length || json[start + UUID_LENGTH] != '"'
+                || json[start + 8] != '-' || json[start + 13] != '-'
+                || json[start + 18] != '-' || json[start + 23] != '-') {
+            return false;
+        }
+
+        long time = parseHex(json, start, 8);
+        long mid = parseHex(json, start + 9, 4);
+        long high = parseHex(json, start + 14, 4);
+        long clock = parseHex(json, start + 19, 4);
+        long node = parseHex(json, start + 24, 12);
+        if (time < 0 || mid < 0 || high < 0 || clock < 0 || node < 0) {
+            return false;
+        }
+
+        out[0] = (time << 32) | (mid << 16) | high;
+        out[1] = (clock << 48) | node;
+        return true;
+    }
+
+    private static long parseHex(byte[] bytes, int from, int count) {
+        long value = 0;
+        for (int i = from; i < from + count; i++) {
+            int b = bytes[i];
+            int digit;
+            if (b >= '0' && b <= '9') {
+                digit = b - '0';
+            } else if (b >= 'a' && b <= 'f') {
+                digit = b - 'a' + 10;
+            } else if (b >= 'A' && b <= 'F') {
+                digit = b - 'A' + 10;
+            } else {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] providedSignature = new byte[SIGNATURE_LENGTH];
+        private final long[] uuid = new long[2];
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.kateboo.cloud.community.security;
+
+import com.kateboo.cloud.community.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해싱/검증을 passwordHashExecutor에서 실행
+ *
+ * Tomcat 요청 스레드는 결과를 기다리기만 하고 CPU는 전용 스레드 수만큼만 사용한다.
+ * 큐가 가득 차면 ServiceUnavailableException(503)으로 즉시 거절한다.
+ *
+ * 메트릭
+ * - password.hash.queue.wait : 큐 대기 시간
+ * - password.hash.duration   : 실제 해싱/검증 시간
+ * - password.hash.rejected   : 큐 초과로 거절된 요청 수
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private static final String OPERATION_ENCODE = "encode";
+    private static final String OPERATION_MATCHES = "matches";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Timer encodeQueueWait;
+    private final Timer matchesQueueWait;
+    private final Timer encodeDuration;
+    private final Timer matchesDuration;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+
+        this.encodeQueueWait = queueWaitTimer(meterRegistry, OPERATION_ENCODE);
+        this.matchesQueueWait = queueWaitTimer(meterRegistry, OPERATION_MATCHES);
+        this.encodeDuration = durationTimer(meterRegistry, OPERATION_ENCODE);
+        this.matchesDuration = durationTimer(meterRegistry, OPERATION_MATCHES);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("비밀번호 해싱 큐 초과로 거절된 요청 수")
+                .register(meterRegistry);
+
+        meterRegistry.gauge("password.hash.queue.size", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeQueueWait, encodeDuration);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesQueueWait, matchesDuration);
+    }
+
+    /**
+     * 저장된 해시의 알고리즘/파라미터가 현재 설정과 다른지 확인 (해싱 없이 문자열만 비교)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task, Timer queueWait, Timer duration) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("비밀번호 해싱 요청 거절: 큐가 가득 참 (queueSize={})",
+                    executor.getThreadPoolExecutor().getQueue().size());
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash.queue.wait")
+                .description("비밀번호 해싱 작업의 큐 대기 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static Timer durationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hash.duration")
+                .description("비밀번호 해싱/검증 소요 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
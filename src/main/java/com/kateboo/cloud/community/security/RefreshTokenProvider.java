@@ -1,12 +1,15 @@
 package com.kateboo.cloud.community.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
@@ -15,14 +18,19 @@ import java.util.UUID;
 @Slf4j
 public class RefreshTokenProvider {
 
-    private final byte[] secretKeyBytes;
+    // 키와 파서는 생성 시 한 번만 만들어 재사용 (JwtParser는 thread-safe)
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long refreshTokenExpiration;
 
     public RefreshTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.refresh-token.expiration}") long refreshTokenExpiration) {
 
-        this.secretKeyBytes = Base64.getDecoder().decode(secret);
+        this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(secret), SignatureAlgorithm.HS256.getJcaName());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.refreshTokenExpiration = refreshTokenExpiration;
 
         log.info("Refresh TokenProvider 초기화 완료 (JJWT 0.11.2 + Base64)");
@@ -36,7 +44,7 @@ public class RefreshTokenProvider {
                 .setSubject(userId.toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(SignatureAlgorithm.HS256, secretKeyBytes)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -56,8 +64,7 @@ public class RefreshTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(secretKeyBytes)
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,163 @@
+package com.kateboo.cloud.community.security;
+
+import com.kateboo.cloud.community.cache.CacheInvalidationListener;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 Access Token(jti)과 탈퇴 처리된 userId를 메모리에 보관
+ *
+ * - 로그아웃 시 해당 Access Token의 jti를 만료 시각까지 보관
+ * - 탈퇴 시 userId와 탈퇴 시각을 Access Token 유효기간(30분) 동안 보관
+ *   → 탈퇴 시각 이전에 발급된 토큰만 거부하므로, 복구 후 재발급된 토큰은 통과
+ *
+ * 필터에서는 Bloom filter로 먼저 확인하고, "있을 수도 있음"일 때만 정확한 Map을 조회한다.
+ * 대부분의 요청(폐기되지 않은 토큰)은 Map 조회와 객체 생성 없이 통과한다.
+ * Bloom filter는 삭제를 지원하지 않으므로 purgeExpired()에서 만료 항목을 지운 뒤 다시 만든다.
+ *
+ * 목록은 노드마다 따로 있으므로 다른 노드의 변경은 캐시 무효화 버스로 받는다.
+ * - ACCESS_TOKEN(jti) : 로그아웃한 토큰 (만료 시각은 메시지에 없으므로 받은 시각 + Access Token 유효기간까지 보관)
+ * - USER(userId)      : 탈퇴/복구일 수 있으므로 primary에서 계정 상태를 읽어 반영 (프로필 변경 등에도 PK 조회 1회)
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry implements CacheInvalidationListener {
+
+    // 토큰 ID와 userId가 같은 값이더라도 서로 다른 비트를 쓰도록 구분
+    private static final long USER_SALT = 0x9E3779B97F4A7C15L;
+
+    private final Map<UUID, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, DeactivatedUser> deactivatedUsers = new ConcurrentHashMap<>();
+
+    private final UserRepository userRepository;
+    private final long accessTokenExpiration;
+    private final int bloomBits;
+
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationRegistry(
+            UserRepository userRepository,
+            @Value("${jwt.access-token.expiration}") long accessTokenExpiration,
+            @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries) {
+        this.userRepository = userRepository;
+        this.accessTokenExpiration = accessTokenExpiration;
+        // 오탐률 약 1% 기준: 항목당 약 9.6비트
+        this.bloomBits = Math.max(1024, expectedEntries * 10);
+        this.bloomFilter = new BloomFilter(bloomBits);
+
+        log.info("토큰 폐기 목록 초기화: bloomBits={}, expectedEntries={}", bloomBits, expectedEntries);
+    }
+
+    /**
+     * VALID 상태의 토큰이 로그아웃/탈퇴로 폐기되었는지 확인
+     */
+    public boolean isRevoked(JwtVerification verification) {
+        return isTokenRevoked(verification) || isUserDeactivated(verification);
+    }
+
+    /**
+     * 로그아웃으로 폐기된 토큰인지 확인
+     */
+    public boolean isTokenRevoked(JwtVerification verification) {
+        return verification.hasTokenId()
+                && bloomFilter.mightContain(verification.tokenIdMostSigBits(), verification.tokenIdLeastSigBits())
+                && revokedTokens.containsKey(verification.tokenId());
+    }
+
+    /**
+     * 탈퇴 시각 이전에 발급된 토큰인지 확인 (복구 요청에서는 필터가 이 검사를 건너뜀)
+     */
+    public boolean isUserDeactivated(JwtVerification verification) {
+        if (!bloomFilter.mightContain(verification.userIdMostSigBits() ^ USER_SALT, verification.userIdLeastSigBits())) {
+            return false;
+        }
+        DeactivatedUser deactivated = deactivatedUsers.get(verification.userId());
+        return deactivated != null
+                && verification.issuedAtSeconds() * 1000L <= deactivated.deactivatedAtMillis();
+    }
+
+    public synchronized void revokeToken(UUID tokenId, Instant expiresAt) {
+        if (expiresAt.isBefore(Instant.now())) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt.toEpochMilli());
+        bloomFilter.put(tokenId.getMostSignificantBits(), tokenId.getLeastSignificantBits());
+        log.debug("Access Token 폐기 등록: jti={}", tokenId);
+    }
+
+    public synchronized void deactivateUser(UUID userId, Instant deactivatedAt) {
+        long deactivatedAtMillis = deactivatedAt.toEpochMilli();
+        deactivatedUsers.put(userId,
+                new DeactivatedUser(deactivatedAtMillis, deactivatedAtMillis + accessTokenExpiration));
+        bloomFilter.put(userId.getMostSignificantBits() ^ USER_SALT, userId.getLeastSignificantBits());
+        log.debug("탈퇴 사용자 토큰 차단 등록: userId={}", userId);
+    }
+
+    /**
+     * 계정 복구 시 호출 (Bloom filter 비트는 다음 purge 때 정리됨)
+     */
+    public void reactivateUser(UUID userId) {
+        deactivatedUsers.remove(userId);
+    }
+
+    /**
+     * 다른 노드의 로그아웃/탈퇴/복구 반영 (이 노드의 변경은 서비스에서 직접 등록)
+     */
+    @Override
+    public void invalidate(CacheRegion region, UUID key, boolean remote) {
+        if (!remote) {
+            return;
+        }
+
+        switch (region) {
+            case ACCESS_TOKEN -> revokeToken(key, Instant.now().plusMillis(accessTokenExpiration));
+            case USER -> userRepository.findStatusByUserId(key).ifPresentOrElse(
+                    status -> {
+                        if (!status.getIsActive() && status.getDeactivatedAt() != null) {
+                            deactivateUser(key, status.getDeactivatedAt());
+                        } else {
+                            reactivateUser(key);
+                        }
+                    },
+                    () -> reactivateUser(key));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 만료된 항목 제거 후 Bloom filter 재구성
+     */
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size() + deactivatedUsers.size();
+
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        deactivatedUsers.values().removeIf(user -> user.expiresAtMillis() < now);
+
+        BloomFilter rebuilt = new BloomFilter(bloomBits);
+        revokedTokens.keySet().forEach(tokenId ->
+                rebuilt.put(tokenId.getMostSignificantBits(), tokenId.getLeastSignificantBits()));
+        deactivatedUsers.keySet().forEach(userId ->
+                rebuilt.put(userId.getMostSignificantBits() ^ USER_SALT, userId.getLeastSignificantBits()));
+        this.bloomFilter = rebuilt;
+
+        return before - (revokedTokens.size() + deactivatedUsers.size());
+    }
+
+    public int size() {
+        return revokedTokens.size() + deactivatedUsers.size();
+    }
+
+    private record DeactivatedUser(long deactivatedAtMillis, long expiresAtMillis) {
+    }
+}
@@ -1,38 +1,55 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheInvalidationBus;
+import com.kateboo.cloud.community.cache.CacheRegion;
 import com.kateboo.cloud.community.dto.request.LoginRequest;
 import com.kateboo.cloud.community.dto.request.SignupRequest;
 import com.kateboo.cloud.community.dto.response.AuthResponse;
-import com.kateboo.cloud.community.entity.RefreshToken;
 import com.kateboo.cloud.community.entity.User;
 import com.kateboo.cloud.community.exception.BadRequestException;
 import com.kateboo.cloud.community.exception.ConflictException;
 import com.kateboo.cloud.community.exception.NotFoundException;
-import com.kateboo.cloud.community.repository.RefreshTokenRepository;
+import com.kateboo.cloud.community.image.ImageVariant;
 import com.kateboo.cloud.community.repository.UserRepository;
 import com.kateboo.cloud.community.security.JwtTokenProvider;
+import com.kateboo.cloud.community.security.JwtVerification;
+import com.kateboo.cloud.community.security.JwtVerifier;
+import com.kateboo.cloud.community.security.PasswordHasher;
+import com.kateboo.cloud.community.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
+/**
+ * 회원가입/로그인/토큰 갱신
+ *
+ * 비밀번호 해싱/검증은 passwordHashExecutor 큐에서 기다릴 수 있으므로 트랜잭션 밖에서 실행하고
+ * (대기/해싱 동안 DB 연결을 잡지 않음), 조회와 쓰기(재해싱 반영, 계정 복구, 토큰 발급)만 짧은 트랜잭션으로 나눔
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserAvailabilityService userAvailabilityService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final PlatformTransactionManager transactionManager;
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(
@@ -40,12 +57,8 @@ public class AuthService {
     );
     private static final Pattern NICKNAME_WHITESPACE_PATTERN = Pattern.compile("\\s");
 
-    @Value("${jwt.refresh-token.expiration}")
-    private long refreshTokenExpiration;
-
     private static final int DEACTIVATION_GRACE_PERIOD_DAYS = 7;
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
     public AuthResponse signup(SignupRequest request) {
         log.info("회원가입 시도 - 이메일: {}, 닉네임: {}", request.getEmail(), request.getNickname());
 
@@ -57,18 +70,25 @@ public class AuthService {
 
         validateNickname(request.getNickname());
 
-        User user = User.builder()
-                .email(request.getEmail().trim())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname().trim())
-                .profileImageUrl(request.getProfileImageUrl().trim())
-                .isActive(true)
-                .build();
-
-        User savedUser = userRepository.save(user);
-        log.info("회원가입 성공 - userId: {}, 이메일: {}", savedUser.getUserId(), savedUser.getEmail());
-
-        return generateAuthResponse(savedUser, false);
+        // 트랜잭션 밖에서 해싱
+        String passwordHash = passwordHasher.encode(request.getPassword());
+
+        return inTransaction(TransactionDefinition.ISOLATION_READ_COMMITTED, status -> {
+            User user = User.builder()
+                    .email(request.getEmail().trim())
+                    .passwordHash(passwordHash)
+                    .nickname(request.getNickname().trim())
+                    .profileImageUrl(request.getProfileImageUrl().trim())
+                    .isActive(true)
+                    .build();
+
+            User savedUser = userRepository.save(user);
+            userAvailabilityService.registerUser(savedUser.getEmail(), savedUser.getNickname());
+            cacheInvalidationBus.publish(CacheRegion.USER, savedUser.getUserId());
+            log.info("회원가입 성공 - userId: {}, 이메일: {}", savedUser.getUserId(), savedUser.getEmail());
+
+            return generateAuthResponse(savedUser, false);
+        });
     }
 
     private void validateProfileImage(String profileImageUrl) {
@@ -98,7 +118,7 @@ public class AuthService {
             throw new BadRequestException("이메일은 254자 이하여야 합니다");
         }
 
-        if (userRepository.existsByEmail(trimmedEmail)) {
+        if (userAvailabilityService.isEmailTaken(trimmedEmail)) {
             log.warn("이메일 중복 감지: {}", trimmedEmail);
             throw new ConflictException("중복된 이메일입니다");
         }
@@ -135,30 +155,37 @@ public class AuthService {
             throw new BadRequestException("닉네임은 최대 10자까지 작성 가능합니다");
         }
 
-        if (userRepository.existsByNickname(trimmedNickname)) {
+        if (userAvailabilityService.isNicknameTaken(trimmedNickname)) {
             log.warn("닉네임 중복 감지: {}", trimmedNickname);
             throw new ConflictException("중복된 닉네임입니다");
         }
     }
 
-    @Transactional
     public AuthResponse login(LoginRequest request) {
         log.info("로그인 시도: email={}", request.getEmail());
 
-        User user = userRepository.findByEmail(request.getEmail())
+        // 1. 짧은 조회 트랜잭션 (가입 직후 로그인이 레플리카 지연에 걸리지 않도록 primary에서 읽음)
+        User user = inTransaction(TransactionDefinition.ISOLATION_DEFAULT, status ->
+                userRepository.findByEmail(request.getEmail()))
                 .orElseThrow(() -> {
                     log.error("로그인 실패: 이메일을 찾을 수 없음 - {}", request.getEmail());
                     return new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다");
                 });
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        // 2. 트랜잭션 밖에서 검증/재해싱
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             log.error("로그인 실패: 비밀번호 불일치 - email={}", request.getEmail());
             throw new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
-        boolean accountRestored = false;
+        // 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 평문을 알고 있는 지금 재해싱
+        String rehashed = passwordHasher.needsRehash(user.getPasswordHash())
+                ? passwordHasher.encode(request.getPassword())
+                : null;
 
-        if (!user.getIsActive()) {
+        boolean accountRestored = !user.getIsActive();
+
+        if (accountRestored) {
             Instant deactivatedAt = user.getDeactivatedAt();
 
             if (deactivatedAt == null) {
@@ -174,87 +201,102 @@ public class AuthService {
                         user.getUserId(), deactivatedAt);
                 throw new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다");
             }
+        }
 
-            log.info("계정 복구 시작: userId={}, email={}, 탈퇴일={}",
-                    user.getUserId(), user.getEmail(), deactivatedAt);
+        // 3. 짧은 쓰기 트랜잭션: 재해싱 반영, 계정 복구, 토큰 발급
+        return inTransaction(TransactionDefinition.ISOLATION_DEFAULT, status -> {
+            User current = userRepository.findById(user.getUserId())
+                    .orElseThrow(() -> new BadRequestException("이메일 또는 비밀번호가 올바르지 않습니다"));
 
-            user.setIsActive(true);
-            user.setDeactivatedAt(null);
-            userRepository.save(user);
+            if (rehashed != null) {
+                current.setPasswordHash(rehashed);
+                log.info("비밀번호 재해싱: userId={}", current.getUserId());
+            }
 
-            accountRestored = true;
+            if (accountRestored && !current.getIsActive()) {
+                log.info("계정 복구 시작: userId={}, email={}, 탈퇴일={}",
+                        current.getUserId(), current.getEmail(), current.getDeactivatedAt());
 
-            log.info("계정 복구 완료: userId={}, email={}", user.getUserId(), user.getEmail());
-        }
+                current.setIsActive(true);
+                current.setDeactivatedAt(null);
+                tokenRevocationRegistry.reactivateUser(current.getUserId());
+                cacheInvalidationBus.publish(CacheRegion.USER, current.getUserId());
 
-        log.info("로그인 성공: userId={}, email={}", user.getUserId(), user.getEmail());
+                log.info("계정 복구 완료: userId={}, email={}", current.getUserId(), current.getEmail());
+            }
 
-        return generateAuthResponse(user, accountRestored);
+            log.info("로그인 성공: userId={}, email={}", current.getUserId(), current.getEmail());
+
+            return generateAuthResponse(userRepository.save(current), accountRestored);
+        });
     }
 
-    @Transactional
+    @Transactional(noRollbackFor = BadRequestException.class)
     public AuthResponse refresh(String refreshTokenValue) {
         log.info("토큰 갱신 요청");
 
-        RefreshToken refreshToken = refreshTokenRepository
-                .findByToken(refreshTokenValue)
-                .orElseThrow(() -> {
-                    log.warn("유효하지 않은 RefreshToken");
-                    return new NotFoundException("유효하지 않은 RefreshToken입니다");
-                });
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshTokenValue);
 
-        if (refreshToken.getExpiresAt().isBefore(Instant.now())) {
-            log.warn("만료된 RefreshToken: userId={}", refreshToken.getUser().getUserId());
-            refreshTokenRepository.delete(refreshToken);
-            throw new BadRequestException("만료된 RefreshToken입니다");
-        }
+        RefreshTokenStore.Owner owner = rotation.owner();
 
-        if (refreshToken.getRevokedAt() != null) {
-            log.warn("취소된 RefreshToken: userId={}", refreshToken.getUser().getUserId());
-            throw new BadRequestException("취소된 RefreshToken입니다");
-        }
-
-        User user = refreshToken.getUser();
+        String accessToken = jwtTokenProvider.generateToken(owner.userId(), owner.email());
 
-        refreshTokenRepository.delete(refreshToken);
+        log.info("토큰 갱신 성공: userId={}", owner.userId());
 
-        log.info("토큰 갱신 성공: userId={}", user.getUserId());
-
-        return generateAuthResponse(user, false);
+        return AuthResponse.builder()
+                .accessToken(accessToken)
+                .refreshToken(rotation.refreshToken())
+                .userId(owner.userId())
+                .email(owner.email())
+                .nickname(owner.nickname())
+                .profileImageUrl(owner.profileImageUrl())
+                .profileThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(owner.profileImageUrl()))
+                .accountRestored(false)
+                .build();
     }
 
     @Transactional
     public void logout(String refreshTokenValue) {
+        logout(refreshTokenValue, null);
+    }
+
+    @Transactional
+    public void logout(String refreshTokenValue, String accessToken) {
+        revokeAccessToken(accessToken);
+
         if (refreshTokenValue == null || refreshTokenValue.isEmpty()) {
             log.warn("로그아웃 시도: Refresh Token 없음");
             return;
         }
 
-        RefreshToken refreshToken = refreshTokenRepository
-                .findByToken(refreshTokenValue)
-                .orElse(null);
-
-        if (refreshToken != null) {
-            refreshToken.setRevokedAt(Instant.now());
-            log.info("로그아웃: userId={}", refreshToken.getUser().getUserId());
+        if (refreshTokenStore.revoke(refreshTokenValue)) {
+            log.info("로그아웃: Refresh Token 취소");
         } else {
             log.warn("로그아웃 시도: 유효하지 않은 Refresh Token");
         }
     }
 
-    private AuthResponse generateAuthResponse(User user, boolean accountRestored) {
+    private void revokeAccessToken(String accessToken) {
+        if (accessToken == null || accessToken.isEmpty()) {
+            return;
+        }
 
-        String accessToken = jwtTokenProvider.generateToken(user.getUserId(), user.getEmail());
+        JwtVerification verification = jwtVerifier.verify(accessToken);
+        if (verification.isValid() && verification.hasTokenId()) {
+            tokenRevocationRegistry.revokeToken(
+                    verification.tokenId(),
+                    Instant.ofEpochSecond(verification.expiresAtSeconds()));
+            // 다른 노드의 폐기 목록에도 등록
+            cacheInvalidationBus.publish(CacheRegion.ACCESS_TOKEN, verification.tokenId());
+            log.info("Access Token 폐기: userId={}", verification.userId());
+        }
+    }
 
-        String refreshTokenValue = UUID.randomUUID().toString();
+    private AuthResponse generateAuthResponse(User user, boolean accountRestored) {
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .token(refreshTokenValue)
-                .user(user)
-                .expiresAt(Instant.now().plusSeconds(refreshTokenExpiration / 1000))
-                .build();
+        String accessToken = jwtTokenProvider.generateToken(user.getUserId(), user.getEmail());
 
-        refreshTokenRepository.save(refreshToken);
+        String refreshTokenValue = refreshTokenStore.issue(user);
 
         log.info("토큰 발급: userId={}, accountRestored={}", user.getUserId(), accountRestored);
 
@@ -265,10 +307,17 @@ public class AuthService {
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(user.getProfileImageUrl()))
                 .accountRestored(accountRestored)
                 .build();
     }
 
+    private <T> T inTransaction(int isolationLevel, TransactionCallback<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(isolationLevel);
+        return template.execute(action);
+    }
+
     public User getUserById(UUID userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
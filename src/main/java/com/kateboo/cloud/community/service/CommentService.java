@@ -1,8 +1,11 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.event.DomainEventType;
+import com.kateboo.cloud.community.event.OutboxPublisher;
 import com.kateboo.cloud.community.dto.request.CommentRequest;
 import com.kateboo.cloud.community.dto.response.CommentResponse;
 import com.kateboo.cloud.community.dto.response.PageResponse;
+import com.kateboo.cloud.community.dto.response.UserSummaryResponse;
 import com.kateboo.cloud.community.entity.Comment;
 import com.kateboo.cloud.community.entity.Post;
 import com.kateboo.cloud.community.entity.User;
@@ -10,7 +13,7 @@ import com.kateboo.cloud.community.exception.NotFoundException;
 import com.kateboo.cloud.community.exception.ForbiddenException;
 import com.kateboo.cloud.community.repository.CommentRepository;
 import com.kateboo.cloud.community.repository.PostRepository;
-import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -29,11 +33,18 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserContext currentUserContext;
+    private final UserSummaryCache userSummaryCache;
+    private final OutboxPublisher outboxPublisher;
 
     public PageResponse<CommentResponse> getComments(UUID postId, Pageable pageable) {
         Page<Comment> comments = commentRepository.findByPost_PostId(postId, pageable);
-        return PageResponse.of(comments, CommentResponse::from);
+
+        Map<UUID, UserSummaryResponse> authors = userSummaryCache.getAll(
+                comments.getContent().stream().map(comment -> comment.getUser().getUserId()).toList());
+
+        return PageResponse.of(comments,
+                comment -> CommentResponse.from(comment, authors.get(comment.getUser().getUserId())));
     }
 
     @Transactional
@@ -41,8 +52,7 @@ public class CommentService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getReference(userId);
 
         Comment comment = Comment.builder()
                 .body(request.getBody())
@@ -53,11 +63,13 @@ public class CommentService {
         Comment savedComment = commentRepository.save(comment);
 
         post.getPostStats().incrementCommentCount();
+        outboxPublisher.append(DomainEventType.COMMENT_CREATED, postId,
+                Map.of("commentId", savedComment.getCommentId(), "userId", userId));
 
         log.info("댓글 작성 완료: commentId={}, postId={}, userId={}",
                 savedComment.getCommentId(), postId, userId);
 
-        return CommentResponse.from(savedComment);
+        return CommentResponse.from(savedComment, userSummaryCache.summaryOf(user));
     }
 
     @Transactional
@@ -71,10 +83,13 @@ public class CommentService {
 
         comment.setBody(request.getBody());
         comment.setUpdatedAt(Instant.now());
+        outboxPublisher.append(DomainEventType.COMMENT_UPDATED, comment.getPost().getPostId(),
+                Map.of("commentId", commentId, "userId", userId));
 
         log.info("댓글 수정 완료: commentId={}, userId={}", commentId, userId);
 
-        return CommentResponse.from(comment);
+        // 요청 안에서 현재 사용자를 이미 읽었다면 작성자 연관은 같은 엔티티이므로 SELECT 없이 요약을 만듦
+        return CommentResponse.from(comment, userSummaryCache.summaryOf(comment.getUser()));
     }
 
     @Transactional
@@ -90,6 +105,8 @@ public class CommentService {
         commentRepository.delete(comment);
 
         post.getPostStats().decrementCommentCount();
+        outboxPublisher.append(DomainEventType.COMMENT_DELETED, post.getPostId(),
+                Map.of("commentId", commentId, "userId", userId));
 
         log.info("댓글 삭제 완료: commentId={}, postId={}, userId={}",
                 commentId, post.getPostId(), userId);
@@ -1,27 +1,36 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheInvalidationBus;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.event.DomainEventType;
+import com.kateboo.cloud.community.event.OutboxPublisher;
 import com.kateboo.cloud.community.dto.request.PostRequest;
 import com.kateboo.cloud.community.dto.response.LikeResponse;
 import com.kateboo.cloud.community.dto.response.PageResponse;
 import com.kateboo.cloud.community.dto.response.PostResponse;
+import com.kateboo.cloud.community.dto.response.UserSummaryResponse;
 import com.kateboo.cloud.community.entity.*;
 import com.kateboo.cloud.community.exception.BadRequestException;
 import com.kateboo.cloud.community.exception.ForbiddenException;
 import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.image.ImageAssetService;
 import com.kateboo.cloud.community.repository.PostLikeRepository;
 import com.kateboo.cloud.community.repository.PostRepository;
-import com.kateboo.cloud.community.repository.PostStatsRepository;
-import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.CurrentUserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,9 +41,13 @@ import java.util.UUID;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final PostStatsRepository postStatsRepository;
-    private final UserRepository userRepository;
+    private final PostViewCounter postViewCounter;
+    private final CurrentUserContext currentUserContext;
     private final PostLikeRepository postLikeRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final OutboxPublisher outboxPublisher;
+    private final ImageAssetService imageAssetService;
 
 
     @Transactional(readOnly = true)
@@ -54,7 +67,11 @@ public class PostService {
                 break;
         }
 
-        return PageResponse.of(posts, PostResponse::from);
+        // 작성자 ID는 프록시에서 꺼내므로 users 조회 없음, 요약 정보는 캐시 미스만 IN 쿼리 1회
+        Map<UUID, UserSummaryResponse> authors = userSummaryCache.getAll(
+                posts.getContent().stream().map(post -> post.getUser().getUserId()).toList());
+
+        return PageResponse.of(posts, post -> PostResponse.from(post, authors.get(post.getUser().getUserId())));
     }
 
     @Transactional
@@ -62,8 +79,8 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
 
-        this.incrementViewCountAsync(postId);
-        return PostResponse.from(post);
+        postViewCounter.incrementAsync(postId);
+        return PostResponse.from(post, userSummaryCache.get(post.getUser().getUserId()));
     }
 
     @Transactional
@@ -75,8 +92,7 @@ public class PostService {
             throw new BadRequestException("제목은 최대 26자까지 가능합니다");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getReference(userId);
 
         Post post = Post.builder()
                 .title(request.getTitle())
@@ -101,12 +117,14 @@ public class PostService {
                         .build();
                 post.getPostImages().add(image);
             }
+            imageAssetService.applyTo(post.getPostImages());
         }
 
         Post savedPost = postRepository.save(post);
+        outboxPublisher.append(DomainEventType.POST_CREATED, savedPost.getPostId(), Map.of("userId", userId));
         log.info("게시글 작성 완료: postId={}, userId={}", savedPost.getPostId(), userId);
 
-        return PostResponse.from(savedPost);
+        return PostResponse.from(savedPost, userSummaryCache.summaryOf(user));
     }
 
     @Transactional
@@ -123,21 +141,59 @@ public class PostService {
         post.setUpdatedAt(Instant.now());
 
         if (request.getImageUrls() != null) {
-            post.getPostImages().clear();
-            postRepository.flush();
-            for (int i = 0; i < request.getImageUrls().size(); i++) {
-                PostImage image = PostImage.builder()
-                        .imageUrl(request.getImageUrls().get(i))
+            reconcileImages(post, request.getImageUrls());
+        }
+
+        cacheInvalidationBus.publish(CacheRegion.POST, postId);
+        outboxPublisher.append(DomainEventType.POST_UPDATED, postId, Map.of("userId", userId));
+        log.info("게시글 수정 완료: postId={}, userId={}", postId, userId);
+
+        // 요청 안에서 현재 사용자를 이미 읽었다면 작성자 연관은 같은 엔티티이므로 SELECT 없이 요약을 만듦
+        return PostResponse.from(post, userSummaryCache.summaryOf(post.getUser()));
+    }
+
+    /**
+     * 요청한 이미지 목록과 기존 행을 비교하여 차이만 반영
+     * - 같은 URL의 기존 행은 그대로 두고 order_no만 필요한 경우 UPDATE
+     * - 빠진 행은 orphanRemoval로 DELETE, 새 URL만 INSERT (모두 flush 때 JDBC 배치)
+     * - 목록이 같으면 컬렉션을 건드리지 않음 → SQL 없음, 캐시된 이미지 목록도 유지
+     * - 새 행에만 업로드 시 기록한 크기/BlurHash 복사
+     */
+    private void reconcileImages(Post post, List<String> imageUrls) {
+        List<PostImage> images = post.getPostImages();
+
+        // 같은 URL이 여러 번 있으면 기존 순서대로 하나씩 재사용
+        Map<String, Deque<PostImage>> existing = new HashMap<>();
+        for (PostImage image : images) {
+            existing.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        List<PostImage> reconciled = new ArrayList<>(imageUrls.size());
+        List<PostImage> added = new ArrayList<>();
+        for (int i = 0; i < imageUrls.size(); i++) {
+            String imageUrl = imageUrls.get(i);
+            Deque<PostImage> candidates = existing.get(imageUrl);
+            PostImage image = candidates == null ? null : candidates.poll();
+
+            if (image == null) {
+                image = PostImage.builder()
+                        .imageUrl(imageUrl)
                         .orderNo(i)
                         .post(post)
                         .build();
-                post.getPostImages().add(image);
+                added.add(image);
+            } else if (image.getOrderNo() != i) {
+                image.setOrderNo(i);
             }
+            reconciled.add(image);
         }
 
-        log.info("게시글 수정 완료: postId={}, userId={}", postId, userId);
-
-        return PostResponse.from(post);
+        if (reconciled.equals(images)) {
+            return;
+        }
+        imageAssetService.applyTo(added);
+        images.clear();
+        images.addAll(reconciled);
     }
 
     @Transactional
@@ -150,6 +206,8 @@ public class PostService {
         }
 
         postRepository.delete(post);
+        cacheInvalidationBus.publish(CacheRegion.POST, postId);
+        outboxPublisher.append(DomainEventType.POST_DELETED, postId, Map.of("userId", userId));
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, userId);
     }
 
@@ -158,8 +216,7 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getReference(userId);
 
         Optional<PostLike> existingLike = postLikeRepository
                 .findByPost_PostIdAndUser_UserId(postId, userId);
@@ -182,6 +239,8 @@ public class PostService {
             log.info("좋아요 등록: userId={}, postId={}", userId, postId);
         }
 
+        outboxPublisher.append(isLiked ? DomainEventType.POST_LIKED : DomainEventType.POST_UNLIKED,
+                postId, Map.of("userId", userId));
         int likesCount = post.getPostStats().getLikesCount();
 
         return LikeResponse.builder()
@@ -189,16 +248,4 @@ public class PostService {
                 .likesCount(likesCount)
                 .build();
     }
-
-    @Async("viewCountExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void incrementViewCountAsync(UUID postId){
-        try{
-            postStatsRepository.incrementViewsCount(postId);
-            log.debug("조회수 증가 완료: postId={}", postId);
-        } catch(Exception e){
-            log.error("조회수 증가 실패: postId={}, error={}", postId, e.getMessage());
-        }
-    }
-
 }
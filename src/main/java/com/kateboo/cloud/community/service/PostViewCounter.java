@@ -0,0 +1,36 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.repository.PostStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 게시글 조회수 증가 (viewCountExecutor에서 비동기 실행)
+ *
+ * @Async/@Transactional은 프록시를 거쳐야 적용되므로 PostService 안의 자기 호출 대신 별도 빈으로 둠
+ * 조회 응답은 증가를 기다리지 않고, 실패해도 로그만 남김
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+
+    private final PostStatsRepository postStatsRepository;
+
+    @Async("viewCountExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void incrementAsync(UUID postId) {
+        try {
+            postStatsRepository.incrementViewsCount(postId);
+            log.debug("조회수 증가 완료: postId={}", postId);
+        } catch (Exception e) {
+            log.error("조회수 증가 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.repository.RefreshTokenRepository;
+import com.kateboo.cloud.community.repository.RefreshTokenRepository.PurgeKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 만료/취소된 Refresh Token 정리
+ *
+ * - expires_at / revoked_at 인덱스 순서로 keyset 페이지네이션 → 테이블 전체 스캔 없음
+ * - 배치마다 짧은 트랜잭션으로 삭제하고 batch-pause만큼 쉬어서 로그인/갱신 쿼리와 락 경합을 줄임
+ * - 취소된 토큰은 재사용 감지 응답을 위해 revoked-retention 동안 남겨둠
+ *
+ * 메트릭
+ * - refresh.token.purge.deleted{reason} : 삭제된 행 수
+ * - refresh.token.purge.duration        : 1회 정리 소요 시간
+ */
+@Service
+@Slf4j
+public class RefreshTokenPurgeService {
+
+    private static final Long MIN_ID = 0L;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final int maxBatches;
+    private final long revokedRetentionMillis;
+
+    private final Counter expiredDeleted;
+    private final Counter revokedDeleted;
+    private final Timer duration;
+
+    public RefreshTokenPurgeService(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token.purge.batch-size:500}") int batchSize,
+            @Value("${jwt.refresh-token.purge.batch-pause:100}") long batchPauseMillis,
+            @Value("${jwt.refresh-token.purge.max-batches:200}") int maxBatches,
+            @Value("${jwt.refresh-token.purge.revoked-retention:86400000}") long revokedRetentionMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.maxBatches = maxBatches;
+        this.revokedRetentionMillis = revokedRetentionMillis;
+
+        this.expiredDeleted = deletedCounter(meterRegistry, "expired");
+        this.revokedDeleted = deletedCounter(meterRegistry, "revoked");
+        this.duration = Timer.builder("refresh.token.purge.duration")
+                .description("Refresh Token 정리 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 토큰과 보관 기간이 지난 취소 토큰 삭제, 삭제한 총 건수 반환
+     */
+    public int purge() {
+        return duration.record(() -> {
+            Instant now = Instant.now();
+
+            int expired = purge(Target.EXPIRED, now, expiredDeleted);
+            int revoked = purge(Target.REVOKED, now.minusMillis(revokedRetentionMillis), revokedDeleted);
+
+            if (expired + revoked > 0) {
+                log.info("Refresh Token 정리 완료: 만료 {} 건, 취소 {} 건", expired, revoked);
+            }
+            return expired + revoked;
+        });
+    }
+
+    private int purge(Target target, Instant before, Counter counter) {
+        PageRequest page = PageRequest.ofSize(batchSize);
+        Instant afterAt = Instant.EPOCH;
+        Long afterId = MIN_ID;
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<PurgeKey> keys = target == Target.EXPIRED
+                    ? refreshTokenRepository.findExpiredKeys(before, afterAt, afterId, page)
+                    : refreshTokenRepository.findRevokedKeys(before, afterAt, afterId, page);
+
+            if (keys.isEmpty()) {
+                return total;
+            }
+
+            int deleted = refreshTokenRepository.deleteByRefreshIdIn(
+                    keys.stream().map(PurgeKey::getRefreshId).toList());
+            counter.increment(deleted);
+            total += deleted;
+
+            PurgeKey last = keys.get(keys.size() - 1);
+            afterAt = last.getCursorAt();
+            afterId = last.getRefreshId();
+
+            if (keys.size() < batchSize || !pause()) {
+                return total;
+            }
+        }
+
+        log.warn("Refresh Token 정리 배치 한도 도달: target={}, 삭제 {} 건 (다음 실행에서 계속)", target, total);
+        return total;
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Refresh Token 정리 중단");
+            return false;
+        }
+    }
+
+    private static Counter deletedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("refresh.token.purge.deleted")
+                .description("정리된 Refresh Token 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private enum Target {
+        EXPIRED,
+        REVOKED
+    }
+}
@@ -0,0 +1,213 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.cache.CacheInvalidationListener;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.entity.RefreshToken;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.exception.BadRequestException;
+import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh Token 저장소
+ *
+ * - DB에는 원문 토큰 대신 SHA-256 digest(BINARY(32))만 저장
+ * - 토큰 교체는 조건부 UPDATE 한 번으로 처리 (조회 → 삭제 → 저장 불필요)
+ * - 발급/교체 직후의 토큰은 소유자 정보를 메모리에 짧게 보관 → 정상 갱신은 UPDATE 1회, 캐시 미스여도 SELECT 1회 추가
+ * - 이미 교체된 토큰(previous_token_hash)이 다시 들어오면 재사용(탈취 또는 동시 갱신)으로 보고 해당 토큰을 취소
+ */
+@Service
+@Slf4j
+public class RefreshTokenStore implements CacheInvalidationListener {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<String, LiveToken> liveTokens = new ConcurrentHashMap<>();
+
+    private final long refreshTokenExpiration;
+    private final long cacheTtlMillis;
+    private final int cacheMaxEntries;
+
+    public RefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${jwt.refresh-token.expiration}") long refreshTokenExpiration,
+            @Value("${jwt.refresh-token.cache.ttl:600000}") long cacheTtlMillis,
+            @Value("${jwt.refresh-token.cache.max-entries:10000}") int cacheMaxEntries) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.cacheTtlMillis = cacheTtlMillis;
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    /**
+     * 새 Refresh Token 발급 후 원문 토큰 반환 (원문은 응답으로만 전달되고 저장되지 않음)
+     */
+    @Transactional
+    public String issue(User user) {
+        String token = newToken();
+        byte[] tokenHash = digest(token);
+        Instant expiresAt = Instant.now().plusMillis(refreshTokenExpiration);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .user(user)
+                .expiresAt(expiresAt)
+                .build());
+
+        cache(tokenHash, new Owner(user.getUserId(), user.getEmail(), user.getNickname(), user.getProfileImageUrl()), expiresAt);
+        return token;
+    }
+
+    /**
+     * 토큰 교체
+     * 성공 시 UPDATE 1회 (+ 캐시 미스면 소유자 SELECT 1회)
+     * 실패 시에만 원인 확인을 위한 조회를 추가로 수행
+     */
+    @Transactional(noRollbackFor = BadRequestException.class)
+    public Rotation rotate(String token) {
+        byte[] oldHash = digest(token);
+        String newToken = newToken();
+        byte[] newHash = digest(newToken);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusMillis(refreshTokenExpiration);
+
+        int updated = refreshTokenRepository.rotate(oldHash, newHash, expiresAt, now);
+        LiveToken cached = liveTokens.remove(HEX.formatHex(oldHash));
+
+        if (updated == 0) {
+            throw rejection(oldHash, now);
+        }
+
+        Owner owner;
+        if (cached != null && cached.cachedUntilMillis() >= System.currentTimeMillis()) {
+            owner = cached.owner();
+        } else {
+            owner = refreshTokenRepository.findOwnerByTokenHash(newHash)
+                    .map(found -> new Owner(found.getUserId(), found.getEmail(),
+                            found.getNickname(), found.getProfileImageUrl()))
+                    .orElseThrow(() -> new IllegalStateException("교체된 RefreshToken을 찾을 수 없습니다."));
+        }
+
+        cache(newHash, owner, expiresAt);
+        return new Rotation(newToken, owner);
+    }
+
+    /**
+     * 로그아웃: UPDATE 1회로 취소, 취소된 토큰이 있으면 true
+     */
+    @Transactional
+    public boolean revoke(String token) {
+        byte[] tokenHash = digest(token);
+        liveTokens.remove(HEX.formatHex(tokenHash));
+        return refreshTokenRepository.revokeByTokenHash(tokenHash, Instant.now()) > 0;
+    }
+
+    /**
+     * 회원 탈퇴/삭제 시 해당 사용자의 모든 Refresh Token 삭제
+     */
+    @Transactional
+    public void deleteAllForUser(UUID userId) {
+        refreshTokenRepository.deleteByUser_UserId(userId);
+        evictUser(userId);
+    }
+
+    /**
+     * 닉네임/프로필 이미지 변경 시 캐시된 소유자 정보 제거
+     */
+    public void evictUser(UUID userId) {
+        liveTokens.values().removeIf(live -> live.owner().userId().equals(userId));
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID key, boolean remote) {
+        if (region == CacheRegion.USER) {
+            evictUser(key);
+        }
+    }
+
+    private RuntimeException rejection(byte[] tokenHash, Instant now) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashOrPreviousTokenHash(tokenHash)
+                .orElse(null);
+
+        if (refreshToken == null) {
+            log.warn("유효하지 않은 RefreshToken");
+            return new NotFoundException("유효하지 않은 RefreshToken입니다");
+        }
+
+        if (!MessageDigest.isEqual(refreshToken.getTokenHash(), tokenHash)) {
+            // 이미 교체된 토큰의 재사용: 동시 갱신 또는 탈취된 토큰 → 현재 토큰까지 취소
+            refreshTokenRepository.revokeById(refreshToken.getRefreshId(), now);
+            liveTokens.remove(HEX.formatHex(refreshToken.getTokenHash()));
+            log.warn("교체된 RefreshToken 재사용 감지, 토큰 취소: refreshId={}", refreshToken.getRefreshId());
+            return new BadRequestException("취소된 RefreshToken입니다");
+        }
+
+        if (refreshToken.getRevokedAt() != null) {
+            log.warn("취소된 RefreshToken: refreshId={}", refreshToken.getRefreshId());
+            return new BadRequestException("취소된 RefreshToken입니다");
+        }
+
+        if (!refreshToken.getExpiresAt().isAfter(now)) {
+            log.warn("만료된 RefreshToken: refreshId={}", refreshToken.getRefreshId());
+            return new BadRequestException("만료된 RefreshToken입니다");
+        }
+
+        // 같은 토큰으로 동시에 들어온 다른 요청이 먼저 교체한 경우
+        log.warn("RefreshToken 교체 경합: refreshId={}", refreshToken.getRefreshId());
+        return new BadRequestException("취소된 RefreshToken입니다");
+    }
+
+    private void cache(byte[] tokenHash, Owner owner, Instant expiresAt) {
+        long now = System.currentTimeMillis();
+        if (liveTokens.size() >= cacheMaxEntries) {
+            liveTokens.values().removeIf(live -> live.cachedUntilMillis() < now);
+            if (liveTokens.size() >= cacheMaxEntries) {
+                return;
+            }
+        }
+        long cachedUntil = Math.min(now + cacheTtlMillis, expiresAt.toEpochMilli());
+        liveTokens.put(HEX.formatHex(tokenHash), new LiveToken(owner, cachedUntil));
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return TOKEN_ENCODER.encodeToString(bytes);
+    }
+
+    static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record Owner(UUID userId, String email, String nickname, String profileImageUrl) {
+    }
+
+    public record Rotation(String refreshToken, Owner owner) {
+    }
+
+    private record LiveToken(Owner owner, long cachedUntilMillis) {
+    }
+}
@@ -0,0 +1,272 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.cache.CacheInvalidationListener;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.dto.response.AvailabilityResponse;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 확인
+ *
+ * 필드별 Bloom filter를 메모리에 두고, "없음"이 확실하면 DB 조회 없이 사용 가능으로 응답한다.
+ * "있을 수도 있음"일 때만 existsByEmail/existsByNickname으로 확인한다.
+ *
+ * - 기동 시 users 테이블을 스트리밍하여 구성
+ * - 회원가입/닉네임 변경 시 즉시 추가하고 커밋 후 한 번 더 추가 (롤백되어도 오탐만 늘 뿐 결과는 정확함)
+ * - 재구성은 조회 시작 전부터 교체까지 추가된 값을 기록해 두었다가 교체 직전에 새 필터에도 넣음
+ *   (조회 스냅샷에 없는 값이 새 필터에서 빠져 "사용 가능"으로 잘못 응답하지 않도록)
+ * - 필터는 노드마다 따로 있으므로 다른 노드의 가입/닉네임 변경은 캐시 무효화 버스(USER)로 받아
+ *   primary에서 현재 이메일/닉네임을 읽어 추가 (메시지가 도착하기 전까지는 "사용 가능"으로 잘못 응답할 수 있으나,
+ *   가입/변경 시점의 중복은 DB의 UNIQUE 제약이 막음)
+ * - Bloom filter는 삭제를 지원하지 않으므로, 영구 삭제/닉네임 변경으로 빠진 값은 stale로 세어두고
+ *   rebuildIfStale()에서 다시 구성
+ * - MySQL의 기본 collation은 대소문자를 구분하지 않으므로 소문자로 정규화한 값을 넣음
+ */
+@Service
+@Slf4j
+public class UserAvailabilityService implements CacheInvalidationListener {
+
+    private final UserRepository userRepository;
+    private final int expectedEntries;
+
+    // 구성 전(null)에는 모든 값을 "있을 수도 있음"으로 취급 → DB로 확인
+    private volatile Filters filters;
+    // 재구성 중에 추가된 값 (재구성 중이 아니면 null), addLock으로 보호
+    private List<Consumer<Filters>> pendingAdds;
+    private final AtomicInteger staleEntries = new AtomicInteger();
+    // synchronized는 JDBC 대기 중 가상 스레드를 carrier에 고정시키므로 Lock 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 값 추가와 필터 교체를 직렬화 (재구성 전체가 아니라 교체 순간만 잡으므로 가입이 재구성을 기다리지 않음)
+    private final ReentrantLock addLock = new ReentrantLock();
+
+    private final Counter bloomNegative;
+    private final Counter databaseChecked;
+
+    public UserAvailabilityService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.availability.expected-entries:100000}") int expectedEntries) {
+        this.userRepository = userRepository;
+        this.expectedEntries = expectedEntries;
+
+        this.bloomNegative = checkCounter(meterRegistry, "bloom");
+        this.databaseChecked = checkCounter(meterRegistry, "database");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        rebuild();
+    }
+
+    public boolean isEmailTaken(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails.mightContain(normalize(email))) {
+            bloomNegative.increment();
+            return false;
+        }
+        databaseChecked.increment();
+        return userRepository.existsByEmail(email);
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        Filters current = filters;
+        if (current != null && !current.nicknames.mightContain(normalize(nickname))) {
+            bloomNegative.increment();
+            return false;
+        }
+        databaseChecked.increment();
+        return userRepository.existsByNickname(nickname);
+    }
+
+    /**
+     * 입력된 필드만 확인 (입력하지 않은 필드는 null)
+     */
+    public AvailabilityResponse checkAvailability(String email, String nickname) {
+        Boolean emailAvailable = isBlank(email) ? null : !isEmailTaken(email.trim());
+        Boolean nicknameAvailable = isBlank(nickname) ? null : !isNicknameTaken(nickname.trim());
+
+        return new AvailabilityResponse(emailAvailable, nicknameAvailable);
+    }
+
+    public void registerUser(String email, String nickname) {
+        addEmail(email);
+        addNickname(nickname);
+    }
+
+    /**
+     * 닉네임 변경: 새 닉네임 추가, 이전 닉네임은 다음 재구성 때 제거
+     */
+    public void changeNickname(String newNickname) {
+        addNickname(newNickname);
+        staleEntries.incrementAndGet();
+    }
+
+    /**
+     * 영구 삭제: 이메일/닉네임은 다음 재구성 때 제거
+     */
+    public void markUserRemoved() {
+        staleEntries.addAndGet(2);
+    }
+
+    /**
+     * 다른 노드의 가입/닉네임 변경/영구 삭제 반영 (이 노드의 변경은 서비스에서 직접 등록)
+     */
+    @Override
+    public void invalidate(CacheRegion region, UUID key, boolean remote) {
+        if (!remote || region != CacheRegion.USER) {
+            return;
+        }
+
+        userRepository.findIdentifiersByUserId(key).ifPresentOrElse(
+                user -> {
+                    addEmail(user.getEmail());
+                    addNickname(user.getNickname());
+                },
+                this::markUserRemoved);
+    }
+
+    /**
+     * 빠진 값이 있을 때만 다시 구성 (영구 삭제 스케줄 이후 호출)
+     */
+    @Transactional(readOnly = true)
+    public void rebuildIfStale() {
+        if (staleEntries.get() > 0) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            int stale = staleEntries.get();
+            // 첫 조회(스냅샷) 전에 기록을 시작해야 스냅샷 이후 커밋된 값도 놓치지 않음
+            setPendingAdds(new ArrayList<>());
+            int count = 0;
+            int size;
+
+            try {
+                size = Math.max(expectedEntries, (int) Math.min(Integer.MAX_VALUE / 20, userRepository.count() * 2));
+                Filters rebuilt = new Filters(size);
+
+                try (Stream<UserRepository.UserIdentifiers> users = userRepository.streamAllIdentifiers()) {
+                    for (UserRepository.UserIdentifiers user : (Iterable<UserRepository.UserIdentifiers>) users::iterator) {
+                        rebuilt.emails.put(normalize(user.getEmail()));
+                        rebuilt.nicknames.put(normalize(user.getNickname()));
+                        count++;
+                    }
+                }
+
+                addLock.lock();
+                try {
+                    pendingAdds.forEach(add -> add.accept(rebuilt));
+                    filters = rebuilt;
+                } finally {
+                    addLock.unlock();
+                }
+                staleEntries.addAndGet(-stale);
+            } finally {
+                setPendingAdds(null);
+            }
+
+            log.info("이메일/닉네임 Bloom filter 구성 완료: 사용자 {} 명, size={}, {}ms",
+                    count, size, System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void addEmail(String email) {
+        String value = normalize(email);
+        addNowAndAfterCommit(target -> target.emails.put(value));
+    }
+
+    private void addNickname(String nickname) {
+        String value = normalize(nickname);
+        addNowAndAfterCommit(target -> target.nicknames.put(value));
+    }
+
+    // 커밋 전에 시작된 재구성의 스냅샷에는 이 값이 없을 수 있으므로 커밋 후 한 번 더 추가
+    private void addNowAndAfterCommit(Consumer<Filters> add) {
+        apply(add);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(add);
+                }
+            });
+        }
+    }
+
+    private void apply(Consumer<Filters> add) {
+        addLock.lock();
+        try {
+            Filters current = filters;
+            if (current != null) {
+                add.accept(current);
+            }
+            if (pendingAdds != null) {
+                pendingAdds.add(add);
+            }
+        } finally {
+            addLock.unlock();
+        }
+    }
+
+    private void setPendingAdds(List<Consumer<Filters>> adds) {
+        addLock.lock();
+        try {
+            pendingAdds = adds;
+        } finally {
+            addLock.unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("user.availability.check")
+                .description("이메일/닉네임 중복 확인 횟수 (bloom: DB 조회 없이 응답)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter nicknames;
+
+        private Filters(int expectedEntries) {
+            this.emails = BloomFilter.forEntries(expectedEntries);
+            this.nicknames = BloomFilter.forEntries(expectedEntries);
+        }
+    }
+}
@@ -1,22 +1,33 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheInvalidationBus;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.event.DomainEventType;
+import com.kateboo.cloud.community.event.OutboxPublisher;
 import com.kateboo.cloud.community.dto.request.PasswordChangeRequest;
 import com.kateboo.cloud.community.dto.request.ProfileUpdateRequest;
 import com.kateboo.cloud.community.dto.response.UserResponse;
 import com.kateboo.cloud.community.entity.User;
 import com.kateboo.cloud.community.exception.BadRequestException;
 import com.kateboo.cloud.community.exception.NotFoundException;
-import com.kateboo.cloud.community.repository.RefreshTokenRepository;
 import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.CurrentUserContext;
+import com.kateboo.cloud.community.security.PasswordHasher;
+import com.kateboo.cloud.community.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -26,29 +37,34 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final CurrentUserContext currentUserContext;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserAvailabilityService userAvailabilityService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final OutboxPublisher outboxPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     private static final int DEACTIVATION_GRACE_PERIOD_DAYS = 7;
 
     public UserResponse getMyInfo(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getUser(userId);
 
         return UserResponse.from(user);
     }
 
     @Transactional
     public UserResponse updateMyProfile(UUID userId, ProfileUpdateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getUser(userId);
 
         if (request.getNickname() != null && !request.getNickname().isBlank()) {
             if (!user.getNickname().equals(request.getNickname())) {
-                if (userRepository.existsByNickname(request.getNickname())) {
+                if (userAvailabilityService.isNicknameTaken(request.getNickname())) {
                     throw new BadRequestException("이미 사용 중인 닉네임입니다");
                 }
                 user.setNickname(request.getNickname());
+                userAvailabilityService.changeNickname(request.getNickname());
                 log.info("닉네임 변경 완료 - userId: {}, 새 닉네임: {}", userId, request.getNickname());
             }
         }
@@ -58,27 +74,37 @@ public class UserService {
             log.info("프로필 이미지 변경 완료 - userId: {}", userId);
         }
 
+        cacheInvalidationBus.publish(CacheRegion.USER, userId);
+        outboxPublisher.append(DomainEventType.USER_PROFILE_UPDATED, userId, Map.of("nickname", user.getNickname()));
+
         return UserResponse.from(user);
     }
 
-    @Transactional
+    /**
+     * 해싱은 passwordHashExecutor 큐에서 기다릴 수 있으므로 트랜잭션 밖에서 실행하고 (대기/해싱 동안 DB 연결을 잡지 않음)
+     * 새 해시 저장만 짧은 트랜잭션으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(UUID userId, PasswordChangeRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
-
         if (!request.getNewPassword().equals(request.getConfirmPassword())) {
             throw new BadRequestException("새 비밀번호와 확인 비밀번호가 일치하지 않습니다.");
         }
 
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        // 트랜잭션 밖에서 해싱
+        String passwordHash = passwordHasher.encode(request.getNewPassword());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = currentUserContext.getUser(userId);
+            user.setPasswordHash(passwordHash);
+            outboxPublisher.append(DomainEventType.USER_PASSWORD_CHANGED, userId, Map.of());
+        });
 
         log.info("비밀번호 변경 완료 - userId: {}", userId);
     }
 
     @Transactional
     public void softDeleteAccount(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getUser(userId);
 
         if (!user.getIsActive()) {
             throw new BadRequestException("이미 탈퇴 처리된 계정입니다.");
@@ -87,7 +113,23 @@ public class UserService {
         user.setIsActive(false);
         user.setDeactivatedAt(Instant.now());
 
-        refreshTokenRepository.deleteByUser_UserId(userId);
+        refreshTokenStore.deleteAllForUser(userId);
+        cacheInvalidationBus.publish(CacheRegion.USER, userId);
+        outboxPublisher.append(DomainEventType.USER_DEACTIVATED, userId, Map.of("deactivatedAt", user.getDeactivatedAt()));
+
+        // 이미 발급된 Access Token도 만료 전까지 필터에서 차단
+        // (롤백되면 계정이 그대로 활성이므로 커밋된 뒤에만 등록)
+        Instant deactivatedAt = user.getDeactivatedAt();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenRevocationRegistry.deactivateUser(userId, deactivatedAt);
+                }
+            });
+        } else {
+            tokenRevocationRegistry.deactivateUser(userId, deactivatedAt);
+        }
 
         log.warn("회원 탈퇴 처리 (소프트 삭제) - userId: {}, email: {}", userId, user.getEmail());
         log.info("계정 복구는 {}일 이내 재로그인 시 가능합니다. {}일 후 자동으로 영구 삭제됩니다.",
@@ -111,6 +153,8 @@ public class UserService {
                 user.setIsActive(true);
                 user.setDeactivatedAt(null);
                 userRepository.save(user);
+                tokenRevocationRegistry.reactivateUser(user.getUserId());
+                cacheInvalidationBus.publish(CacheRegion.USER, user.getUserId());
 
                 log.info("계정 자동 복구 완료 - userId: {}, email: {}", user.getUserId(), user.getEmail());
                 return user;
@@ -127,8 +171,7 @@ public class UserService {
 
     @Transactional
     public UserResponse restoreAccount(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다"));
+        User user = currentUserContext.getUser(userId);
 
         if (user.getIsActive()) {
             throw new BadRequestException("이미 활성화된 계정입니다.");
@@ -146,6 +189,8 @@ public class UserService {
 
         user.setIsActive(true);
         user.setDeactivatedAt(null);
+        tokenRevocationRegistry.reactivateUser(userId);
+        cacheInvalidationBus.publish(CacheRegion.USER, userId);
 
         log.info("계정 수동 복구 완료 - userId: {}, email: {}", userId, user.getEmail());
 
@@ -169,9 +214,12 @@ public class UserService {
 
         for (User user : expiredUsers) {
             try {
-                refreshTokenRepository.deleteByUser_UserId(user.getUserId());
+                refreshTokenStore.deleteAllForUser(user.getUserId());
 
                 userRepository.delete(user);
+                userAvailabilityService.markUserRemoved();
+                cacheInvalidationBus.publish(CacheRegion.USER, user.getUserId());
+                outboxPublisher.append(DomainEventType.USER_DELETED, user.getUserId(), Map.of());
 
                 log.error("계정 영구 삭제 완료 - userId: {}, email: {}, deactivatedAt: {}",
                         user.getUserId(), user.getEmail(), user.getDeactivatedAt());
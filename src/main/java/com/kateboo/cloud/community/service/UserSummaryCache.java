@@ -0,0 +1,127 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.cache.CacheInvalidationListener;
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.dto.response.UserSummaryResponse;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.image.ImageVariant;
+import com.kateboo.cloud.community.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게시글/댓글 작성자 표시용 사용자 요약(userId, nickname, profileImageUrl) 캐시
+ *
+ * - 목록 조회 시 users 조인 없이 작성자 ID만 모아서 캐시에서 꺼내고, 없는 것만 IN 쿼리 1회로 조회
+ * - 최대 max-entries개를 LRU로 유지, ttl이 지나면 다시 조회
+ * - 프로필 변경/탈퇴/영구 삭제 시 CacheInvalidationBus(USER)를 통해 이 노드와 다른 노드에서 모두 제거
+ * - 작성/수정 응답은 summaryOf(User)로 만듦: 이 트랜잭션에서 이미 읽은 엔티티(현재 사용자 등)면 캐시도 보지 않음
+ */
+@Service
+@Slf4j
+public class UserSummaryCache implements CacheInvalidationListener {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<UUID, Entry> entries;
+
+    public UserSummaryCache(
+            UserRepository userRepository,
+            @Value("${user.summary-cache.max-entries:10000}") int maxEntries,
+            @Value("${user.summary-cache.ttl:600000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public UserSummaryResponse get(UUID userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getAll(Set.of(userId)).get(userId);
+    }
+
+    /**
+     * 로딩된 엔티티면 SELECT 없이 엔티티에서 만들고, 초기화되지 않은 프록시면 get(userId)
+     */
+    public UserSummaryResponse summaryOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(user)) {
+            return UserSummaryResponse.from(user);
+        }
+        return get(user.getUserId());
+    }
+
+    /**
+     * 캐시에 없는 사용자만 한 번에 조회, 존재하지 않는 사용자는 결과에서 빠짐
+     */
+    public Map<UUID, UserSummaryResponse> getAll(Collection<UUID> userIds) {
+        Map<UUID, UserSummaryResponse> result = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            for (UUID userId : userIds) {
+                if (userId == null) {
+                    continue;
+                }
+                Entry entry = entries.get(userId);
+                if (entry != null && entry.expiresAtMillis() > now) {
+                    result.put(userId, entry.summary());
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long expiresAt = now + ttlMillis;
+        for (UserRepository.UserSummary user : userRepository.findSummariesByUserIdIn(missing)) {
+            UserSummaryResponse summary = UserSummaryResponse.builder()
+                    .userId(user.getUserId())
+                    .nickname(user.getNickname())
+                    .profileImageUrl(user.getProfileImageUrl())
+                    .profileThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(user.getProfileImageUrl()))
+                    .build();
+            result.put(user.getUserId(), summary);
+            synchronized (entries) {
+                entries.put(user.getUserId(), new Entry(summary, expiresAt));
+            }
+        }
+
+        log.debug("사용자 요약 캐시: 요청 {} 명, DB 조회 {} 명", userIds.size(), missing.size());
+        return result;
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID key, boolean remote) {
+        if (region == CacheRegion.USER) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private record Entry(UserSummaryResponse summary, long expiresAtMillis) {
+    }
+}
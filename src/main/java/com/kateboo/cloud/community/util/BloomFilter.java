@@ -0,0 +1,92 @@
+package com.kateboo.cloud.community.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삭제를 지원하지 않는 고정 크기 Bloom filter (해시 7개, 오탐률 약 1% 기준 항목당 약 10비트)
+ *
+ * - mightContain()이 false면 넣은 적 없는 값이 확실함, true면 넣었을 수도 있음
+ * - 비트는 CAS로 켜므로 put/mightContain을 여러 스레드에서 잠금 없이 호출할 수 있음
+ * - 빠진 값을 지우려면 새 필터를 만들어 교체
+ */
+public final class BloomFilter {
+
+    private static final int HASH_COUNT = 7;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+
+    public BloomFilter(int bits) {
+        this.words = new AtomicLongArray((bits + 63) >>> 6);
+        this.bitCount = (long) words.length() << 6;
+    }
+
+    /**
+     * 예상 항목 수 기준으로 생성 (항목당 10비트)
+     */
+    public static BloomFilter forEntries(int expectedEntries) {
+        return new BloomFilter(expectedEntries * 10);
+    }
+
+    public void put(String value) {
+        long h1 = hash(value);
+        set(h1, mix(h1 ^ GOLDEN_GAMMA) | 1L);
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        return test(h1, mix(h1 ^ GOLDEN_GAMMA) | 1L);
+    }
+
+    /**
+     * UUID 등 128비트 값 (문자열로 바꾸지 않고 상위/하위 64비트로 계산)
+     */
+    public void put(long high, long low) {
+        long h1 = mix(high ^ mix(low));
+        set(h1, mix(low + h1) | 1L);
+    }
+
+    public boolean mightContain(long high, long low) {
+        long h1 = mix(high ^ mix(low));
+        return test(h1, mix(low + h1) | 1L);
+    }
+
+    private void set(long h1, long h2) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+            } while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    private boolean test(long h1, long h2) {
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64 + MurmurHash3 fmix64
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,110 @@
+-- =====================================================================
+-- 기존 v4(랜덤) PK를 created_at 기반 UUIDv7로 다시 발급 (MySQL 8)
+--
+-- 새로 저장되는 게시글/댓글/사용자는 @UuidV7로 생성되므로 이 스크립트 없이도
+-- v4와 v7이 같은 BINARY(16) 컬럼에 섞여서 정상 동작한다. 새 행은 모두 0x019... 대역의
+-- 오른쪽 끝에 추가되므로, 기존 행을 그대로 두어도 삽입 지역성은 바로 좋아진다.
+-- 기존 행까지 생성 시각 순으로 재배치하고 싶을 때만 점검 시간에 실행한다.
+--
+-- 주의
+-- - 모든 애플리케이션 노드를 내린 상태에서 실행 (2차 캐시/요약 캐시에 이전 ID가 남음)
+-- - outbox_events의 미발행 이벤트를 먼저 모두 발행(또는 정리)한 뒤 실행
+-- - 게시글 ID가 바뀌므로 외부에 공유된 게시글 URL은 더 이상 열리지 않음
+-- - 사용자 ID는 Access/Refresh Token에 들어 있으므로 3단계 실행 시 모든 사용자가 다시 로그인해야 함
+-- - v7이 아닌 행만 대상으로 하므로 중간에 실패하면 그대로 다시 실행하면 됨
+-- =====================================================================
+
+SET time_zone = '+00:00';
+
+-- ---------------------------------------------------------------------
+-- 1. 게시글
+-- ---------------------------------------------------------------------
+DROP TABLE IF EXISTS uuidv7_post_map;
+CREATE TABLE uuidv7_post_map (
+    old_id BINARY(16) NOT NULL PRIMARY KEY,
+    new_id BINARY(16) NOT NULL UNIQUE
+)
+SELECT post_id AS old_id,
+       UNHEX(CONCAT(
+               LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_at) * 1000)), 12, '0'),
+               '7', SUBSTRING(HEX(RANDOM_BYTES(2)), 2, 3),
+               HEX((ASCII(RANDOM_BYTES(1)) & 0x3F) | 0x80),
+               HEX(RANDOM_BYTES(7)))) AS new_id
+FROM posts
+WHERE ASCII(SUBSTRING(post_id, 7, 1)) >> 4 <> 7;
+
+START TRANSACTION;
+SET FOREIGN_KEY_CHECKS = 0;
+
+UPDATE posts p JOIN uuidv7_post_map m ON p.post_id = m.old_id SET p.post_id = m.new_id;
+UPDATE post_stats s JOIN uuidv7_post_map m ON s.post_id = m.old_id SET s.post_id = m.new_id;
+UPDATE post_images i JOIN uuidv7_post_map m ON i.post_id = m.old_id SET i.post_id = m.new_id;
+UPDATE post_likes l JOIN uuidv7_post_map m ON l.post_id = m.old_id SET l.post_id = m.new_id;
+UPDATE comments c JOIN uuidv7_post_map m ON c.post_id = m.old_id SET c.post_id = m.new_id;
+UPDATE outbox_events o JOIN uuidv7_post_map m ON o.aggregate_id = m.old_id
+SET o.aggregate_id = m.new_id
+WHERE o.aggregate_type = 'POST';
+
+SET FOREIGN_KEY_CHECKS = 1;
+COMMIT;
+
+-- ---------------------------------------------------------------------
+-- 2. 댓글 (다른 테이블에서 참조하지 않음)
+-- ---------------------------------------------------------------------
+DROP TABLE IF EXISTS uuidv7_comment_map;
+CREATE TABLE uuidv7_comment_map (
+    old_id BINARY(16) NOT NULL PRIMARY KEY,
+    new_id BINARY(16) NOT NULL UNIQUE
+)
+SELECT comment_id AS old_id,
+       UNHEX(CONCAT(
+               LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_at) * 1000)), 12, '0'),
+               '7', SUBSTRING(HEX(RANDOM_BYTES(2)), 2, 3),
+               HEX((ASCII(RANDOM_BYTES(1)) & 0x3F) | 0x80),
+               HEX(RANDOM_BYTES(7)))) AS new_id
+FROM comments
+WHERE ASCII(SUBSTRING(comment_id, 7, 1)) >> 4 <> 7;
+
+UPDATE comments c JOIN uuidv7_comment_map m ON c.comment_id = m.old_id SET c.comment_id = m.new_id;
+
+-- ---------------------------------------------------------------------
+-- 3. 사용자 (선택: 모든 세션이 끊김)
+-- ---------------------------------------------------------------------
+DROP TABLE IF EXISTS uuidv7_user_map;
+CREATE TABLE uuidv7_user_map (
+    old_id BINARY(16) NOT NULL PRIMARY KEY,
+    new_id BINARY(16) NOT NULL UNIQUE
+)
+SELECT user_id AS old_id,
+       UNHEX(CONCAT(
+               LPAD(HEX(FLOOR(UNIX_TIMESTAMP(created_at) * 1000)), 12, '0'),
+               '7', SUBSTRING(HEX(RANDOM_BYTES(2)), 2, 3),
+               HEX((ASCII(RANDOM_BYTES(1)) & 0x3F) | 0x80),
+               HEX(RANDOM_BYTES(7)))) AS new_id
+FROM users
+WHERE ASCII(SUBSTRING(user_id, 7, 1)) >> 4 <> 7;
+
+START TRANSACTION;
+SET FOREIGN_KEY_CHECKS = 0;
+
+UPDATE users u JOIN uuidv7_user_map m ON u.user_id = m.old_id SET u.user_id = m.new_id;
+UPDATE posts p JOIN uuidv7_user_map m ON p.user_id = m.old_id SET p.user_id = m.new_id;
+UPDATE comments c JOIN uuidv7_user_map m ON c.user_id = m.old_id SET c.user_id = m.new_id;
+UPDATE post_likes l JOIN uuidv7_user_map m ON l.user_id = m.old_id SET l.user_id = m.new_id;
+UPDATE outbox_events o JOIN uuidv7_user_map m ON o.aggregate_id = m.old_id
+SET o.aggregate_id = m.new_id
+WHERE o.aggregate_type = 'USER';
+-- 이전 ID로 발급된 토큰은 모두 폐기
+DELETE FROM jwt_refresh_tokens;
+
+SET FOREIGN_KEY_CHECKS = 1;
+COMMIT;
+
+-- ---------------------------------------------------------------------
+-- 4. 정리: 다른 노드용 무효화 로그는 이전 ID이므로 비우고, 클러스터드 인덱스를 다시 구성
+-- ---------------------------------------------------------------------
+DELETE FROM cache_invalidations;
+OPTIMIZE TABLE users, posts, post_stats, post_images, post_likes, comments;
+
+-- 결과 확인 후 매핑 테이블 삭제
+-- DROP TABLE uuidv7_post_map, uuidv7_comment_map, uuidv7_user_map;
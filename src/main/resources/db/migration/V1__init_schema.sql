@@ -0,0 +1,122 @@
+-- =====================================================================
+-- 초기 스키마 (ddl-auto: update 시절 엔티티 매핑과 동일한 테이블)
+-- 이미 ddl-auto로 만들어진 DB는 baseline-version=1로 기록되어 이 파일을 건너뜀
+-- =====================================================================
+
+CREATE TABLE users (
+    user_id           BINARY(16)   NOT NULL,
+    email             VARCHAR(254) NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    nickname          VARCHAR(10)  NOT NULL,
+    profile_image_url VARCHAR(500),
+    is_active         BIT          NOT NULL,
+    deactivated_at    DATETIME(6),
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_email UNIQUE (email),
+    CONSTRAINT uk_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE posts (
+    post_id    BINARY(16)  NOT NULL,
+    title      VARCHAR(26) NOT NULL,
+    body       LONGTEXT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    user_id    BINARY(16),
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_stats (
+    post_id       BINARY(16)      NOT NULL,
+    likes_count   INT             NOT NULL,
+    views_count   BIGINT UNSIGNED NOT NULL,
+    comment_count INT UNSIGNED    NOT NULL,
+    updated_at    DATETIME(6)     NOT NULL,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_images (
+    image_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    image_url  VARCHAR(500) NOT NULL,
+    order_no   INT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    post_id    BINARY(16)   NOT NULL,
+    PRIMARY KEY (image_id),
+    CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_likes (
+    like_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    post_id    BINARY(16)  NOT NULL,
+    user_id    BINARY(16)  NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (like_id),
+    CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts (post_id),
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    comment_id BINARY(16)  NOT NULL,
+    body       TEXT        NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    user_id    BINARY(16),
+    post_id    BINARY(16),
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (post_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE jwt_refresh_tokens (
+    refresh_id          BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash          BINARY(32)  NOT NULL,
+    previous_token_hash BINARY(32),
+    user_id             BINARY(16)  NOT NULL,
+    created_at          DATETIME(6) NOT NULL,
+    expires_at          DATETIME(6) NOT NULL,
+    rotated_at          DATETIME(6),
+    revoked_at          DATETIME(6),
+    PRIMARY KEY (refresh_id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_previous_token_hash (previous_token_hash),
+    INDEX idx_refresh_expires_at (expires_at, refresh_id),
+    INDEX idx_refresh_revoked_at (revoked_at, refresh_id),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE cache_invalidations (
+    invalidation_id BIGINT      NOT NULL AUTO_INCREMENT,
+    region          VARCHAR(20) NOT NULL,
+    entity_key      BINARY(16)  NOT NULL,
+    origin_node     BINARY(16)  NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (invalidation_id),
+    INDEX idx_cache_invalidations_created_at (created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_events (
+    outbox_id      BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BINARY(16)  NOT NULL,
+    event_type     VARCHAR(40) NOT NULL,
+    payload        TEXT        NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    published_at   DATETIME(6),
+    attempts       INT         NOT NULL,
+    last_error     VARCHAR(500),
+    failed_at      DATETIME(6),
+    PRIMARY KEY (outbox_id),
+    INDEX idx_outbox_pending (published_at, failed_at, outbox_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_relay_lease (
+    lease_name VARCHAR(50) NOT NULL,
+    owner_node BINARY(16),
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (lease_name)
+) ENGINE = InnoDB;
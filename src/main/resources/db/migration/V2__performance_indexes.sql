@@ -0,0 +1,24 @@
+-- =====================================================================
+-- 조회 경로별 인덱스 (각 인덱스는 IndexUsageTest의 EXPLAIN으로 검증)
+--
+-- MySQL은 외래 키 컬럼에 인덱스가 없으면 자동으로 만들고, 같은 컬럼으로 시작하는 인덱스가
+-- 새로 생기면 자동 인덱스를 제거하므로 comments(post_id)/post_likes(user_id)/jwt_refresh_tokens(user_id)의
+-- 자동 인덱스는 아래 인덱스로 대체된다.
+-- =====================================================================
+
+-- 최신순 피드: ORDER BY created_at DESC, post_id DESC LIMIT ? → 역방향 인덱스 스캔 (filesort 없음)
+CREATE INDEX idx_posts_created_at ON posts (created_at, post_id);
+
+-- 조회수/좋아요순 피드: post_stats를 먼저 읽고 post_id로 posts를 조인, 동점은 post_id(UUIDv7 → 생성 순)
+CREATE INDEX idx_post_stats_views ON post_stats (views_count, post_id);
+CREATE INDEX idx_post_stats_likes ON post_stats (likes_count, post_id);
+
+-- 게시글별 댓글 페이지: WHERE post_id = ? ORDER BY created_at
+CREATE INDEX idx_comments_post_created ON comments (post_id, created_at);
+
+-- 사용자 영구 삭제 시 외래 키 확인/정리 (uk_post_likes_post_user는 post_id로 시작하여 사용 불가)
+CREATE INDEX idx_post_likes_user ON post_likes (user_id);
+CREATE INDEX idx_refresh_user ON jwt_refresh_tokens (user_id);
+
+-- 영구 삭제 대상 조회: WHERE is_active = false AND deactivated_at < ?
+CREATE INDEX idx_users_inactive ON users (is_active, deactivated_at);
@@ -0,0 +1,23 @@
+-- =====================================================================
+-- post_images/post_likes PK를 IDENTITY → 시퀀스(pooled, allocationSize=50)로 변경
+--
+-- MySQL에는 시퀀스가 없어 Hibernate가 next_val 한 행짜리 테이블로 대신함
+-- (select ... for update 후 next_val += 50, 별도 연결/트랜잭션에서 실행)
+-- pooled 옵티마이저는 읽은 값을 상한으로 (값-49 ~ 값)을 사용하므로,
+-- 기존 최대 ID + 1 + 50부터 시작하면 이미 있는 ID와 겹치지 않음
+-- 컬럼의 AUTO_INCREMENT는 남아 있지만 애플리케이션은 항상 ID를 지정하여 INSERT
+-- =====================================================================
+
+CREATE TABLE post_images_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO post_images_seq (next_val)
+SELECT COALESCE(MAX(image_id), 0) + 51 FROM post_images;
+
+CREATE TABLE post_likes_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO post_likes_seq (next_val)
+SELECT COALESCE(MAX(like_id), 0) + 51 FROM post_likes;
@@ -0,0 +1,21 @@
+-- =====================================================================
+-- 업로드 이미지 축소본(thumb/medium) 생성 작업 큐
+--
+-- 새 업로드 파일마다 한 행 (source_name = <sha256>.<ext>)
+-- 대기 작업 조회: completed_at IS NULL AND failed_at IS NULL AND next_attempt_at <= now
+-- =====================================================================
+
+CREATE TABLE image_variant_jobs (
+    job_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    source_name     VARCHAR(255) NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    locked_until    DATETIME(6),
+    completed_at    DATETIME(6),
+    attempts        INT          NOT NULL,
+    last_error      VARCHAR(500),
+    failed_at       DATETIME(6),
+    PRIMARY KEY (job_id),
+    CONSTRAINT uk_image_variant_jobs_source UNIQUE (source_name),
+    INDEX idx_image_variant_jobs_pending (completed_at, failed_at, next_attempt_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,27 @@
+-- =====================================================================
+-- 업로드 이미지 정보(크기, MIME, 바이트 수, BlurHash)
+--
+-- image_assets  : 업로드 시 원본 파일(<sha256>.<ext>)마다 한 행
+-- post_images   : 게시글 작성/수정 시 image_assets에서 복사 → 조회 시 조인 없음
+--                 (nullable 컬럼을 끝에 추가하므로 테이블 재작성 없이 INSTANT로 적용)
+-- 이전 업로드/외부 URL의 이미지는 값이 없음 (NULL)
+-- =====================================================================
+
+CREATE TABLE image_assets (
+    asset_name VARCHAR(255) NOT NULL,
+    mime_type  VARCHAR(50)  NOT NULL,
+    byte_size  BIGINT       NOT NULL,
+    width      INT,
+    height     INT,
+    blur_hash  VARCHAR(64),
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (asset_name)
+) ENGINE = InnoDB;
+
+ALTER TABLE post_images
+    ADD COLUMN width     INT,
+    ADD COLUMN height    INT,
+    ADD COLUMN byte_size BIGINT,
+    ADD COLUMN mime_type VARCHAR(50),
+    ADD COLUMN blur_hash VARCHAR(64),
+    ALGORITHM = INSTANT;
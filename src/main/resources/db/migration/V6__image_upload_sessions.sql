@@ -0,0 +1,16 @@
+-- =====================================================================
+-- 이어 올리기(청크) 업로드 세션
+--
+-- 세션마다 한 행, 파일 내용은 file.temp-dir/chunked/<upload_id>.part
+-- 완료/취소 시 삭제, expires_at이 지난 세션은 정리 스케줄러가 삭제
+-- =====================================================================
+
+CREATE TABLE image_upload_sessions (
+    upload_id     BINARY(16)  NOT NULL,
+    total_size    BIGINT      NOT NULL,
+    received_size BIGINT      NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    expires_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (upload_id),
+    INDEX idx_image_upload_sessions_expires (expires_at)
+) ENGINE = InnoDB;
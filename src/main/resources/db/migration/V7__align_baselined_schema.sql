@@ -0,0 +1,138 @@
+-- =====================================================================
+-- ddl-auto 시절 DB(baseline-version=1로 V1을 건너뜀)를 V1 스키마에 맞춤
+--
+-- ddl-auto: update는 컬럼 추가만 하고 타입/길이는 바꾸지 않으므로 다음이 남아 있을 수 있음
+-- - users.password_hash VARCHAR(100) → Argon2 해시(약 100자 이상)가 들어가지 않음
+-- - jwt_refresh_tokens.token_hash VARCHAR(255)에 원문 토큰 → BINARY(32) SHA-256 digest로 변환
+--   (애플리케이션과 같은 SHA-256(UTF-8)이므로 기존 로그인 세션 유지)
+-- - previous_token_hash / rotated_at 컬럼, refresh 토큰 인덱스, V1에서 처음 만든 테이블이 없을 수 있음
+--
+-- MySQL에는 ADD COLUMN IF NOT EXISTS가 없으므로 information_schema로 확인한 뒤 필요한 문장만 실행
+-- V1로 만든 DB에서는 모두 변경 없음
+-- =====================================================================
+
+ALTER TABLE users
+    MODIFY COLUMN password_hash VARCHAR(255) NOT NULL;
+
+-- ---------------------------------------------------------------------
+-- jwt_refresh_tokens.token_hash: 원문(VARCHAR) → digest(BINARY(32))
+-- ---------------------------------------------------------------------
+SET @legacy_token_hash = (
+    SELECT COUNT(*) FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+      AND COLUMN_NAME = 'token_hash' AND DATA_TYPE = 'varchar');
+
+SET @ddl = IF(@legacy_token_hash > 0,
+    'ALTER TABLE jwt_refresh_tokens ADD COLUMN token_digest BINARY(32)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@legacy_token_hash > 0,
+    'UPDATE jwt_refresh_tokens SET token_digest = UNHEX(SHA2(token_hash, 256))',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 원문 컬럼과 그 UNIQUE 인덱스(ddl-auto가 만든 이름)는 컬럼 삭제로 함께 제거됨
+SET @ddl = IF(@legacy_token_hash > 0,
+    'ALTER TABLE jwt_refresh_tokens DROP COLUMN token_hash',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@legacy_token_hash > 0,
+    'ALTER TABLE jwt_refresh_tokens CHANGE COLUMN token_digest token_hash BINARY(32) NOT NULL AFTER refresh_id, ADD CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ---------------------------------------------------------------------
+-- 재사용 감지(rotation) 컬럼
+-- ---------------------------------------------------------------------
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+                 AND COLUMN_NAME = 'previous_token_hash') = 0,
+    'ALTER TABLE jwt_refresh_tokens ADD COLUMN previous_token_hash BINARY(32) AFTER token_hash',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+                 AND COLUMN_NAME = 'rotated_at') = 0,
+    'ALTER TABLE jwt_refresh_tokens ADD COLUMN rotated_at DATETIME(6) AFTER expires_at',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ---------------------------------------------------------------------
+-- V1에만 있는 refresh 토큰 인덱스 (재사용 감지, 만료/취소 토큰 정리)
+-- ---------------------------------------------------------------------
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+                 AND INDEX_NAME = 'idx_refresh_previous_token_hash') = 0,
+    'CREATE INDEX idx_refresh_previous_token_hash ON jwt_refresh_tokens (previous_token_hash)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+                 AND INDEX_NAME = 'idx_refresh_expires_at') = 0,
+    'CREATE INDEX idx_refresh_expires_at ON jwt_refresh_tokens (expires_at, refresh_id)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens'
+                 AND INDEX_NAME = 'idx_refresh_revoked_at') = 0,
+    'CREATE INDEX idx_refresh_revoked_at ON jwt_refresh_tokens (revoked_at, refresh_id)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ---------------------------------------------------------------------
+-- V1에서 처음 만든 테이블 (ddl-auto 시절 DB에는 없을 수 있음, V8이 outbox_events를 변경)
+-- ---------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    invalidation_id BIGINT      NOT NULL AUTO_INCREMENT,
+    region          VARCHAR(20) NOT NULL,
+    entity_key      BINARY(16)  NOT NULL,
+    origin_node     BINARY(16)  NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (invalidation_id),
+    INDEX idx_cache_invalidations_created_at (created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    outbox_id      BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BINARY(16)  NOT NULL,
+    event_type     VARCHAR(40) NOT NULL,
+    payload        TEXT        NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    published_at   DATETIME(6),
+    attempts       INT         NOT NULL,
+    last_error     VARCHAR(500),
+    failed_at      DATETIME(6),
+    PRIMARY KEY (outbox_id),
+    INDEX idx_outbox_pending (published_at, failed_at, outbox_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS outbox_relay_lease (
+    lease_name VARCHAR(50) NOT NULL,
+    owner_node BINARY(16),
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (lease_name)
+) ENGINE = InnoDB;
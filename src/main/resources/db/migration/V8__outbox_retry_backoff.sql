@@ -0,0 +1,15 @@
+-- =====================================================================
+-- outbox 전달 실패 시 지수 백오프
+--
+-- next_attempt_at : 이 시각 이후에만 다시 전달 (기존 행은 created_at으로 채움)
+-- idx_outbox_aggregate : 같은 애그리거트의 앞선 미전달 이벤트 확인 (findPending의 NOT EXISTS)
+-- =====================================================================
+
+ALTER TABLE outbox_events
+    ADD COLUMN next_attempt_at DATETIME(6);
+
+UPDATE outbox_events SET next_attempt_at = created_at;
+
+ALTER TABLE outbox_events
+    MODIFY COLUMN next_attempt_at DATETIME(6) NOT NULL,
+    ADD INDEX idx_outbox_aggregate (aggregate_id, outbox_id);
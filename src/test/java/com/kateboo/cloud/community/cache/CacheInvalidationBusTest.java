@@ -0,0 +1,162 @@
+package com.kateboo.cloud.community.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.kateboo.cloud.community.CommunityApplication;
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.dto.request.ProfileUpdateRequest;
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.PostService;
+import com.kateboo.cloud.community.service.UserService;
+import com.kateboo.cloud.community.service.UserSummaryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 DB를 사용하는 두 노드(애플리케이션 컨텍스트) 사이의 캐시 무효화 전파 테스트
+ * database transport로 노드 A의 변경이 노드 B의 캐시(작성자 요약, Hibernate 2차 캐시)에서 제거되는지 확인한다.
+ * 노드마다 별도의 JCache CacheManager를 주어 2차 캐시도 실제 노드처럼 따로 둔다.
+ */
+class CacheInvalidationBusTest {
+
+    private final List<CacheManager> cacheManagers = new ArrayList<>();
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:invalidation-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        nodeA = startNode(url, "create");
+        nodeB = startNode(url, "none");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        cacheManagers.forEach(CacheManager::close);
+    }
+
+    @Test
+    @DisplayName("노드 A의 프로필 수정이 노드 B의 작성자 요약 캐시에 반영됨")
+    void updateMyProfile_InvalidatesOtherNode() throws InterruptedException {
+        // given
+        UUID userId = nodeA.getBean(UserRepository.class).save(User.builder()
+                .email("node@example.com")
+                .nickname("이전닉네임")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build()).getUserId();
+
+        UserSummaryCache cacheB = nodeB.getBean(UserSummaryCache.class);
+        assertThat(cacheB.get(userId).getNickname()).isEqualTo("이전닉네임");
+        // 노드 B의 커서를 현재 위치로 초기화
+        nodeB.getBean(DatabaseCacheInvalidationTransport.class).poll();
+
+        // when
+        nodeA.getBean(UserService.class).updateMyProfile(userId, new ProfileUpdateRequest("새닉네임", null));
+
+        // then
+        awaitUntil(() -> "새닉네임".equals(cacheB.get(userId).getNickname()));
+        assertThat(cacheB.get(userId).getNickname()).isEqualTo("새닉네임");
+        assertThat(nodeB.getBean(MeterRegistry.class).timer("cache.invalidation.lag").count()).isPositive();
+        assertThat(nodeA.getBean(MeterRegistry.class).counter("cache.invalidation.received").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("노드 A의 변경이 노드 B의 2차 캐시에서 제거되어 B가 새 값을 읽음")
+    void remoteInvalidation_EvictsSecondLevelCache() throws InterruptedException {
+        // given: 노드 B가 사용자와 게시글을 읽어 2차 캐시에 올려 둠
+        UUID userId = nodeA.getBean(UserRepository.class).save(User.builder()
+                .email("l2@example.com")
+                .nickname("이전닉네임")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build()).getUserId();
+        UUID postId = nodeA.getBean(PostService.class)
+                .createPost(userId, PostRequest.builder().title("이전제목").body("본문").build()).getPostId();
+
+        assertThat(read(nodeB, () -> nodeB.getBean(UserRepository.class).findById(userId).orElseThrow().getNickname()))
+                .isEqualTo("이전닉네임");
+        assertThat(read(nodeB, () -> nodeB.getBean(PostRepository.class).findById(postId).orElseThrow().getTitle()))
+                .isEqualTo("이전제목");
+        Cache l2B = nodeB.getBean(EntityManagerFactory.class).getCache();
+        assertThat(l2B.contains(User.class, userId)).isTrue();
+        assertThat(l2B.contains(Post.class, postId)).isTrue();
+        nodeB.getBean(DatabaseCacheInvalidationTransport.class).poll();
+
+        // when
+        nodeA.getBean(UserService.class).updateMyProfile(userId, new ProfileUpdateRequest("새닉네임", null));
+        nodeA.getBean(PostService.class)
+                .updatePost(userId, postId, PostRequest.builder().title("새제목").body("본문").build());
+
+        // then: 노드 A의 2차 캐시 갱신과 별개로 노드 B의 항목은 메시지를 받아 제거됨
+        awaitUntil(() -> !l2B.contains(User.class, userId) && !l2B.contains(Post.class, postId));
+        assertThat(l2B.contains(User.class, userId)).isFalse();
+        assertThat(l2B.contains(Post.class, postId)).isFalse();
+        assertThat(read(nodeB, () -> nodeB.getBean(UserRepository.class).findById(userId).orElseThrow().getNickname()))
+                .isEqualTo("새닉네임");
+        assertThat(read(nodeB, () -> nodeB.getBean(PostRepository.class).findById(postId).orElseThrow().getTitle()))
+                .isEqualTo("새제목");
+    }
+
+    private static <T> T read(ConfigurableApplicationContext node, Supplier<T> query) {
+        return new TransactionTemplate(node.getBean(PlatformTransactionManager.class)).execute(status -> query.get());
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String url, String ddlAuto) {
+        // 기본 URI의 CacheManager는 JVM 안에서 공유되므로 노드마다 다른 URI로 만들어 Hibernate에 직접 전달
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("cache-invalidation-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManagers.add(cacheManager);
+
+        return new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory().registerSingleton("nodeCacheManagerCustomizer",
+                        (HibernatePropertiesCustomizer) properties ->
+                                properties.put("hibernate.javax.cache.cache_manager", cacheManager)))
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "cache.invalidation.transport=database",
+                        "cache.invalidation.poll-interval=100",
+                        "cache.invalidation.settle=0",
+                        "server.port=0")
+                .run();
+    }
+}
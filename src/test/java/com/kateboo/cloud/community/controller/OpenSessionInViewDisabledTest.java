@@ -0,0 +1,134 @@
+package com.kateboo.cloud.community.controller;
+
+import com.kateboo.cloud.community.dto.request.CommentRequest;
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.CommentService;
+import com.kateboo.cloud.community.service.PostService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * open-in-view를 끈 상태에서 응답이 서비스 안에서 완성되는지 확인
+ * 요청 처리 중 트랜잭션 밖 SQL은 TransactionBoundaryGuard가 실패시키므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpenSessionInViewDisabledTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID postId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("osiv@example.com")
+                .nickname("세션")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build();
+        UUID userId = userRepository.save(user).getUserId();
+
+        postId = postService.createPost(userId, PostRequest.builder()
+                .title("제목")
+                .body("본문")
+                .imageUrls(List.of("a.jpg", "b.jpg"))
+                .build()).getPostId();
+        commentService.createComment(userId, postId, new CommentRequest("댓글"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("open-in-view 인터셉터가 등록되지 않음")
+    void openInViewInterceptor_NotRegistered() {
+        assertThat(applicationContext.containsBean("openEntityManagerInViewInterceptor")).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글/목록/댓글 응답이 트랜잭션 안에서 완성되어 직렬화 중 조회가 없음")
+    void responses_MaterializedInsideService() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.images.length()").value(2))
+                .andExpect(jsonPath("$.stats.commentCount").value(1))
+                .andExpect(jsonPath("$.user.nickname").value("세션"));
+
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].images.length()").value(2));
+
+        mockMvc.perform(get("/api/comments/post/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].user.nickname").value("세션"));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 끝난 엔티티의 지연 로딩은 실패함")
+    void lazyLoadOutsideTransaction_Fails() {
+        Post post = postRepository.findById(postId).orElseThrow();
+
+        assertThatThrownBy(() -> post.getComments().size())
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없이 실행한 SQL은 가드가 실패시킴")
+    void statementOutsideTransaction_Rejected() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            assertThatThrownBy(() -> entityManager.createQuery("SELECT COUNT(c) FROM Comment c").getSingleResult())
+                    .hasStackTraceContaining("트랜잭션 밖에서 SQL 실행");
+        } finally {
+            entityManager.close();
+        }
+    }
+}
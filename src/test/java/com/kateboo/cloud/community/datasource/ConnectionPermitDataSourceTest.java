@@ -0,0 +1,112 @@
+package com.kateboo.cloud.community.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConnectionPermitDataSourceTest {
+
+    private static final int POOL_SIZE = 4;
+
+    private final HikariDataSource hikari = pool();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        hikari.close();
+    }
+
+    @Test
+    @DisplayName("허가를 모두 가진 스레드들이 중첩 연결(id 블록 할당 등)을 빌려도 교착 없이 남겨 둔 연결로 진행")
+    void nestedConnection_BypassesPermits() throws Exception {
+        // given: 허가 = 풀 크기 - 1
+        int permitCount = POOL_SIZE - 1;
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(hikari, permitCount, 1000);
+        CountDownLatch allHolding = new CountDownLatch(permitCount);
+
+        // when: 모든 스레드가 허가를 가진 채 중첩 연결을 하나씩 더 빌림
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < permitCount; i++) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try (Connection outer = dataSource.getConnection()) {
+                    allHolding.countDown();
+                    allHolding.await();
+                    try (Connection nested = dataSource.getConnection()) {
+                        nested.createStatement().execute("SELECT 1");
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor));
+        }
+
+        // then
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        assertThat(dataSource.getNestedCount()).isEqualTo(permitCount);
+        assertThat(dataSource.getRejectedCount()).isZero();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(permitCount);
+    }
+
+    @Test
+    @DisplayName("중첩 연결을 닫아도 바깥 연결의 허가는 유지되고, 다른 스레드는 허가를 기다림")
+    void nestedConnection_DoesNotReleaseOuterPermit() throws Exception {
+        // given
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(hikari, 1, 200);
+
+        try (Connection outer = dataSource.getConnection()) {
+            // when
+            dataSource.getConnection().close();
+
+            // then
+            assertThat(dataSource.getAvailablePermits()).isZero();
+            CompletableFuture<Connection> other = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor);
+            assertThatThrownBy(() -> other.get(5, TimeUnit.SECONDS))
+                    .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThat(dataSource.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close()는 감싼 Hikari 풀을 닫음")
+    void close_ClosesWrappedPool() throws Exception {
+        // given
+        ConnectionPermitDataSource dataSource = new ConnectionPermitDataSource(hikari, 1, 200);
+        dataSource.getConnection().close();
+
+        // when
+        dataSource.close();
+
+        // then
+        assertThat(hikari.isClosed()).isTrue();
+    }
+
+    private static HikariDataSource pool() {
+        HikariDataSource hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:mem:permits-" + UUID.randomUUID() + ";MODE=MySQL");
+        hikari.setMaximumPoolSize(POOL_SIZE);
+        hikari.setConnectionTimeout(5000);
+        return hikari;
+    }
+}
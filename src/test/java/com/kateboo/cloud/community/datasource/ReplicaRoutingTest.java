@@ -0,0 +1,141 @@
+package com.kateboo.cloud.community.datasource;
+
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 읽기 전용 트랜잭션 레플리카 라우팅 테스트
+ * 같은 H2 DB를 별도 풀("replica")로 연결하여 레플리카 대신 사용하고, 라우팅 메트릭으로 대상을 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.replica.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.replica.read-your-writes-window=60000"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("replica@example.com")
+                .nickname("레플리카")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build();
+        userId = userRepository.save(user).getUserId();
+        replicaHealthMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 primary 사용")
+    void routesByTransactionReadOnly() {
+        // when
+        double replicaBefore = routed("replica");
+        postService.getPosts(PageRequest.of(0, 10), "latest");
+        double replicaAfterRead = routed("replica");
+
+        double primaryBefore = routed("primary");
+        postService.createPost(userId, postRequest());
+
+        // then
+        assertThat(replicaAfterRead).isGreaterThan(replicaBefore);
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+        assertThat(routed("replica")).isEqualTo(replicaAfterRead);
+    }
+
+    @Test
+    @DisplayName("자신이 쓴 직후의 읽기는 primary 사용")
+    void readAfterOwnWrite_UsesPrimary() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        postService.createPost(userId, postRequest());
+
+        // when
+        double replicaBefore = routed("replica");
+        double primaryBefore = routed("primary");
+        postService.getPosts(PageRequest.of(0, 10), "latest");
+
+        // then
+        assertThat(routed("replica")).isEqualTo(replicaBefore);
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+    }
+
+    @Test
+    @DisplayName("레플리카 장애 시 primary로 우회하고, 복구되면 다시 레플리카 사용")
+    void replicaDown_FallsBackToPrimary() {
+        // given
+        replicaHealthMonitor.markDown(new SQLException("테스트 장애"));
+
+        // when
+        double replicaBefore = routed("replica");
+        assertThat(postService.getPosts(PageRequest.of(0, 10), "latest")).isNotNull();
+
+        // then
+        assertThat(routed("replica")).isEqualTo(replicaBefore);
+        assertThat(meterRegistry.get("datasource.replica.healthy").gauge().value()).isZero();
+
+        replicaHealthMonitor.check();
+        postService.getPosts(PageRequest.of(0, 10), "latest");
+        assertThat(replicaHealthMonitor.isHealthy()).isTrue();
+        assertThat(routed("replica")).isGreaterThan(replicaBefore);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("datasource.routing").tag("target", target).counter().count();
+    }
+
+    private PostRequest postRequest() {
+        return PostRequest.builder()
+                .title("제목")
+                .body("본문")
+                .build();
+    }
+}
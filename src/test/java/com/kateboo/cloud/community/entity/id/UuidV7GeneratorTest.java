@@ -0,0 +1,93 @@
+package com.kateboo.cloud.community.entity.id;
+
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UuidV7GeneratorTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("버전/변형 비트와 생성 시각이 기록됨")
+    void next_SetsVersionVariantAndTimestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7Generator.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestampMillis(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+        assertThat(UuidV7Generator.timestampMillis(UUID.randomUUID())).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초/시계 역행에서도 바이트 순서(BINARY(16) 정렬)로 단조 증가")
+    void next_IsMonotonicInByteOrder() {
+        // given
+        long now = System.currentTimeMillis();
+        List<UUID> generated = new ArrayList<>();
+
+        // when: 카운터(4096)를 넘길 만큼 같은 시각으로 생성한 뒤 시계를 되돌림
+        for (int i = 0; i < 5000; i++) {
+            generated.add(UuidV7Generator.next(now));
+        }
+        generated.add(UuidV7Generator.next(now - 10_000));
+
+        // then
+        for (int i = 1; i < generated.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    generated.get(i - 1).getMostSignificantBits(),
+                    generated.get(i).getMostSignificantBits()))
+                    .isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("엔티티 저장 시 v7 ID가 생성 순서대로 발급됨")
+    void save_AssignsTimeOrderedIds() {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("v7@example.com")
+                .nickname("브이세븐")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build());
+
+        // when
+        Post first = postRepository.save(Post.builder().title("첫번째").body("본문").user(user).build());
+        Post second = postRepository.save(Post.builder().title("두번째").body("본문").user(user).build());
+
+        // then
+        assertThat(user.getUserId().version()).isEqualTo(7);
+        assertThat(first.getPostId().version()).isEqualTo(7);
+        assertThat(Long.compareUnsigned(
+                first.getPostId().getMostSignificantBits(),
+                second.getPostId().getMostSignificantBits()))
+                .isNegative();
+    }
+}
@@ -0,0 +1,299 @@
+package com.kateboo.cloud.community.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kateboo.cloud.community.dto.request.CommentRequest;
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.entity.OutboxEvent;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.OutboxEventRepository;
+import com.kateboo.cloud.community.repository.OutboxRelayLeaseRepository;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.CommentService;
+import com.kateboo.cloud.community.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Outbox 기록/전달 테스트
+ * relay는 커밋된 이벤트만 읽으므로 테스트 트랜잭션 없이 실제로 커밋하고, 끝나면 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        subscriber.reset();
+
+        User user = User.builder()
+                .email("outbox@example.com")
+                .nickname("아웃박스")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build();
+        userId = userRepository.save(user).getUserId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        // newRelay()가 가져간 lease를 비워 다음 테스트에서 outboxRelay가 다시 등록하게 함
+        outboxRelayLeaseRepository.deleteAll();
+        subscriber.reset();
+    }
+
+    @Test
+    @DisplayName("게시글/댓글/좋아요 이벤트가 발생 순서대로 전달되고 전달 완료로 기록됨")
+    void relay_DispatchesEventsInOrder() {
+        // given
+        UUID postId = postService.createPost(userId, postRequest("제목")).getPostId();
+        commentService.createComment(userId, postId, new CommentRequest("댓글"));
+        postService.toggleLike(userId, postId);
+        postService.updatePost(userId, postId, postRequest("수정"));
+
+        // when
+        int dispatched = outboxRelay.relay();
+
+        // then
+        assertThat(dispatched).isEqualTo(4);
+        assertThat(subscriber.typesFor(postId)).containsExactly(
+                DomainEventType.POST_CREATED,
+                DomainEventType.COMMENT_CREATED,
+                DomainEventType.POST_LIKED,
+                DomainEventType.POST_UPDATED);
+        assertThat(subscriber.events.get(0).payload()).containsEntry("userId", userId.toString());
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() != null);
+    }
+
+    @Test
+    @DisplayName("전달 실패 시 같은 게시글의 이후 이벤트는 재시도 시각까지 대기했다가 순서대로 전달됨")
+    void relay_RetriesFailedEventBeforeLaterEventsOfSameAggregate() {
+        // given
+        UUID postId = postService.createPost(userId, postRequest("제목")).getPostId();
+        UUID otherPostId = postService.createPost(userId, postRequest("다른 글")).getPostId();
+        postService.updatePost(userId, postId, postRequest("수정"));
+        subscriber.failNext(DomainEventType.POST_CREATED, postId);
+
+        // when: 실패 → 재시도 시각 전에는 다시 읽지 않음 → 재시도 시각이 지나면 전달
+        int first = outboxRelay.relay();
+        int beforeRetry = outboxRelay.relay();
+        OutboxEvent failed = find(postId, DomainEventType.POST_CREATED);
+        assertThat(failed.getNextAttemptAt()).isAfter(failed.getCreatedAt());
+        failed.setNextAttemptAt(Instant.now().minusSeconds(1));
+        outboxEventRepository.save(failed);
+        int afterRetry = outboxRelay.relay();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(beforeRetry).isZero();
+        assertThat(afterRetry).isEqualTo(2);
+        assertThat(subscriber.typesFor(otherPostId)).containsExactly(DomainEventType.POST_CREATED);
+        assertThat(subscriber.typesFor(postId)).containsExactly(
+                DomainEventType.POST_CREATED,
+                DomainEventType.POST_UPDATED);
+
+        OutboxEvent retried = find(postId, DomainEventType.POST_CREATED);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("전달을 포기한(failed_at) 이벤트가 있으면 같은 게시글의 이후 이벤트는 전달하지 않음")
+    void relay_ParkedAggregateBlocksLaterEvents() {
+        // given
+        UUID postId = postService.createPost(userId, postRequest("제목")).getPostId();
+        OutboxEvent parked = find(postId, DomainEventType.POST_CREATED);
+        parked.setFailedAt(Instant.now());
+        outboxEventRepository.save(parked);
+        postService.updatePost(userId, postId, postRequest("수정"));
+        UUID otherPostId = postService.createPost(userId, postRequest("다른 글")).getPostId();
+
+        // when
+        int dispatched = outboxRelay.relay();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(subscriber.typesFor(otherPostId)).containsExactly(DomainEventType.POST_CREATED);
+        assertThat(subscriber.typesFor(postId)).isEmpty();
+        assertThat(find(postId, DomainEventType.POST_UPDATED).getPublishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("앞선 id의 이벤트가 settle 시간 안에 기록되었으면 먼저 커밋된 뒤 id의 이벤트도 전달하지 않음")
+    void relay_UnsettledEarlierEventBlocksLaterEvents() {
+        // given: 뒤 id(수정)는 오래전에 기록, 앞 id(작성)는 방금 기록된 것처럼 둠 (id 순서와 커밋 순서가 다른 경우)
+        UUID postId = postService.createPost(userId, postRequest("제목")).getPostId();
+        postService.updatePost(userId, postId, postRequest("수정"));
+        UUID otherPostId = postService.createPost(userId, postRequest("다른 글")).getPostId();
+        Instant settled = Instant.now().minusSeconds(3600);
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        for (OutboxEvent event : events) {
+            boolean unsettled = event.getAggregateId().equals(postId) && event.getEventType() == DomainEventType.POST_CREATED;
+            event.setCreatedAt(unsettled ? Instant.now() : settled);
+            event.setNextAttemptAt(settled);
+        }
+        outboxEventRepository.saveAll(events);
+        OutboxRelay settlingRelay = newRelay(200, 60_000);
+
+        // when
+        int dispatched = settlingRelay.relay();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(subscriber.typesFor(otherPostId)).containsExactly(DomainEventType.POST_CREATED);
+        assertThat(subscriber.typesFor(postId)).isEmpty();
+        assertThat(find(postId, DomainEventType.POST_UPDATED).getPublishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 lease를 잃으면 다음 배치를 전달하지 않고 중단")
+    void relay_LeaseLostDuringBatch_Stops() {
+        // given: 배치 크기 1, 첫 이벤트를 처리하는 동안 다른 노드가 lease를 가져감
+        UUID postId = postService.createPost(userId, postRequest("제목")).getPostId();
+        postService.updatePost(userId, postId, postRequest("수정"));
+        OutboxRelay smallBatchRelay = newRelay(1, 0);
+        subscriber.beforeHandle(() -> outboxRelayLeaseRepository.findAll().forEach(lease -> {
+            lease.setOwnerNode(UUID.randomUUID());
+            lease.setExpiresAt(Instant.now().plusSeconds(60));
+            outboxRelayLeaseRepository.save(lease);
+        }));
+
+        // when
+        int dispatched = smallBatchRelay.relay();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(subscriber.typesFor(postId)).containsExactly(DomainEventType.POST_CREATED);
+        assertThat(find(postId, DomainEventType.POST_UPDATED).getPublishedAt()).isNull();
+    }
+
+    private OutboxEvent find(UUID aggregateId, DomainEventType type) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(aggregateId) && event.getEventType() == type)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // 설정을 바꾼 relay (노드 id가 다르므로 기존 lease를 만료시켜 넘겨받게 함)
+    private OutboxRelay newRelay(int batchSize, long settleMillis) {
+        outboxRelayLeaseRepository.findAll().forEach(lease -> {
+            lease.setExpiresAt(Instant.now().minusSeconds(1));
+            outboxRelayLeaseRepository.save(lease);
+        });
+        return new OutboxRelay(outboxEventRepository, outboxRelayLeaseRepository, List.of(subscriber),
+                objectMapper, new SimpleMeterRegistry(),
+                batchSize, 50, 10, 60_000, 30_000, 86_400_000, settleMillis);
+    }
+
+    private PostRequest postRequest(String title) {
+        return PostRequest.builder()
+                .title(title)
+                .body("본문")
+                .build();
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    static class RecordingSubscriber implements DomainEventSubscriber {
+
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+        private volatile DomainEventType failType;
+        private volatile UUID failAggregateId;
+        private volatile Runnable beforeHandle;
+
+        @Override
+        public void handle(DomainEvent event) {
+            Runnable hook = beforeHandle;
+            if (hook != null) {
+                beforeHandle = null;
+                hook.run();
+            }
+            if (event.type() == failType && event.aggregateId().equals(failAggregateId)) {
+                failType = null;
+                failAggregateId = null;
+                throw new IllegalStateException("구독자 처리 실패");
+            }
+            events.add(event);
+        }
+
+        void failNext(DomainEventType type, UUID aggregateId) {
+            this.failType = type;
+            this.failAggregateId = aggregateId;
+        }
+
+        // 다음 이벤트를 처리하기 직전에 한 번 실행
+        void beforeHandle(Runnable hook) {
+            this.beforeHandle = hook;
+        }
+
+        List<DomainEventType> typesFor(UUID aggregateId) {
+            return events.stream()
+                    .filter(event -> event.aggregateId().equals(aggregateId))
+                    .map(DomainEvent::type)
+                    .toList();
+        }
+
+        void reset() {
+            events.clear();
+            failType = null;
+            failAggregateId = null;
+            beforeHandle = null;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.entity.ImageUploadSession;
+import com.kateboo.cloud.community.exception.BadRequestException;
+import com.kateboo.cloud.community.exception.ConflictException;
+import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.repository.ImageUploadSessionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChunkedUploadServiceTest {
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private ImageUploadSessionRepository imageUploadSessionRepository;
+
+    @Autowired
+    private UploadStorage uploadStorage;
+
+    @Value("${file.temp-dir}")
+    private String tempDir;
+
+    @Test
+    @DisplayName("청크 업로드 - 끊긴 위치부터 다시 보내고(겹쳐도 됨) 완료하면 내용 해시 이름으로 저장")
+    void upload_ResumesAndCompletes() throws IOException {
+        // given
+        byte[] png = png(10_000);
+        ImageUploadSession session = chunkedUploadService.create(png.length);
+        UUID uploadId = session.getUploadId();
+        assertThat(Files.size(part(uploadId))).isEqualTo(png.length);
+
+        // when: 첫 청크, 응답을 못 받았다고 보고 일부 겹쳐서 재전송, 마지막 청크
+        assertThat(write(uploadId, png, 0, 4000).getReceivedSize()).isEqualTo(4000);
+        assertThat(write(uploadId, png, 3000, 7000).getReceivedSize()).isEqualTo(7000);
+        assertThat(chunkedUploadService.status(uploadId).getReceivedSize()).isEqualTo(7000);
+        ImageUploadSession last = write(uploadId, png, 7000, png.length);
+        StoredImage stored = chunkedUploadService.complete(uploadId);
+
+        // then
+        assertThat(last.isComplete()).isTrue();
+        assertThat(stored.type()).isEqualTo(ImageType.PNG);
+        assertThat(stored.size()).isEqualTo(png.length);
+        assertThat(Files.readAllBytes(uploadStorage.locate(stored.hash() + ".png").orElseThrow())).isEqualTo(png);
+        assertThat(imageUploadSessionRepository.existsById(uploadId)).isFalse();
+        assertThat(part(uploadId)).doesNotExist();
+        assertThatThrownBy(() -> chunkedUploadService.complete(uploadId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 중간을 건너뛰면 409, 세션 크기를 넘으면 400, 다 받기 전 완료하면 409")
+    void write_RejectsGapsAndOverflow() throws IOException {
+        // given
+        byte[] png = png(1000);
+        UUID uploadId = chunkedUploadService.create(png.length).getUploadId();
+        write(uploadId, png, 0, 100);
+
+        // when & then
+        assertThatThrownBy(() -> write(uploadId, png, 200, 300))
+                .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> chunkedUploadService.write(uploadId, 100, new ByteArrayInputStream(new byte[png.length])))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> chunkedUploadService.complete(uploadId))
+                .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> chunkedUploadService.create(Long.MAX_VALUE))
+                .isInstanceOf(BadRequestException.class);
+
+        chunkedUploadService.cancel(uploadId);
+        assertThat(part(uploadId)).doesNotExist();
+        assertThatThrownBy(() -> chunkedUploadService.status(uploadId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 임시 파일과 함께 삭제")
+    void purgeExpired_DeletesAbandonedSessions() throws IOException {
+        // given
+        UUID abandoned = chunkedUploadService.create(1000).getUploadId();
+        UUID active = chunkedUploadService.create(1000).getUploadId();
+        ImageUploadSession session = imageUploadSessionRepository.findById(abandoned).orElseThrow();
+        session.setExpiresAt(Instant.now().minusSeconds(60));
+        imageUploadSessionRepository.save(session);
+
+        // when
+        int purged = chunkedUploadService.purgeExpired();
+
+        // then
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(imageUploadSessionRepository.existsById(abandoned)).isFalse();
+        assertThat(part(abandoned)).doesNotExist();
+        assertThat(imageUploadSessionRepository.existsById(active)).isTrue();
+        assertThat(part(active)).exists();
+
+        chunkedUploadService.cancel(active);
+    }
+
+    @Test
+    @DisplayName("완료와 동시에 같은 세션에 다른 내용을 덮어써도 저장된 파일 내용은 파일 이름의 해시와 같음")
+    void complete_RacingWrite_StoredContentMatchesHash() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            // given: A를 모두 받은 세션
+            byte[] original = png(64 * 1024);
+            byte[] other = png(64 * 1024);
+            UUID uploadId = chunkedUploadService.create(original.length).getUploadId();
+            write(uploadId, original, 0, original.length);
+
+            // when: 완료 요청과 동시에 offset=0부터 B를 계속 덮어씀
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean done = new AtomicBoolean();
+            Thread writer = Thread.ofVirtual().start(() -> {
+                started.countDown();
+                while (!done.get()) {
+                    try {
+                        write(uploadId, other, 0, other.length);
+                    } catch (Exception e) {
+                        // 완료 처리로 세션이 사라지면 404 → 계속 시도 (파일에는 이미 썼을 수 있음)
+                    }
+                }
+            });
+            started.await();
+            StoredImage stored;
+            try {
+                stored = chunkedUploadService.complete(uploadId);
+            } finally {
+                done.set(true);
+                writer.join();
+            }
+
+            // then: 어느 쪽 내용이 저장되든 이름(해시)과 내용이 일치해야 함
+            byte[] saved = Files.readAllBytes(uploadStorage.locate(stored.hash() + ".png").orElseThrow());
+            assertThat(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(saved)))
+                    .isEqualTo(stored.hash());
+        }
+    }
+
+    private ImageUploadSession write(UUID uploadId, byte[] data, int from, int to) throws IOException {
+        return chunkedUploadService.write(uploadId, from, new ByteArrayInputStream(Arrays.copyOfRange(data, from, to)));
+    }
+
+    private Path part(UUID uploadId) {
+        return Paths.get(tempDir).toAbsolutePath().resolve("chunked").resolve(uploadId + ".part");
+    }
+
+    // 실행마다 내용이 달라야 이전 실행의 파일과 중복되지 않음 (PNG 시그니처 + 임의 바이트)
+    private static byte[] png(int length) {
+        byte[] bytes = new byte[length];
+        new Random(System.nanoTime()).nextBytes(bytes);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, bytes, 0, signature.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,167 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ImageUploadServiceTest {
+
+    @Autowired
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private UploadStorage uploadStorage;
+
+    @Value("${file.temp-dir}")
+    private String tempDir;
+
+    @Test
+    @DisplayName("같은 내용이 동시에 올라오면 한 요청만 저장, 나머지는 중복으로 처리")
+    void storeStream_ConcurrentSameContent_StoresOnce() throws Exception {
+        // given
+        byte[] png = png(new Color(ThreadLocalRandom.current().nextInt(0x1000000)));
+        int uploads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<StoredImage> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<StoredImage>> futures = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return imageUploadService.store(new ByteArrayInputStream(png));
+                }));
+            }
+            start.countDown();
+            results = new ArrayList<>();
+            for (Future<StoredImage> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        // then
+        assertThat(results).filteredOn(image -> !image.duplicate()).hasSize(1);
+        assertThat(Files.readAllBytes(uploadStorage.pathOf(results.get(0).hash() + ".png"))).isEqualTo(png);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장 직전에 같은 이름이 생겼으면 덮어쓰지 않고 false")
+    void link_ExistingTarget_DoesNotReplace() throws IOException {
+        // given
+        Path target = Files.createTempFile(Paths.get(tempDir), "existing", ".png");
+        Files.write(target, "existing".getBytes());
+        Path source = Files.createTempFile(Paths.get(tempDir), "incoming", ".png");
+        Files.write(source, "incoming".getBytes());
+
+        try {
+            // when & then
+            assertThat(ShardedUploadStorage.link(source, target)).isFalse();
+            assertThat(Files.readAllBytes(target)).isEqualTo("existing".getBytes());
+        } finally {
+            Files.deleteIfExists(target);
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 내용 해시 이름으로 샤드 디렉토리에 저장, 같은 내용은 다시 저장하지 않음")
+    void storeStream_DeduplicatesByContent() throws IOException {
+        // given
+        byte[] png = png(Color.RED);
+
+        // when
+        StoredImage first = imageUploadService.store(new ByteArrayInputStream(png));
+        StoredImage second = imageUploadService.store(new ByteArrayInputStream(png));
+
+        // then
+        assertThat(first.url()).isEqualTo(ImageUploadService.URL_PREFIX + first.hash() + ".png");
+        assertThat(first.type()).isEqualTo(ImageType.PNG);
+        assertThat(first.size()).isEqualTo(png.length);
+        assertThat(second.url()).isEqualTo(first.url());
+        assertThat(second.duplicate()).isTrue();
+        assertThat(uploadStorage.pathOf(first.hash() + ".png"))
+                .endsWith(Paths.get(first.hash().substring(0, 2), first.hash().substring(2, 4), first.hash() + ".png"));
+        assertThat(Files.readAllBytes(uploadStorage.pathOf(first.hash() + ".png"))).isEqualTo(png);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("multipart 업로드 - 스트리밍 업로드와 같은 URL로 중복 제거")
+    void storeMultipart_SharesContentAddress() throws IOException {
+        // given
+        byte[] png = png(Color.BLUE);
+        StoredImage streamed = imageUploadService.store(new ByteArrayInputStream(png));
+
+        // when
+        StoredImage uploaded = imageUploadService.store(
+                new MockMultipartFile("images", "photo.jpeg", "image/jpeg", png));
+
+        // then
+        assertThat(uploaded.url()).isEqualTo(streamed.url());
+        assertThat(uploaded.type()).isEqualTo(ImageType.PNG);
+        assertThat(uploaded.duplicate()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용은 거부하고 임시 파일을 남기지 않음")
+    void store_Fail_NotAnImage() {
+        // given
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes();
+
+        // when & then
+        assertThatThrownBy(() -> imageUploadService.store(new ByteArrayInputStream(html)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("지원하지 않는 이미지 형식입니다 (jpg, png, gif, webp)");
+        assertThat(tempFiles()).isZero();
+    }
+
+    private long tempFiles() {
+        try (Stream<Path> files = Files.list(Paths.get(tempDir))) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".upload")).count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] png(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                image.setRGB(x, y, color.getRGB() ^ (x * 31 + y));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,167 @@
+package com.kateboo.cloud.community.image;
+
+import com.kateboo.cloud.community.dto.response.PostImageResponse;
+import com.kateboo.cloud.community.entity.ImageVariantJob;
+import com.kateboo.cloud.community.entity.PostImage;
+import com.kateboo.cloud.community.repository.ImageVariantJobRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImageVariantWorkerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private ImageVariantWorker imageVariantWorker;
+
+    @Autowired
+    private ImageVariantJobRepository imageVariantJobRepository;
+
+    @Autowired
+    private UploadStorage uploadStorage;
+
+    @Test
+    @DisplayName("업로드 후 백그라운드에서 thumb(320 정사각형)/medium(긴 변 1080) 생성, 생성 전에는 원본으로 응답")
+    void upload_GeneratesVariants() throws Exception {
+        // given
+        byte[] png = png(2000, 1000);
+        StoredImage stored = imageUploadService.store(new ByteArrayInputStream(png));
+        String thumbUrl = ImageVariant.THUMBNAIL.urlOf(stored.url());
+        String mediumUrl = ImageVariant.MEDIUM.urlOf(stored.url());
+
+        assertThat(imageVariantJobRepository.findBySourceName(stored.hash() + ".png")).isPresent();
+        mockMvc.perform(get(thumbUrl))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png));
+
+        // when
+        assertThat(imageVariantWorker.poll()).isPositive();
+
+        // then
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!completed(stored) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(completed(stored)).isTrue();
+
+        BufferedImage thumb = read(ImageVariant.THUMBNAIL.fileName(stored.hash()));
+        BufferedImage medium = read(ImageVariant.MEDIUM.fileName(stored.hash()));
+        assertThat(thumb.getWidth()).isEqualTo(320);
+        assertThat(thumb.getHeight()).isEqualTo(320);
+        assertThat(medium.getWidth()).isEqualTo(1080);
+        assertThat(medium.getHeight()).isEqualTo(540);
+
+        mockMvc.perform(get(thumbUrl))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(Files.readAllBytes(
+                        uploadStorage.pathOf(ImageVariant.THUMBNAIL.fileName(stored.hash())))));
+        assertThat(mediumUrl).endsWith(stored.hash() + "_medium.jpg");
+    }
+
+    @Test
+    @DisplayName("응답 DTO - 이 서비스가 저장한 이미지만 축소본 URL 포함")
+    void response_ExposesVariantUrls() {
+        String hash = "a".repeat(64);
+        PostImageResponse hosted = PostImageResponse.from(PostImage.builder()
+                .imageUrl(ImageUploadService.URL_PREFIX + hash + ".png")
+                .orderNo(0)
+                .build());
+        PostImageResponse external = PostImageResponse.from(PostImage.builder()
+                .imageUrl("https://example.com/images/1.jpg")
+                .orderNo(1)
+                .build());
+
+        assertThat(hosted.getThumbnailUrl()).isEqualTo(ImageUploadService.URL_PREFIX + hash + "_thumb.jpg");
+        assertThat(hosted.getMediumUrl()).isEqualTo(ImageUploadService.URL_PREFIX + hash + "_medium.jpg");
+        assertThat(external.getThumbnailUrl()).isNull();
+        assertThat(external.getMediumUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 재시도 시각을 늦추고, max-attempts번 실패하면 포기")
+    void process_Failure_RetriesThenGivesUp() {
+        // given: 원본 파일이 없는 작업
+        Instant now = Instant.now();
+        ImageVariantJob job = imageVariantJobRepository.save(ImageVariantJob.builder()
+                .sourceName("f".repeat(64) + ".png")
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+
+        // when
+        imageVariantWorker.process(job);
+
+        // then
+        ImageVariantJob retried = imageVariantJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getNextAttemptAt()).isAfter(now);
+        assertThat(retried.getFailedAt()).isNull();
+        assertThat(retried.getLastError()).contains("NoSuchFileException");
+
+        // when: 마지막 시도
+        retried.setAttempts(4);
+        imageVariantJobRepository.save(retried);
+        imageVariantWorker.process(retried);
+
+        // then
+        ImageVariantJob failed = imageVariantJobRepository.findById(job.getJobId()).orElseThrow();
+        assertThat(failed.getAttempts()).isEqualTo(5);
+        assertThat(failed.getFailedAt()).isNotNull();
+        assertThat(imageVariantJobRepository.findRunnable(Instant.now().plusSeconds(86_400), PageRequest.of(0, 100)))
+                .extracting(ImageVariantJob::getJobId)
+                .doesNotContain(job.getJobId());
+    }
+
+    private boolean completed(StoredImage stored) {
+        return imageVariantJobRepository.findBySourceName(stored.hash() + ".png")
+                .map(job -> job.getCompletedAt() != null)
+                .orElse(false);
+    }
+
+    private BufferedImage read(String name) throws IOException {
+        return ImageIO.read(uploadStorage.locate(name).orElseThrow().toFile());
+    }
+
+    // 실행마다 내용이 달라야 이전 실행의 파일과 중복되지 않음
+    private static byte[] png(int width, int height) throws IOException {
+        Random random = new Random(System.nanoTime());
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int base = random.nextInt();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, base + x * 7 + y * 13);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+package com.kateboo.cloud.community.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UploadLayoutMigratorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShardedUploadStorage storage;
+
+    @Autowired
+    private UploadLayoutMigrator migrator;
+
+    @Test
+    @DisplayName("평면 레이아웃 파일 - 옮기기 전후 모두 같은 URL로 제공, 이동 후 샤드 디렉토리에만 존재")
+    void legacyFlatFile_ServedBeforeAndAfterMigration() throws Exception {
+        // given: 이전 업로드(UUID 이름)가 루트에 있음
+        String name = UUID.randomUUID() + ".jpg";
+        byte[] bytes = "legacy-image".getBytes();
+        Path flat = storage.getRoot().resolve(name);
+        Files.write(flat, bytes);
+
+        assertThat(storage.locate(name)).contains(flat);
+        mockMvc.perform(get(ImageUploadService.URL_PREFIX + name))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(bytes));
+
+        // when
+        while (migrator.migrateBatch() > 0) {
+            // 남은 평면 파일이 없을 때까지
+        }
+
+        // then
+        Path sharded = storage.pathOf(name);
+        assertThat(sharded.getParent().getParent().getFileName().toString()).isEqualTo(name.substring(0, 2));
+        assertThat(sharded.getParent().getFileName().toString()).isEqualTo(name.substring(2, 4));
+        assertThat(flat).doesNotExist();
+        assertThat(storage.locate(name)).contains(sharded);
+        assertThat(migrator.isCompleted()).isTrue();
+        mockMvc.perform(get(ImageUploadService.URL_PREFIX + name))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(bytes));
+    }
+
+    @Test
+    @DisplayName("샤드에 같은 이름이 이미 있으면 평면 쪽만 삭제")
+    void duplicateName_RemovesFlatCopy() throws Exception {
+        // given
+        String name = UUID.randomUUID() + ".png";
+        Path sharded = storage.pathOf(name);
+        Files.createDirectories(sharded.getParent());
+        Files.write(sharded, "current".getBytes());
+        Path flat = storage.getRoot().resolve(name);
+        Files.write(flat, "current".getBytes());
+
+        // when
+        while (migrator.migrateBatch() > 0) {
+            // 남은 평면 파일이 없을 때까지
+        }
+
+        // then
+        assertThat(flat).doesNotExist();
+        assertThat(sharded).hasContent("current");
+    }
+
+    @Test
+    @DisplayName("디렉토리 이동/샤드 경로를 포함한 이름은 찾지 않음")
+    void unsafeName_NotResolved() {
+        assertThat(storage.locate("../application.yml")).isEmpty();
+        assertThat(storage.locate("ab/cd/file.png")).isEmpty();
+        assertThatThrownBy(() -> storage.pathOf("../escape.png")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package com.kateboo.cloud.community.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UploadedImageServerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private UploadStorage uploadStorage;
+
+    @Test
+    @DisplayName("내용 해시 이름 - 1년 immutable 캐시, 해시 ETag, If-None-Match 일치 시 304")
+    void contentAddressed_ImmutableAndNotModified() throws Exception {
+        // given
+        byte[] png = png();
+        StoredImage stored = imageUploadService.store(new ByteArrayInputStream(png));
+        String etag = "\"" + stored.hash() + "\"";
+
+        // when & then
+        mockMvc.perform(get(stored.url()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(png));
+
+        mockMvc.perform(get(stored.url()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(head(stored.url()))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, png.length))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Range - 단일 범위는 206, 범위 밖은 416, 잘못된 범위/If-Range 불일치 시 전체 응답")
+    void range() throws Exception {
+        // given
+        byte[] png = png();
+        StoredImage stored = imageUploadService.store(new ByteArrayInputStream(png));
+
+        // when & then
+        mockMvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/" + png.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(png, 10, 20)));
+
+        mockMvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(png, png.length - 5, png.length)));
+
+        mockMvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=" + png.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + png.length));
+
+        mockMvc.perform(get(stored.url()).header(HttpHeaders.RANGE, "bytes=5-2"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png));
+
+        mockMvc.perform(get(stored.url())
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(png));
+    }
+
+    @Test
+    @DisplayName("축소본이 아직 없으면 원본을 짧은 캐시로 응답, 없는 파일은 404")
+    void variantFallback_ShortCache() throws Exception {
+        // given
+        byte[] png = png();
+        StoredImage stored = imageUploadService.store(new ByteArrayInputStream(png));
+
+        // when & then
+        mockMvc.perform(get(ImageVariant.THUMBNAIL.urlOf(stored.url())))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=60"))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(png));
+
+        mockMvc.perform(get(ImageUploadService.URL_PREFIX + "0".repeat(64) + ".png"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("이전 업로드(UUID 이름) - 1일 캐시, 크기/수정 시각 ETag")
+    void legacyName_DailyCache() throws Exception {
+        // given
+        byte[] png = png();
+        String name = UUID.randomUUID() + ".png";
+        Path legacy = uploadStorage.pathOf(name);
+        Files.createDirectories(legacy.getParent());
+        Files.write(legacy, png);
+
+        // when & then
+        String etag = mockMvc.perform(get(ImageUploadService.URL_PREFIX + name))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=86400"))
+                .andExpect(content().bytes(png))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).isNotBlank();
+        mockMvc.perform(get(ImageUploadService.URL_PREFIX + name).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Range 헤더 해석 - 여러 범위/형식 오류는 무시(전체 응답)")
+    void parseRange() {
+        assertThat(UploadedImageServer.parseRange("bytes=0-99", 50))
+                .isEqualTo(new UploadedImageServer.ByteRange(0, 50));
+        assertThat(UploadedImageServer.parseRange("bytes=0-1,5-6", 50)).isNull();
+        assertThat(UploadedImageServer.parseRange("items=0-1", 50)).isNull();
+        assertThat(UploadedImageServer.parseRange("bytes=-", 50)).isNull();
+        assertThat(UploadedImageServer.parseRange("bytes=5-2", 50)).isNull();
+        assertThat(UploadedImageServer.parseRange("bytes=50-60", 50))
+                .isEqualTo(new UploadedImageServer.ByteRange(-1, -1));
+        assertThat(UploadedImageServer.parseRange("bytes=-0", 50))
+                .isEqualTo(new UploadedImageServer.ByteRange(-1, -1));
+    }
+
+    // 실행마다 내용이 달라야 이전 실행의 파일과 중복되지 않음 (PNG 시그니처 + 임의 바이트)
+    private static byte[] png() {
+        byte[] bytes = new byte[4096];
+        new Random(System.nanoTime()).nextBytes(bytes);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, bytes, 0, signature.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,171 @@
+package com.kateboo.cloud.community.load;
+
+import com.kateboo.cloud.community.CommunityApplication;
+import com.kateboo.cloud.community.image.ImageUploadService;
+import com.kateboo.cloud.community.image.StoredImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 업로드 이미지 응답 방식 부하 비교
+ *
+ * file.serving.handler=resource(기존 정적 리소스 핸들러) / direct(UploadedImageController)로 각각 띄워
+ * 작은 이미지(썸네일 크기), 큰 이미지(원본 크기), ETag 재검증(If-None-Match) 요청에
+ * 같은 동시 부하를 주고 처리량, 전송량, 지연(p50/p99), 오류 수를 출력한다.
+ * 기본 테스트에서는 제외되며 ./gradlew loadTest 로 실행
+ * (-Dload.concurrency=200 -Dload.duration=10 -Dload.image.small-kb=30 -Dload.image.large-kb=2048)
+ */
+@Tag("load")
+class ImageServingLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 10);
+    private static final int SMALL_KB = Integer.getInteger("load.image.small-kb", 30);
+    private static final int LARGE_KB = Integer.getInteger("load.image.large-kb", 2048);
+
+    @Test
+    @DisplayName("정적 리소스 핸들러와 직접 응답(immutable/ETag/sendfile)의 처리량/지연 비교")
+    void compareServingHandlers() throws Exception {
+        Path uploadDir = Files.createTempDirectory("load-images");
+        List<Result> results = new ArrayList<>();
+        results.addAll(run("resource", uploadDir));
+        results.addAll(run("direct", uploadDir));
+
+        System.out.printf("%n%-10s %-12s %10s %10s %10s %10s %10s%n",
+                "handler", "request", "req/s", "MB/s", "p50(ms)", "p99(ms)", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %-12s %10.1f %10.1f %10.2f %10.2f %10d%n",
+                    result.handler(), result.request(), result.throughput(),
+                    result.bytes() / (double) DURATION_SECONDS / (1024 * 1024),
+                    result.p50Millis(), result.p99Millis(), result.errors());
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private List<Result> run(String handler, Path uploadDir) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:load-images-" + handler + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "file.upload-dir=" + uploadDir,
+                        "file.serving.handler=" + handler,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.com.kateboo.cloud.community=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "server.port=0")
+                .run();
+
+        try {
+            ImageUploadService imageUploadService = context.getBean(ImageUploadService.class);
+            StoredImage small = imageUploadService.store(new ByteArrayInputStream(image(SMALL_KB)));
+            StoredImage large = imageUploadService.store(new ByteArrayInputStream(image(LARGE_KB)));
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            HttpRequest smallRequest = request(base + small.url()).build();
+            HttpRequest largeRequest = request(base + large.url()).build();
+            // 각 방식이 내려준 ETag로 재검증
+            String etag = HttpClient.newHttpClient()
+                    .send(smallRequest, HttpResponse.BodyHandlers.discarding())
+                    .headers().firstValue("ETag").orElseThrow();
+            HttpRequest revalidate = request(base + small.url()).header("If-None-Match", etag).build();
+
+            return List.of(
+                    load(handler, "small", smallRequest, 200),
+                    load(handler, "large", largeRequest, 200),
+                    load(handler, "revalidate", revalidate, 304));
+        } finally {
+            context.close();
+        }
+    }
+
+    private Result load(String handler, String name, HttpRequest request, int expectedStatus) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() == expectedStatus) {
+                                latencies.add(System.nanoTime() - startedAt);
+                                bytes.addAndGet(response.body().length);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        return new Result(handler, name, sorted.size(), errors.get(), sorted.size() / (double) DURATION_SECONDS,
+                bytes.get(), percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static HttpRequest.Builder request(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    // PNG 시그니처 + 임의 바이트 (응답 경로만 비교하므로 디코딩할 수 있을 필요는 없음)
+    private static byte[] image(int kilobytes) {
+        byte[] bytes = new byte[kilobytes * 1024];
+        new Random(System.nanoTime()).nextBytes(bytes);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        System.arraycopy(signature, 0, bytes, 0, signature.length);
+        return bytes;
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Result(String handler, String request, int requests, int errors, double throughput,
+                          long bytes, double p50Millis, double p99Millis) {
+    }
+}
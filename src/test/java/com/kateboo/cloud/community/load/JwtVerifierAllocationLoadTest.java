@@ -0,0 +1,85 @@
+package com.kateboo.cloud.community.load;
+
+import com.kateboo.cloud.community.security.JwtTokenProvider;
+import com.kateboo.cloud.community.security.JwtVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인증 필터의 Access Token 검증 비용: JwtVerifier vs JJWT(JwtTokenProvider)
+ *
+ * 같은 "Bearer ..." 헤더를 반복 검증하며 호출당 할당 바이트(스레드 할당 카운터)와 시간을 출력하고 상한을 확인한다.
+ * 정확한 B/op 비교는 JMH 벤치마크(src/jmh의 JwtVerifierBenchmark, ./gradlew jmh)로 측정
+ * JIT 워밍업 후 측정하므로 탈출 분석으로 제거되는 할당은 포함되지 않음 (JMH -prof gc의 gc.alloc.rate.norm과 같은 기준).
+ * 기본 테스트에서는 제외되며 ./gradlew loadTest 로 실행
+ * (-Dload.jwt.iterations=1000000)
+ */
+@Tag("load")
+class JwtVerifierAllocationLoadTest {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLW1pbmltdW0tMjU2LWJpdHMtcmVxdWlyZWQtMTIzNDU2Nzg5MGFiY2RlZmdoaWprbG1ub3BxcnN0dXZ3eHl6QUJDREVGR0hJSktMTU5PUFFSU1RVVldYWVo=";
+    private static final String BEARER = "Bearer ";
+    private static final int ITERATIONS = Integer.getInteger("load.jwt.iterations", 1_000_000);
+    private static final int WARMUP = Math.max(ITERATIONS / 5, 50_000);
+    // 결과 record + JDK Mac 내부 digest 버퍼 정도만 허용
+    private static final long MAX_VERIFIER_BYTES_PER_CALL = 512;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("JwtVerifier 호출당 할당량이 상한 이하이고 JJWT보다 적음")
+    void verify_AllocationPerCall() {
+        // given
+        JwtVerifier jwtVerifier = new JwtVerifier(SECRET);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1800000);
+        UUID userId = UUID.randomUUID();
+        String header = BEARER + jwtTokenProvider.generateToken(userId, "load@example.com");
+        String token = header.substring(BEARER.length());
+        assertThat(jwtVerifier.verify(header, BEARER.length()).userId()).isEqualTo(userId);
+
+        // when
+        Result verifier = measure("JwtVerifier", h -> jwtVerifier.verify(h, BEARER.length()).userIdLeastSigBits(), header);
+        Result jjwt = measure("JJWT", t -> jwtTokenProvider.getUserIdFromToken(t).getLeastSignificantBits(), token);
+
+        // then
+        System.out.printf("%n%-12s %14s %12s%n", "verifier", "bytes/call", "ns/call");
+        for (Result result : new Result[]{verifier, jjwt}) {
+            System.out.printf("%-12s %14.1f %12.0f%n", result.name(), result.bytesPerCall(), result.nanosPerCall());
+        }
+
+        assertThat(verifier.bytesPerCall()).isLessThanOrEqualTo(MAX_VERIFIER_BYTES_PER_CALL);
+        assertThat(verifier.bytesPerCall()).isLessThan(jjwt.bytesPerCall());
+    }
+
+    private Result measure(String name, ToLongFunction<String> call, String input) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += call.applyAsLong(input);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += call.applyAsLong(input);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // 결과를 사용하여 JIT가 호출을 제거하지 못하게 함
+        assertThat(sink).isNotEqualTo(Long.MIN_VALUE);
+        return new Result(name, (double) allocated / ITERATIONS, (double) elapsed / ITERATIONS);
+    }
+
+    private record Result(String name, double bytesPerCall, double nanosPerCall) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.kateboo.cloud.community.load;
+
+import com.kateboo.cloud.community.CommunityApplication;
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 이미지가 많은 게시글 작성 비교: JDBC 배치 끔(IDENTITY 시절과 같은 행당 1회 전송) vs 켬
+ *
+ * 모드별로 MySQL에 애플리케이션을 띄워 이미지 N장짜리 게시글을 작성하고
+ * 처리량과 게시글당 서버가 받은 문장 수(Questions)/INSERT 수(Com_insert)를 출력한다.
+ * Docker가 필요하며 기본 테스트에서는 제외, ./gradlew loadTest 로 실행
+ * (-Dload.batch.posts=500 -Dload.batch.images=20)
+ */
+@Tag("load")
+@Testcontainers
+class PostCreationBatchLoadTest {
+
+    private static final int POSTS = Integer.getInteger("load.batch.posts", 500);
+    private static final int IMAGES = Integer.getInteger("load.batch.images", 20);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    @DisplayName("JDBC 배치 유무에 따른 이미지 다수 게시글 작성 처리량/전송 횟수 비교")
+    void compareBatching() throws Exception {
+        Result unbatched = run("unbatched", 0);
+        Result batched = run("batched", 50);
+
+        System.out.printf("%n%-10s %10s %12s %14s %14s%n",
+                "mode", "posts", "posts/s", "questions/post", "inserts/post");
+        for (Result result : List.of(unbatched, batched)) {
+            System.out.printf("%-10s %10d %12.1f %14.1f %14.1f%n",
+                    result.mode(), result.posts(), result.throughput(),
+                    result.questions() / (double) result.posts(), result.inserts() / (double) result.posts());
+        }
+
+        assertThat(batched.inserts()).isLessThan(unbatched.inserts());
+    }
+
+    private Result run(String mode, int batchSize) throws Exception {
+        String url = MYSQL.getJdbcUrl() + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true"
+                + "&rewriteBatchedStatements=true";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + MYSQL.getUsername(),
+                        "spring.datasource.password=" + MYSQL.getPassword(),
+                        "spring.datasource.driver-class-name=" + MYSQL.getDriverClassName(),
+                        "spring.flyway.enabled=true",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.jpa.properties.hibernate.order_inserts=" + (batchSize > 0),
+                        "spring.jpa.properties.hibernate.order_updates=" + (batchSize > 0),
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.com.kateboo.cloud.community=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "server.port=0")
+                .run();
+
+        try {
+            UUID userId = context.getBean(UserRepository.class).save(User.builder()
+                    .email(mode + "@example.com")
+                    .nickname(mode.substring(0, 5))
+                    .passwordHash("encoded")
+                    .profileImageUrl("https://example.com/profile.jpg")
+                    .isActive(true)
+                    .build()).getUserId();
+            PostService postService = context.getBean(PostService.class);
+            List<String> imageUrls = IntStream.range(0, IMAGES)
+                    .mapToObj(i -> "https://example.com/images/" + mode + "/" + i + ".jpg")
+                    .toList();
+
+            // 워밍업 (시퀀스 블록, JIT)
+            for (int i = 0; i < 20; i++) {
+                postService.createPost(userId, postRequest(i, imageUrls));
+            }
+
+            long questionsBefore = status("Questions");
+            long insertsBefore = status("Com_insert");
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < POSTS; i++) {
+                postService.createPost(userId, postRequest(i, imageUrls));
+            }
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+            return new Result(mode, POSTS, POSTS / seconds,
+                    status("Questions") - questionsBefore, status("Com_insert") - insertsBefore);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static PostRequest postRequest(int i, List<String> imageUrls) {
+        return PostRequest.builder()
+                .title("게시글 " + i)
+                .body("본문 " + i)
+                .imageUrls(imageUrls)
+                .build();
+    }
+
+    // 서버 전체 카운터 (측정 연결 자신의 조회 몇 건이 포함됨)
+    private static long status(String name) throws Exception {
+        try (Connection connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW GLOBAL STATUS LIKE '" + name + "'")) {
+            resultSet.next();
+            return resultSet.getLong(2);
+        }
+    }
+
+    private record Result(String mode, int posts, double throughput, long questions, long inserts) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.kateboo.cloud.community.load;
+
+import com.kateboo.cloud.community.CommunityApplication;
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.PostService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 부하 비교
+ *
+ * 모드별로 애플리케이션을 띄워 GET /api/posts(목록)와 GET /api/posts/{postId}(상세)에 번갈아 같은 동시 부하를 주고
+ * 처리량, 지연(p50/p99), 오류 수, DB 연결 대기 최대치를 출력한다.
+ * 상세 조회마다 조회수 증가가 viewCountExecutor(@Async)로 넘어가므로 그 실행기와 동시 실행 제한도 부하에 포함되고,
+ * 끝난 뒤 증가된 조회수(views)를 함께 출력한다.
+ * 기본 테스트에서는 제외되며 ./gradlew loadTest 로 실행
+ * (-Dload.concurrency=200 -Dload.duration=10 -Dload.pool-size=10)
+ */
+@Tag("load")
+class ThreadingModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 10);
+    private static final int POOL_SIZE = Integer.getInteger("load.pool-size", 10);
+    private static final int POSTS = 200;
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드 모드의 처리량/지연 비교")
+    void compareThreadingModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%-10s %10s %10s %10s %10s %10s %10s%n",
+                "mode", "req/s", "p50(ms)", "p99(ms)", "errors", "maxWait", "views");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %10.1f %10.1f %10.1f %10d %10d %10d%n",
+                    result.mode(), result.throughput(), result.p50Millis(), result.p99Millis(),
+                    result.errors(), result.maxWaiting(), result.views());
+        }
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+        assertThat(platform.views()).isPositive();
+        assertThat(virtual.views()).isPositive();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "jdbc.connection-permits.enabled=" + virtualThreads,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.com.kateboo.cloud.community=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "server.port=0")
+                .run();
+
+        HikariDataSource pool = context.getBean(DataSource.class).unwrap(HikariDataSource.class);
+        try {
+            List<UUID> postIds = seed(context);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/posts";
+
+            // 목록, 상세(게시글마다 한 번씩) 순서로 번갈아 요청
+            List<URI> uris = new ArrayList<>();
+            for (UUID postId : postIds) {
+                uris.add(URI.create(baseUrl + "?page=0&size=8"));
+                uris.add(URI.create(baseUrl + "/" + postId));
+            }
+            return load(mode, uris, context.getBean(MeterRegistry.class), context.getBean(JdbcTemplate.class));
+        } finally {
+            context.close();
+            // 허가 제한을 씌운 풀도 컨텍스트와 함께 닫혀야 다음 모드 실행에 연결이 남지 않음
+            assertThat(pool.isClosed()).isTrue();
+        }
+    }
+
+    private List<UUID> seed(ConfigurableApplicationContext context) {
+        UUID userId = context.getBean(UserRepository.class).save(User.builder()
+                .email("load@example.com")
+                .nickname("부하")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build()).getUserId();
+
+        PostService postService = context.getBean(PostService.class);
+        List<UUID> postIds = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            postIds.add(postService.createPost(userId, PostRequest.builder()
+                    .title("게시글 " + i)
+                    .body("본문 " + i)
+                    .build()).getPostId());
+        }
+        return postIds;
+    }
+
+    private Result load(String mode, List<URI> uris, MeterRegistry meterRegistry, JdbcTemplate jdbcTemplate)
+            throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<HttpRequest> requests = uris.stream()
+                .map(uri -> HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build())
+                .toList();
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicLong maxWaiting = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                int offset = i;
+                workers.submit(() -> {
+                    for (int n = offset; System.nanoTime() < deadline; n++) {
+                        HttpRequest request = requests.get(n % requests.size());
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.add(System.nanoTime() - startedAt);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            // DB 연결을 기다리는 스레드 수 (Hikari 대기 + 허가 대기) 최대치
+            while (System.nanoTime() < deadline) {
+                maxWaiting.accumulateAndGet((long) (sum(meterRegistry, "hikaricp.connections.pending")
+                        + sum(meterRegistry, "jdbc.connection.permits.waiting")), Math::max);
+                Thread.sleep(50);
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        sorted.sort(null);
+        return new Result(mode, sorted.size(), errors.get(), sorted.size() / (double) DURATION_SECONDS,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), maxWaiting.get(), settledViews(jdbcTemplate));
+    }
+
+    /**
+     * 부하가 끝난 뒤에도 실행 중인 조회수 증가가 있으므로 합계가 더 늘지 않을 때까지(최대 10초) 기다림
+     */
+    private static long settledViews(JdbcTemplate jdbcTemplate) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long views = -1;
+        while (System.nanoTime() < deadline) {
+            long current = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(views_count), 0) FROM post_stats", Long.class);
+            if (current == views) {
+                break;
+            }
+            views = current;
+            Thread.sleep(500);
+        }
+        return views;
+    }
+
+    private static double sum(MeterRegistry meterRegistry, String name) {
+        return Search.in(meterRegistry).name(name).gauges().stream().mapToDouble(gauge -> gauge.value()).sum();
+    }
+
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Result(String mode, int requests, int errors, double throughput,
+                          double p50Millis, double p99Millis, long maxWaiting, long views) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.kateboo.cloud.community.load;
+
+import com.kateboo.cloud.community.entity.id.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글/댓글/사용자 PK 생성기 비교: UUID v4(@UuidGenerator RANDOM) vs UUIDv7(@UuidV7)
+ *
+ * posts와 같은 모양(BINARY(16) PK + user_id 보조 인덱스)의 테이블에 같은 행 수를 넣고
+ * 전체/마지막 구간 삽입 처리량, 클러스터드 인덱스(data)와 보조 인덱스 크기를 출력한다.
+ * 버퍼 풀을 작게 잡아 테이블이 메모리보다 커졌을 때의 랜덤 삽입 비용이 드러나도록 함.
+ * Docker가 필요하며 기본 테스트에서는 제외, ./gradlew loadTest 로 실행
+ * (-Dload.uuid.rows=3000000 -Dload.uuid.batch=1000)
+ */
+@Tag("load")
+@Testcontainers
+class UuidPrimaryKeyLoadTest {
+
+    private static final int ROWS = Integer.getInteger("load.uuid.rows", 3_000_000);
+    private static final int BATCH = Integer.getInteger("load.uuid.batch", 1000);
+    private static final int SEGMENTS = 10;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--innodb-buffer-pool-size=64M", "--innodb-flush-log-at-trx-commit=2");
+
+    @Test
+    @DisplayName("UUID v4와 v7 PK의 삽입 처리량/인덱스 크기 비교")
+    void compareGenerators() throws Exception {
+        Result random = run("uuid_v4", UUID::randomUUID);
+        Result v7 = run("uuid_v7", UuidV7Generator::next);
+
+        System.out.printf("%n%-8s %10s %12s %12s %12s %12s%n",
+                "pk", "rows", "rows/s", "last rows/s", "data(MB)", "index(MB)");
+        for (Result result : List.of(random, v7)) {
+            System.out.printf("%-8s %10d %12.0f %12.0f %12.1f %12.1f%n",
+                    result.name(), result.rows(), result.throughput(), result.lastSegmentThroughput(),
+                    result.dataBytes() / 1_048_576.0, result.indexBytes() / 1_048_576.0);
+        }
+
+        assertThat(random.rows()).isEqualTo(ROWS);
+        assertThat(v7.rows()).isEqualTo(ROWS);
+    }
+
+    private Result run(String table, Supplier<UUID> generator) throws Exception {
+        String url = MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true&useSSL=false";
+        try (Connection connection = DriverManager.getConnection(url, MYSQL.getUsername(), MYSQL.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " ("
+                        + " id BINARY(16) NOT NULL PRIMARY KEY,"
+                        + " user_id BINARY(16) NOT NULL,"
+                        + " title VARCHAR(26) NOT NULL,"
+                        + " created_at DATETIME(6) NOT NULL,"
+                        + " KEY idx_user_id (user_id))");
+            }
+
+            UUID[] users = new UUID[1000];
+            for (int i = 0; i < users.length; i++) {
+                users[i] = UUID.randomUUID();
+            }
+
+            connection.setAutoCommit(false);
+            int segmentRows = Math.max(1, ROWS / SEGMENTS);
+            long startedAt = System.nanoTime();
+            long segmentStartedAt = startedAt;
+            double lastSegmentThroughput = 0;
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (id, user_id, title, created_at) VALUES (?, ?, ?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setBytes(1, toBytes(generator.get()));
+                    insert.setBytes(2, toBytes(users[i % users.length]));
+                    insert.setString(3, "게시글 " + i);
+                    insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                    insert.addBatch();
+
+                    if (i % BATCH == 0 || i == ROWS) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                    if (i % segmentRows == 0) {
+                        long now = System.nanoTime();
+                        lastSegmentThroughput = segmentRows / ((now - segmentStartedAt) / 1e9);
+                        segmentStartedAt = now;
+                    }
+                }
+            }
+            double throughput = ROWS / ((System.nanoTime() - startedAt) / 1e9);
+            connection.setAutoCommit(true);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE " + table);
+                long rows;
+                try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                    resultSet.next();
+                    rows = resultSet.getLong(1);
+                }
+                try (ResultSet resultSet = statement.executeQuery(
+                        "SELECT data_length, index_length FROM information_schema.tables"
+                                + " WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                    resultSet.next();
+                    return new Result(table, rows, throughput, lastSegmentThroughput,
+                            resultSet.getLong(1), resultSet.getLong(2));
+                }
+            }
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record Result(String name, long rows, double throughput, double lastSegmentThroughput,
+                          long dataBytes, long indexBytes) {
+    }
+}
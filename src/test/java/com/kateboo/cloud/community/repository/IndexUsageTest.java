@@ -0,0 +1,232 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.id.UuidV7Generator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Flyway 마이그레이션(V2__performance_indexes)의 인덱스가 실제 조회 경로에서 쓰이는지 MySQL EXPLAIN으로 확인
+ *
+ * 각 SQL은 해당 Repository 메서드가 생성하는 SQL과 같은 조건/정렬로 작성
+ * 옵티마이저가 실제 분포로 판단하도록 테이블별로 수천~수만 행을 넣고 ANALYZE TABLE 후 실행한다.
+ * Docker가 없으면 건너뜀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageTest {
+
+    private static final int USERS = 2_000;
+    private static final int POSTS = 20_000;
+    private static final int COMMENTS = 60_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static boolean seeded;
+    private static byte[] samplePostId;
+    private static byte[] sampleUserId;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> MYSQL.getJdbcUrl()
+                + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        Random random = new Random(42);
+        Instant now = Instant.now();
+
+        List<byte[]> userIds = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            byte[] userId = toBytes(UuidV7Generator.next());
+            userIds.add(userId);
+            // 5%만 탈퇴 상태
+            boolean active = i % 20 != 0;
+            users.add(new Object[]{userId, "user" + i + "@example.com", "encoded", "u" + i, active,
+                    active ? null : Timestamp.from(now.minus(random.nextInt(60), ChronoUnit.DAYS)),
+                    Timestamp.from(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, email, password_hash, nickname, is_active, " +
+                "deactivated_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        List<byte[]> postIds = new ArrayList<>();
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        List<Object[]> likes = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++) {
+            byte[] postId = toBytes(UuidV7Generator.next());
+            postIds.add(postId);
+            Timestamp createdAt = Timestamp.from(now.minusSeconds(POSTS - i));
+            posts.add(new Object[]{postId, "게시글 " + i, createdAt, userIds.get(random.nextInt(USERS))});
+            stats.add(new Object[]{postId, random.nextInt(100), random.nextInt(10_000), createdAt});
+            likes.add(new Object[]{postId, userIds.get(i % USERS), createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (post_id, title, created_at, user_id) VALUES (?, ?, ?, ?)", posts);
+        jdbcTemplate.batchUpdate("INSERT INTO post_stats (post_id, likes_count, views_count, comment_count, updated_at) " +
+                "VALUES (?, ?, ?, 0, ?)", stats);
+        jdbcTemplate.batchUpdate("INSERT INTO post_likes (post_id, user_id, created_at) VALUES (?, ?, ?)", likes);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENTS; i++) {
+            Timestamp createdAt = Timestamp.from(now.minusSeconds(COMMENTS - i));
+            comments.add(new Object[]{toBytes(UuidV7Generator.next()), "댓글 " + i, createdAt, createdAt,
+                    userIds.get(random.nextInt(USERS)), postIds.get(random.nextInt(POSTS))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (comment_id, body, created_at, updated_at, user_id, post_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", comments);
+
+        List<Object[]> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS * 5; i++) {
+            byte[] hash = new byte[32];
+            random.nextBytes(hash);
+            tokens.add(new Object[]{hash, userIds.get(i % USERS), Timestamp.from(now),
+                    Timestamp.from(now.plus(14, ChronoUnit.DAYS))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO jwt_refresh_tokens (token_hash, user_id, created_at, expires_at) " +
+                "VALUES (?, ?, ?, ?)", tokens);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, posts, post_stats, comments, post_likes, jwt_refresh_tokens");
+        samplePostId = postIds.get(POSTS / 2);
+        sampleUserId = userIds.get(USERS / 2 + 1);
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("최신순 피드 - idx_posts_created_at 역방향 스캔, filesort 없음")
+    void latestFeed_UsesCreatedAtIndex() {
+        List<Map<String, Object>> plan = explain(
+                "SELECT p.*, ps.* FROM posts p LEFT JOIN post_stats ps ON ps.post_id = p.post_id " +
+                        "ORDER BY p.created_at DESC, p.post_id DESC LIMIT 0, 8");
+
+        assertThat(plan.get(0)).containsEntry("table", "p").containsEntry("key", "idx_posts_created_at");
+        assertThat(extra(plan.get(0))).contains("Backward index scan").doesNotContain("filesort");
+    }
+
+    @Test
+    @DisplayName("조회수순 피드 - post_stats의 idx_post_stats_views부터 읽고 posts는 PK 조인")
+    void viewsFeed_UsesViewsIndex() {
+        List<Map<String, Object>> plan = explain(
+                "SELECT p.*, ps.* FROM posts p JOIN post_stats ps ON ps.post_id = p.post_id " +
+                        "ORDER BY ps.views_count DESC, ps.post_id DESC LIMIT 0, 8");
+
+        assertThat(plan.get(0)).containsEntry("table", "ps").containsEntry("key", "idx_post_stats_views");
+        assertThat(extra(plan.get(0))).doesNotContain("filesort");
+        assertThat(plan.get(1)).containsEntry("table", "p").containsEntry("key", "PRIMARY");
+    }
+
+    @Test
+    @DisplayName("좋아요순 피드 - post_stats의 idx_post_stats_likes부터 읽고 posts는 PK 조인")
+    void likesFeed_UsesLikesIndex() {
+        List<Map<String, Object>> plan = explain(
+                "SELECT p.*, ps.* FROM posts p JOIN post_stats ps ON ps.post_id = p.post_id " +
+                        "ORDER BY ps.likes_count DESC, ps.post_id DESC LIMIT 0, 8");
+
+        assertThat(plan.get(0)).containsEntry("table", "ps").containsEntry("key", "idx_post_stats_likes");
+        assertThat(extra(plan.get(0))).doesNotContain("filesort");
+        assertThat(plan.get(1)).containsEntry("table", "p").containsEntry("key", "PRIMARY");
+    }
+
+    @Test
+    @DisplayName("게시글별 댓글 - idx_comments_post_created로 조건과 정렬을 함께 처리")
+    void commentsPage_UsesPostCreatedIndex() {
+        List<Map<String, Object>> plan = explain(
+                "SELECT c.* FROM comments c WHERE c.post_id = ? ORDER BY c.created_at ASC LIMIT 0, 20",
+                (Object) samplePostId);
+
+        assertThat(plan.get(0)).containsEntry("key", "idx_comments_post_created").containsEntry("type", "ref");
+        assertThat(extra(plan.get(0))).doesNotContain("filesort");
+    }
+
+    @Test
+    @DisplayName("사용자별 좋아요/Refresh Token - user_id 인덱스 사용 (영구 삭제 시 외래 키 확인/정리)")
+    void userOwnedRows_UseUserIndexes() {
+        Map<String, Object> likes = explain("SELECT l.like_id FROM post_likes l WHERE l.user_id = ?",
+                (Object) sampleUserId).get(0);
+        Map<String, Object> tokens = explain("SELECT rt.* FROM jwt_refresh_tokens rt WHERE rt.user_id = ?",
+                (Object) sampleUserId).get(0);
+
+        assertThat(likes).containsEntry("key", "idx_post_likes_user").containsEntry("type", "ref");
+        assertThat(tokens).containsEntry("key", "idx_refresh_user").containsEntry("type", "ref");
+    }
+
+    @Test
+    @DisplayName("영구 삭제 대상 조회 - idx_users_inactive 범위 스캔")
+    void expiredAccounts_UseInactiveIndex() {
+        List<Map<String, Object>> plan = explain(
+                "SELECT u.* FROM users u WHERE u.is_active = 0 AND u.deactivated_at < ?",
+                Timestamp.from(Instant.now().minus(30, ChronoUnit.DAYS)));
+
+        assertThat(plan.get(0)).containsEntry("key", "idx_users_inactive").containsEntry("type", "range");
+    }
+
+    @Test
+    @DisplayName("Repository 조회수순 결과가 인덱스 순서(조회수 내림차순)와 같음")
+    void viewsFeed_RepositoryOrderMatchesIndex() {
+        List<Post> posts = postRepository.findAllOrderByViewsCountDesc(PageRequest.of(0, 8)).getContent();
+
+        assertThat(posts).hasSize(8);
+        for (int i = 1; i < posts.size(); i++) {
+            long previous = posts.get(i - 1).getPostStats().getViewsCount();
+            long current = posts.get(i).getPostStats().getViewsCount();
+            assertThat(previous).isGreaterThanOrEqualTo(current);
+        }
+    }
+
+    private List<Map<String, Object>> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+    }
+
+    private static String extra(Map<String, Object> row) {
+        Object extra = row.get("Extra");
+        return extra == null ? "" : extra.toString();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
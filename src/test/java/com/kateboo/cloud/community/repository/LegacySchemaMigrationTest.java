@@ -0,0 +1,231 @@
+package com.kateboo.cloud.community.repository;
+
+import com.kateboo.cloud.community.entity.id.UuidV7Generator;
+import com.kateboo.cloud.community.service.RefreshTokenStore;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ddl-auto: update 시절 DB를 baseline-version=1로 기록하고 V2~V8을 적용하는 경로 확인
+ *
+ * 컨텍스트(Flyway)가 뜨기 전에 당시 엔티티 매핑대로 만든 스키마와 원문 Refresh Token 행을 넣어 두고,
+ * V7이 token_hash를 SHA-256 digest(BINARY(32))로 바꾼 뒤에도 같은 토큰으로 교체(로그인 유지)되는지 본다.
+ * Docker가 없으면 건너뜀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class LegacySchemaMigrationTest {
+
+    private static final String RAW_REFRESH_TOKEN = "legacy-refresh-token-3f9c2a7e-5b1d-4c8e-9a6f-0d2b4e6f8a1c";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final UUID USER_ID = UuidV7Generator.next();
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", LegacySchemaMigrationTest::jdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.flyway.baseline-version", () -> "1");
+    }
+
+    /**
+     * 컨텍스트가 뜨기 전(= Flyway 실행 전)에 ddl-auto 시절 스키마와 데이터 준비
+     */
+    @BeforeAll
+    static void createLegacySchema() throws Exception {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+             Statement statement = connection.createStatement()) {
+            // 당시 엔티티 매핑에서 Hibernate가 만든 것과 같은 컬럼 (자동 생성된 제약 이름은 V1과 다르므로 이름을 지정하지 않음)
+            statement.execute("""
+                    CREATE TABLE users (
+                        user_id BINARY(16) NOT NULL,
+                        email VARCHAR(254) NOT NULL,
+                        password_hash VARCHAR(100) NOT NULL,
+                        nickname VARCHAR(10) NOT NULL,
+                        profile_image_url VARCHAR(500),
+                        is_active BIT NOT NULL,
+                        deactivated_at DATETIME(6),
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6),
+                        PRIMARY KEY (user_id),
+                        CONSTRAINT uk_email UNIQUE (email),
+                        CONSTRAINT uk_nickname UNIQUE (nickname)
+                    ) ENGINE = InnoDB""");
+            statement.execute("""
+                    CREATE TABLE posts (
+                        post_id BINARY(16) NOT NULL,
+                        title VARCHAR(26) NOT NULL,
+                        body LONGTEXT,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6),
+                        user_id BINARY(16),
+                        PRIMARY KEY (post_id),
+                        FOREIGN KEY (user_id) REFERENCES users (user_id)
+                    ) ENGINE = InnoDB""");
+            statement.execute("""
+                    CREATE TABLE post_stats (
+                        post_id BINARY(16) NOT NULL,
+                        likes_count INT NOT NULL,
+                        views_count BIGINT UNSIGNED NOT NULL,
+                        comment_count INT UNSIGNED NOT NULL,
+                        updated_at DATETIME(6) NOT NULL,
+                        PRIMARY KEY (post_id),
+                        FOREIGN KEY (post_id) REFERENCES posts (post_id)
+                    ) ENGINE = InnoDB""");
+            statement.execute("""
+                    CREATE TABLE post_images (
+                        image_id BIGINT NOT NULL AUTO_INCREMENT,
+                        image_url VARCHAR(500) NOT NULL,
+                        order_no INT NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        post_id BINARY(16) NOT NULL,
+                        PRIMARY KEY (image_id),
+                        FOREIGN KEY (post_id) REFERENCES posts (post_id)
+                    ) ENGINE = InnoDB""");
+            statement.execute("""
+                    CREATE TABLE post_likes (
+                        like_id BIGINT NOT NULL AUTO_INCREMENT,
+                        post_id BINARY(16) NOT NULL,
+                        user_id BINARY(16) NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        PRIMARY KEY (like_id),
+                        UNIQUE (post_id, user_id),
+                        FOREIGN KEY (post_id) REFERENCES posts (post_id),
+                        FOREIGN KEY (user_id) REFERENCES users (user_id)
+                    ) ENGINE = InnoDB""");
+            statement.execute("""
+                    CREATE TABLE comments (
+                        comment_id BINARY(16) NOT NULL,
+                        body TEXT NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6) NOT NULL,
+                        user_id BINARY(16),
+                        post_id BINARY(16),
+                        PRIMARY KEY (comment_id),
+                        FOREIGN KEY (user_id) REFERENCES users (user_id),
+                        FOREIGN KEY (post_id) REFERENCES posts (post_id)
+                    ) ENGINE = InnoDB""");
+            // 원문 토큰을 VARCHAR(255)에 저장, previous_token_hash/rotated_at 컬럼과 인덱스 없음
+            statement.execute("""
+                    CREATE TABLE jwt_refresh_tokens (
+                        refresh_id BIGINT NOT NULL AUTO_INCREMENT,
+                        token_hash VARCHAR(255) NOT NULL,
+                        user_id BINARY(16) NOT NULL,
+                        created_at DATETIME(6) NOT NULL,
+                        expires_at DATETIME(6) NOT NULL,
+                        revoked_at DATETIME(6),
+                        PRIMARY KEY (refresh_id),
+                        UNIQUE (token_hash),
+                        FOREIGN KEY (user_id) REFERENCES users (user_id)
+                    ) ENGINE = InnoDB""");
+
+            Instant now = Instant.now();
+            try (PreparedStatement user = connection.prepareStatement(
+                    "INSERT INTO users (user_id, email, password_hash, nickname, is_active, created_at) " +
+                            "VALUES (?, 'legacy@example.com', 'encoded', 'legacy', 1, ?)")) {
+                user.setBytes(1, toBytes(USER_ID));
+                user.setTimestamp(2, Timestamp.from(now));
+                user.executeUpdate();
+            }
+            try (PreparedStatement token = connection.prepareStatement(
+                    "INSERT INTO jwt_refresh_tokens (token_hash, user_id, created_at, expires_at) VALUES (?, ?, ?, ?)")) {
+                token.setString(1, RAW_REFRESH_TOKEN);
+                token.setBytes(2, toBytes(USER_ID));
+                token.setTimestamp(3, Timestamp.from(now));
+                token.setTimestamp(4, Timestamp.from(now.plus(7, ChronoUnit.DAYS)));
+                token.executeUpdate();
+            }
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Test
+    @DisplayName("baseline(1) 이후 V2~V8 적용: 원문 token_hash가 digest로 바뀌고 기존 Refresh Token으로 교체 가능")
+    void migrate_FromDdlAutoSchema_KeepsRefreshTokens() throws Exception {
+        // then: baseline 기록 후 마지막 버전까지 성공
+        List<Map<String, Object>> history = jdbcTemplate.queryForList(
+                "SELECT version, type, success FROM flyway_schema_history WHERE version IS NOT NULL ORDER BY installed_rank");
+        assertThat(history.get(0)).containsEntry("version", "1").containsEntry("type", "BASELINE");
+        assertThat(history).allSatisfy(row -> assertThat(row.get("success")).isIn(true, 1));
+        assertThat(history.get(history.size() - 1)).containsEntry("version", "8");
+
+        // then: 컬럼 타입이 V1 스키마와 같아짐
+        assertThat(columnType("jwt_refresh_tokens", "token_hash")).isEqualTo("binary(32)");
+        assertThat(columnType("jwt_refresh_tokens", "previous_token_hash")).isEqualTo("binary(32)");
+        assertThat(columnType("jwt_refresh_tokens", "rotated_at")).isEqualTo("datetime(6)");
+        assertThat(columnType("users", "password_hash")).isEqualTo("varchar(255)");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_refresh_tokens' AND INDEX_NAME = 'uk_refresh_token_hash'",
+                Long.class)).isPositive();
+
+        // then: 원문 대신 애플리케이션과 같은 SHA-256(UTF-8) digest가 저장됨
+        byte[] stored = jdbcTemplate.queryForObject("SELECT token_hash FROM jwt_refresh_tokens", byte[].class);
+        assertThat(stored).isEqualTo(MessageDigest.getInstance("SHA-256")
+                .digest(RAW_REFRESH_TOKEN.getBytes(StandardCharsets.UTF_8)));
+
+        // when: 마이그레이션 전에 발급된 원문 토큰으로 교체
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(RAW_REFRESH_TOKEN);
+
+        // then
+        assertThat(rotation.owner().userId()).isEqualTo(USER_ID);
+        assertThat(rotation.owner().email()).isEqualTo("legacy@example.com");
+        assertThat(rotation.refreshToken()).isNotEqualTo(RAW_REFRESH_TOKEN);
+        assertThat(refreshTokenStore.rotate(rotation.refreshToken()).owner().userId()).isEqualTo(USER_ID);
+    }
+
+    private String columnType(String table, String column) {
+        return jdbcTemplate.queryForObject("SELECT COLUMN_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?", String.class, table, column);
+    }
+
+    private static String jdbcUrl() {
+        return MYSQL.getJdbcUrl() + "?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true";
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
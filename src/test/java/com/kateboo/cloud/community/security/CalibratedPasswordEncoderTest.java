@@ -0,0 +1,68 @@
+package com.kateboo.cloud.community.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CalibratedPasswordEncoderTest {
+
+    private static final String PASSWORD = "TestPass123!";
+
+    @Test
+    @DisplayName("BCrypt - 최소 cost 이상이면 다른 노드의 보정 값과 달라도 재해싱하지 않음")
+    void upgradeEncoding_Bcrypt_OnlyBelowFloor() {
+        // given: 이 노드는 cost 5, 다른 노드는 cost 4(최소값)와 6으로 해싱
+        CalibratedPasswordEncoder thisNode = CalibratedPasswordEncoder.fixed("bcrypt", 5, 1024, 1, 1);
+        String lower = CalibratedPasswordEncoder.fixed("bcrypt", 4, 1024, 1, 1).encode(PASSWORD);
+        String higher = CalibratedPasswordEncoder.fixed("bcrypt", 6, 1024, 1, 1).encode(PASSWORD);
+
+        // when & then
+        assertThat(thisNode.upgradeEncoding(thisNode.encode(PASSWORD))).isFalse();
+        assertThat(thisNode.upgradeEncoding(higher)).isFalse();
+        assertThat(thisNode.upgradeEncoding(lower)).isTrue();
+        assertThat(thisNode.matches(PASSWORD, higher)).isTrue();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt, 다른 알고리즘, 형식을 알 수 없는 해시는 재해싱")
+    void upgradeEncoding_LegacyOrOtherAlgorithm() {
+        // given
+        CalibratedPasswordEncoder bcrypt = CalibratedPasswordEncoder.fixed("bcrypt", 4, 1024, 1, 1);
+        String legacy = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        String argon2 = CalibratedPasswordEncoder.fixed("argon2", 4, 1024, 1, 1).encode(PASSWORD);
+
+        // when & then
+        assertThat(bcrypt.upgradeEncoding(legacy)).isTrue();
+        assertThat(bcrypt.matches(PASSWORD, legacy)).isTrue();
+        assertThat(bcrypt.upgradeEncoding(argon2)).isTrue();
+        assertThat(bcrypt.upgradeEncoding("{bcrypt}broken")).isTrue();
+        assertThat(bcrypt.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Argon2 - 메모리/반복 횟수가 최소값 이상이면 재해싱하지 않음")
+    void upgradeEncoding_Argon2_OnlyBelowFloor() {
+        // given
+        CalibratedPasswordEncoder thisNode = CalibratedPasswordEncoder.fixed("argon2", 4, 1024, 1, 2);
+        String moreIterations = CalibratedPasswordEncoder.fixed("argon2", 4, 1024, 1, 3).encode(PASSWORD);
+        String fewerIterations = CalibratedPasswordEncoder.fixed("argon2", 4, 1024, 1, 1).encode(PASSWORD);
+        String lessMemory = CalibratedPasswordEncoder.fixed("argon2", 4, 512, 1, 2).encode(PASSWORD);
+
+        // when & then
+        assertThat(thisNode.upgradeEncoding(thisNode.encode(PASSWORD))).isFalse();
+        assertThat(thisNode.upgradeEncoding(moreIterations)).isFalse();
+        assertThat(thisNode.upgradeEncoding(fewerIterations)).isTrue();
+        assertThat(thisNode.upgradeEncoding(lessMemory)).isTrue();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 알고리즘은 보정 여부와 관계없이 거절")
+    void unknownAlgorithm_Rejected() {
+        assertThatThrownBy(() -> CalibratedPasswordEncoder.fixed("argon", 4, 1024, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalibratedPasswordEncoder.calibrate("argon", 1, 4, 1024, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.kateboo.cloud.community.security;
+
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CurrentUserContextTest {
+
+    @Autowired
+    private CurrentUserContext currentUserContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        userId = userRepository.save(User.builder()
+                .email("current@example.com")
+                .nickname("현재사용자")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build()).getUserId();
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("인증된 요청 안에서는 현재 사용자를 한 번만 조회하고 같은 엔티티 반환")
+    void getUser_InRequest_LoadsOnce() {
+        // given
+        bindRequest(userId);
+
+        // when
+        User first = currentUserContext.getUser(userId);
+        User second = currentUserContext.getUser(userId);
+        User reference = currentUserContext.getReference(userId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(reference).isSameAs(first);
+        assertThat(userLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("현재 사용자를 읽기 전의 getReference는 SELECT 없이 프록시 반환")
+    void getReference_NotLoaded_ReturnsProxy() {
+        // given
+        bindRequest(userId);
+
+        // when
+        User reference = currentUserContext.getReference(userId);
+
+        // then
+        assertThat(Hibernate.isInitialized(reference)).isFalse();
+        assertThat(reference.getUserId()).isEqualTo(userId);
+        assertThat(userLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("영속성 컨텍스트가 바뀌면 보관한 엔티티 대신 다시 조회 (준영속 엔티티를 돌려주지 않음)")
+    void getUser_DetachedPrincipal_Reloads() {
+        // given
+        bindRequest(userId);
+        User first = currentUserContext.getUser(userId);
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+
+        // when
+        User reloaded = currentUserContext.getUser(userId);
+
+        // then
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(entityManager.contains(reloaded)).isTrue();
+        assertThat(userLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖이거나 인증된 사용자와 다른 userId면 매번 UserRepository로 조회, 없으면 404")
+    void getUser_OutsideRequestOrOtherUser_LoadsFromRepository() {
+        // when & then: 요청 밖
+        assertThat(Hibernate.isInitialized(currentUserContext.getReference(userId))).isTrue();
+
+        // when & then: 다른 사용자로 인증된 요청
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+        bindRequest(UUID.randomUUID());
+        assertThat(Hibernate.isInitialized(currentUserContext.getReference(userId))).isTrue();
+        assertThat(userLoadCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> currentUserContext.getUser(UUID.randomUUID()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private long userLoadCount() {
+        return statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+    }
+
+    // JwtAuthenticationFilter가 인증한 요청처럼 userId 요청 속성을 둠
+    private void bindRequest(UUID authenticatedUserId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", authenticatedUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
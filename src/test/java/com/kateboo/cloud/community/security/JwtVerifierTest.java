@@ -0,0 +1,100 @@
+package com.kateboo.cloud.community.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final String SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLW1pbmltdW0tMjU2LWJpdHMtcmVxdWlyZWQtMTIzNDU2Nzg5MGFiY2RlZmdoaWprbG1ub3BxcnN0dXZ3eHl6QUJDREVGR0hJSktMTU5PUFFSU1RVVldYWVo=";
+
+    private final JwtVerifier jwtVerifier = new JwtVerifier(SECRET);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1800000);
+
+    @Test
+    @DisplayName("정상 토큰 - userId 추출")
+    void verify_Valid() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateToken(userId, "test@example.com");
+
+        // when
+        JwtVerification result = jwtVerifier.verify(token);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Bearer 헤더 offset 검증")
+    void verify_WithOffset() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String header = "Bearer " + jwtTokenProvider.generateToken(userId, "test@example.com");
+
+        // when
+        JwtVerification result = jwtVerifier.verify(header, "Bearer ".length());
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 예외 없이 EXPIRED 반환")
+    void verify_Expired() {
+        // given
+        UUID userId = UUID.randomUUID();
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -60000);
+        String token = expiredProvider.generateToken(userId, "test@example.com");
+
+        // when
+        JwtVerification result = jwtVerifier.verify(token);
+
+        // then
+        assertThat(result.isExpired()).isTrue();
+        assertThat(result.userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰 - INVALID 반환")
+    void verify_TamperedSignature() {
+        // given
+        String token = jwtTokenProvider.generateToken(UUID.randomUUID(), "test@example.com");
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2)
+                + (last == 'A' ? 'B' : 'A')
+                + token.charAt(token.length() - 1);
+
+        // when & then
+        assertThat(jwtVerifier.verify(tampered).status()).isEqualTo(JwtVerification.Status.INVALID);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 - INVALID 반환")
+    void verify_WrongKey() {
+        // given
+        String otherSecret = "b3RoZXItc2VjcmV0LWtleS1mb3ItdGVzdGluZy1taW5pbXVtLTI1Ni1iaXRzLXJlcXVpcmVk";
+        String token = new JwtTokenProvider(otherSecret, 1800000)
+                .generateToken(UUID.randomUUID(), "test@example.com");
+
+        // when & then
+        assertThat(jwtVerifier.verify(token).status()).isEqualTo(JwtVerification.Status.INVALID);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰 - INVALID 반환")
+    void verify_Malformed() {
+        assertThat(jwtVerifier.verify("not-a-jwt").status()).isEqualTo(JwtVerification.Status.INVALID);
+        assertThat(jwtVerifier.verify("a.b").status()).isEqualTo(JwtVerification.Status.INVALID);
+        assertThat(jwtVerifier.verify("a.b.c.d").status()).isEqualTo(JwtVerification.Status.INVALID);
+        assertThat(jwtVerifier.verify("..").status()).isEqualTo(JwtVerification.Status.INVALID);
+        assertThat(jwtVerifier.verify("").status()).isEqualTo(JwtVerification.Status.INVALID);
+        assertThat(jwtVerifier.verify(null).status()).isEqualTo(JwtVerification.Status.INVALID);
+    }
+}
@@ -0,0 +1,165 @@
+package com.kateboo.cloud.community.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kateboo.cloud.community.dto.request.LoginRequest;
+import com.kateboo.cloud.community.dto.request.PasswordChangeRequest;
+import com.kateboo.cloud.community.dto.request.SignupRequest;
+import com.kateboo.cloud.community.dto.response.AuthResponse;
+import com.kateboo.cloud.community.service.AuthService;
+import com.kateboo.cloud.community.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 해싱 큐가 밀렸을 때의 로그인/비밀번호 변경 동작
+ * 요청이 직접 트랜잭션을 관리하는지 보기 위해 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHasherTest {
+
+    private static final String PASSWORD = "TestPass123!";
+    private static final String NEW_PASSWORD = "NewPass456!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("해싱 큐에서 기다리는 동안 DB 연결을 잡고 있지 않음")
+    void login_WaitingForHasher_HoldsNoConnection() throws Exception {
+        // given
+        String email = signup();
+        blockHasherThreads();
+
+        // when: 해싱 스레드가 모두 막힌 상태에서 로그인 → 큐에서 대기
+        CompletableFuture<AuthResponse> login = CompletableFuture.supplyAsync(
+                () -> authService.login(new LoginRequest(email, PASSWORD)));
+        awaitQueued(1);
+
+        // then
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections())
+                .isZero();
+
+        release.countDown();
+        assertThat(login.get(10, TimeUnit.SECONDS).getEmail()).isEqualTo(email);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경도 해싱 큐에서 기다리는 동안 DB 연결을 잡고 있지 않음")
+    void changePassword_WaitingForHasher_HoldsNoConnection() throws Exception {
+        // given
+        String email = signup();
+        UUID userId = authService.login(new LoginRequest(email, PASSWORD)).getUserId();
+        blockHasherThreads();
+
+        // when: 해싱 스레드가 모두 막힌 상태에서 비밀번호 변경 → 큐에서 대기
+        CompletableFuture<Void> change = CompletableFuture.runAsync(() -> userService.changePassword(
+                userId, new PasswordChangeRequest(NEW_PASSWORD, NEW_PASSWORD)));
+        awaitQueued(1);
+
+        // then
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections())
+                .isZero();
+
+        release.countDown();
+        change.get(10, TimeUnit.SECONDS);
+        assertThat(authService.login(new LoginRequest(email, NEW_PASSWORD)).getUserId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("해싱 큐가 가득 차면 로그인은 503 + Retry-After")
+    void login_QueueFull_ServiceUnavailable() throws Exception {
+        // given
+        String email = signup();
+        blockHasherThreads();
+        while (passwordHashExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() > 0) {
+            passwordHashExecutor.execute(() -> {
+            });
+        }
+
+        // when & then
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, PASSWORD))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    private String signup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String email = "hasher-" + suffix + "@example.com";
+        authService.signup(new SignupRequest(email, PASSWORD, "h" + suffix, "https://example.com/profile.jpg"));
+        return email;
+    }
+
+    // 해싱 스레드를 모두 release 전까지 막아 둠
+    private void blockHasherThreads() throws InterruptedException {
+        int threads = passwordHashExecutor.getMaxPoolSize();
+        CountDownLatch started = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            passwordHashExecutor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void awaitQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (passwordHashExecutor.getThreadPoolExecutor().getQueue().size() < size) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
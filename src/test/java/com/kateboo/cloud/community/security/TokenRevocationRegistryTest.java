@@ -0,0 +1,158 @@
+package com.kateboo.cloud.community.security;
+
+import com.kateboo.cloud.community.cache.CacheRegion;
+import com.kateboo.cloud.community.dto.request.SignupRequest;
+import com.kateboo.cloud.community.dto.response.AuthResponse;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.service.AuthService;
+import com.kateboo.cloud.community.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 탈퇴/로그아웃 토큰 차단과 다른 노드 변경 반영
+ * 요청이 실제로 커밋한 상태를 확인하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenRevocationRegistryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    @DisplayName("탈퇴하면 기존 토큰은 차단되지만 같은 토큰으로 복구할 수 있고, 복구 후에는 다시 통과")
+    void deactivate_BlocksTokenExceptRestore() throws Exception {
+        // given
+        AuthResponse auth = signup();
+        String bearer = "Bearer " + auth.getAccessToken();
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        // when: 탈퇴
+        mockMvc.perform(patch("/api/users/me/deactivate").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+
+        // then: 다른 요청은 차단, 복구는 허용
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(patch("/api/users/me/restore").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(auth.getEmail()));
+
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        assertThat(userRepository.findById(auth.getUserId()).orElseThrow().getIsActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("탈퇴 트랜잭션이 롤백되면 토큰을 차단하지 않고, 커밋된 뒤에만 차단")
+    void deactivate_RolledBack_DoesNotBlockToken() {
+        // given
+        AuthResponse auth = signup();
+        JwtVerification verification = jwtVerifier.verify(auth.getAccessToken());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when: 같은 트랜잭션의 다른 작업이 실패해 롤백
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.softDeleteAccount(auth.getUserId());
+            assertThat(tokenRevocationRegistry.isUserDeactivated(verification)).isFalse();
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(userRepository.findById(auth.getUserId()).orElseThrow().getIsActive()).isTrue();
+        assertThat(tokenRevocationRegistry.isUserDeactivated(verification)).isFalse();
+
+        // when & then: 커밋
+        userService.softDeleteAccount(auth.getUserId());
+        assertThat(tokenRevocationRegistry.isUserDeactivated(verification)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 복구 요청에서도 차단")
+    void logout_BlocksRestoreToo() throws Exception {
+        // given
+        AuthResponse auth = signup();
+        String bearer = "Bearer " + auth.getAccessToken();
+
+        // when
+        authService.logout(auth.getRefreshToken(), auth.getAccessToken());
+
+        // then
+        mockMvc.perform(patch("/api/users/me/restore").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 탈퇴/복구/로그아웃 메시지를 받으면 이 노드의 차단 목록에 반영")
+    void remoteInvalidation_AppliesOtherNodesChanges() {
+        // given: 다른 노드에서 탈퇴 처리된 것처럼 DB만 변경 (이 노드의 목록에는 없음)
+        AuthResponse auth = signup();
+        JwtVerification verification = jwtVerifier.verify(auth.getAccessToken());
+        User user = userRepository.findById(auth.getUserId()).orElseThrow();
+        user.setIsActive(false);
+        user.setDeactivatedAt(Instant.now());
+        userRepository.save(user);
+        assertThat(tokenRevocationRegistry.isRevoked(verification)).isFalse();
+
+        // when & then: 탈퇴
+        tokenRevocationRegistry.invalidate(CacheRegion.USER, auth.getUserId(), true);
+        assertThat(tokenRevocationRegistry.isUserDeactivated(verification)).isTrue();
+
+        // when & then: 복구
+        user.setIsActive(true);
+        user.setDeactivatedAt(null);
+        userRepository.save(user);
+        tokenRevocationRegistry.invalidate(CacheRegion.USER, auth.getUserId(), true);
+        assertThat(tokenRevocationRegistry.isUserDeactivated(verification)).isFalse();
+
+        // when & then: 로그아웃
+        tokenRevocationRegistry.invalidate(CacheRegion.ACCESS_TOKEN, verification.tokenId(), true);
+        assertThat(tokenRevocationRegistry.isTokenRevoked(verification)).isTrue();
+    }
+
+    private AuthResponse signup() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return authService.signup(new SignupRequest(
+                "revoke-" + suffix + "@example.com", "TestPass123!", "r" + suffix, "https://example.com/profile.jpg"));
+    }
+}
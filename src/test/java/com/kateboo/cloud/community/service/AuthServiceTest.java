@@ -1,22 +1,31 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheRegion;
 import com.kateboo.cloud.community.dto.request.LoginRequest;
 import com.kateboo.cloud.community.dto.request.SignupRequest;
 import com.kateboo.cloud.community.dto.response.AuthResponse;
+import com.kateboo.cloud.community.dto.response.AvailabilityResponse;
+import com.kateboo.cloud.community.entity.RefreshToken;
 import com.kateboo.cloud.community.entity.User;
 import com.kateboo.cloud.community.exception.BadRequestException;
 import com.kateboo.cloud.community.exception.ConflictException;
 import com.kateboo.cloud.community.repository.RefreshTokenRepository;
 import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.JwtVerification;
+import com.kateboo.cloud.community.security.JwtVerifier;
+import com.kateboo.cloud.community.security.TokenRevocationRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -33,9 +42,21 @@ class AuthServiceTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private RefreshTokenPurgeService refreshTokenPurgeService;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     private SignupRequest validSignupRequest;
 
     @BeforeEach
@@ -80,6 +101,45 @@ class AuthServiceTest {
                 .hasMessage("중복된 이메일입니다");
     }
 
+    @Test
+    @DisplayName("이메일/닉네임 사용 가능 여부 - 가입 직후 반영")
+    void availability_ReflectsSignup() {
+        // given
+        AvailabilityResponse before = userAvailabilityService.checkAvailability("test@example.com", "테스터");
+
+        // when
+        authService.signup(validSignupRequest);
+
+        // then
+        AvailabilityResponse after = userAvailabilityService.checkAvailability("test@example.com", "테스터");
+        assertThat(before.getEmailAvailable()).isTrue();
+        assertThat(before.getNicknameAvailable()).isTrue();
+        assertThat(after.getEmailAvailable()).isFalse();
+        assertThat(after.getNicknameAvailable()).isFalse();
+        assertThat(userAvailabilityService.checkAvailability(null, "다른닉네임").getEmailAvailable()).isNull();
+    }
+
+    @Test
+    @DisplayName("이메일/닉네임 사용 가능 여부 - 다른 노드의 가입은 캐시 무효화 메시지로 반영")
+    void availability_ReflectsRemoteSignup() {
+        // given: 다른 노드에서 가입한 것처럼 DB에만 저장 (이 노드의 Bloom filter에는 없음)
+        User user = userRepository.saveAndFlush(User.builder()
+                .email("remote@example.com")
+                .passwordHash("encoded")
+                .nickname("다른노드")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build());
+        assertThat(userAvailabilityService.isNicknameTaken("다른노드")).isFalse();
+
+        // when
+        userAvailabilityService.invalidate(CacheRegion.USER, user.getUserId(), true);
+
+        // then
+        assertThat(userAvailabilityService.isEmailTaken("remote@example.com")).isTrue();
+        assertThat(userAvailabilityService.isNicknameTaken("다른노드")).isTrue();
+    }
+
     @Test
     @DisplayName("회원가입 실패 - 잘못된 이메일 형식")
     void signup_Fail_InvalidEmailFormat() {
@@ -169,6 +229,29 @@ class AuthServiceTest {
         assertThat(response.isAccountRestored()).isFalse();
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 이전 형식(접두사 없는 BCrypt) 해시는 재해싱")
+    void login_Success_RehashLegacyHash() {
+        // given
+        User legacyUser = User.builder()
+                .email("legacy@example.com")
+                .nickname("레거시")
+                .passwordHash(new BCryptPasswordEncoder(4).encode("TestPass123!"))
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build();
+        userRepository.save(legacyUser);
+
+        // when
+        authService.login(new LoginRequest("legacy@example.com", "TestPass123!"));
+
+        // then
+        User rehashed = userRepository.findByEmail("legacy@example.com").orElseThrow();
+        assertThat(rehashed.getPasswordHash()).startsWith("{bcrypt}$2a$04$");
+        assertThat(passwordEncoder.matches("TestPass123!", rehashed.getPasswordHash())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(rehashed.getPasswordHash())).isFalse();
+    }
+
     @Test
     @DisplayName("로그인 실패 - 잘못된 비밀번호")
     void login_Fail_WrongPassword() {
@@ -217,6 +300,43 @@ class AuthServiceTest {
         assertThat(response.getRefreshToken()).isNotEqualTo(refreshToken);  // 새 토큰 발급
     }
 
+    @Test
+    @DisplayName("토큰 갱신 - 교체된 토큰 재사용 시 현재 토큰까지 취소")
+    void refresh_Fail_ReplayRevokesCurrentToken() {
+        // given
+        AuthResponse signupResponse = authService.signup(validSignupRequest);
+        String oldRefreshToken = signupResponse.getRefreshToken();
+        String newRefreshToken = authService.refresh(oldRefreshToken).getRefreshToken();
+
+        // when & then
+        assertThatThrownBy(() -> authService.refresh(oldRefreshToken))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("취소된 RefreshToken입니다");
+
+        assertThatThrownBy(() -> authService.refresh(newRefreshToken))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("취소된 RefreshToken입니다");
+    }
+
+    @Test
+    @DisplayName("만료된 Refresh Token 정리")
+    void purge_DeletesExpiredTokens() {
+        // given
+        authService.signup(validSignupRequest);
+        authService.login(new LoginRequest("test@example.com", "TestPass123!"));
+
+        RefreshToken expired = refreshTokenRepository.findAll().get(0);
+        expired.setExpiresAt(Instant.now().minusSeconds(60));
+        refreshTokenRepository.saveAndFlush(expired);
+
+        // when
+        int deleted = refreshTokenPurgeService.purge();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("로그아웃 성공")
     void logout_Success() {
@@ -233,4 +353,20 @@ class AuthServiceTest {
                 .isInstanceOf(BadRequestException.class)
                 .hasMessage("취소된 RefreshToken입니다");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그아웃 - Access Token 즉시 폐기")
+    void logout_RevokesAccessToken() {
+        // given
+        AuthResponse signupResponse = authService.signup(validSignupRequest);
+        String accessToken = signupResponse.getAccessToken();
+
+        // when
+        authService.logout(signupResponse.getRefreshToken(), accessToken);
+
+        // then
+        JwtVerification verification = jwtVerifier.verify(accessToken);
+        assertThat(verification.isValid()).isTrue();
+        assertThat(tokenRevocationRegistry.isRevoked(verification)).isTrue();
+    }
+}
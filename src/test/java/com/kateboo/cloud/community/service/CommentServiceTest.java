@@ -1,5 +1,6 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheRegion;
 import com.kateboo.cloud.community.dto.request.CommentRequest;
 import com.kateboo.cloud.community.dto.request.PostRequest;
 import com.kateboo.cloud.community.dto.response.CommentResponse;
@@ -9,6 +10,12 @@ import com.kateboo.cloud.community.entity.User;
 import com.kateboo.cloud.community.exception.ForbiddenException;
 import com.kateboo.cloud.community.exception.NotFoundException;
 import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.CurrentUserContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,8 +23,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.UUID;
 
@@ -37,6 +47,18 @@ class CommentServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CurrentUserContext currentUserContext;
+
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private UUID testUserId;
     private UUID anotherUserId;
     private UUID testPostId;
@@ -70,6 +92,38 @@ class CommentServiceTest {
         testPostId = post.getPostId();
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("댓글 작성/수정 응답의 작성자 요약 - 요청에서 이미 읽은 현재 사용자로 만들어 사용자 조회 없음")
+    void createAndUpdateComment_AuthorSummaryFromCurrentUser() {
+        // given: 인증된 요청에서 현재 사용자를 이미 읽음, 작성자 요약 캐시와 2차 캐시는 비어 있음
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+        userSummaryCache.invalidate(CacheRegion.USER, testUserId, false);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", testUserId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        currentUserContext.getUser(testUserId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        CommentResponse created = commentService.createComment(testUserId, testPostId, new CommentRequest("작성"));
+        CommentResponse updated = commentService.updateComment(testUserId, created.getCommentId(), new CommentRequest("수정"));
+        entityManager.flush();
+
+        // then
+        assertThat(created.getUser().getNickname()).isEqualTo("테스터");
+        assertThat(updated.getUser().getNickname()).isEqualTo("테스터");
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
     @Test
     @DisplayName("댓글 작성 성공")
     void createComment_Success() {
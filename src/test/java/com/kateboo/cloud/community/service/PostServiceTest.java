@@ -1,15 +1,27 @@
 package com.kateboo.cloud.community.service;
 
+import com.kateboo.cloud.community.cache.CacheRegion;
 import com.kateboo.cloud.community.dto.request.PostRequest;
 import com.kateboo.cloud.community.dto.response.LikeResponse;
 import com.kateboo.cloud.community.dto.response.PageResponse;
+import com.kateboo.cloud.community.dto.response.PostImageResponse;
 import com.kateboo.cloud.community.dto.response.PostResponse;
+import com.kateboo.cloud.community.entity.PostImage;
 import com.kateboo.cloud.community.entity.User;
 import com.kateboo.cloud.community.exception.BadRequestException;
 import com.kateboo.cloud.community.exception.ForbiddenException;
 import com.kateboo.cloud.community.exception.NotFoundException;
+import com.kateboo.cloud.community.image.ImageUploadService;
+import com.kateboo.cloud.community.image.StoredImage;
 import com.kateboo.cloud.community.repository.PostRepository;
 import com.kateboo.cloud.community.repository.UserRepository;
+import com.kateboo.cloud.community.security.CurrentUserContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +29,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -39,11 +64,29 @@ class PostServiceTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ImageUploadService imageUploadService;
+
+    @Autowired
+    private CurrentUserContext currentUserContext;
+
+    @Autowired
+    private UserSummaryCache userSummaryCache;
+
+    private Statistics statistics;
     private UUID testUserId;
     private UUID anotherUserId;
 
     @BeforeEach
     void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
         // 테스트 사용자 생성
         User user1 = User.builder()
                 .email("test@example.com")
@@ -64,6 +107,11 @@ class PostServiceTest {
         anotherUserId = userRepository.save(user2).getUserId();
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     @DisplayName("게시글 작성 성공")
     void createPost_Success() {
@@ -88,6 +136,40 @@ class PostServiceTest {
         assertThat(response.getStats().getCommentCount()).isZero();  // ✅ 수정
     }
 
+    @Test
+    @DisplayName("게시글 작성 - 업로드한 이미지는 크기/MIME/바이트 수/BlurHash 포함, 외부 URL은 없음")
+    void createPost_CopiesUploadedImageMetadata() throws IOException {
+        // given
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(30, 120, 200));
+        graphics.fillRect(0, 0, 400, 300);
+        graphics.dispose();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        StoredImage stored = imageUploadService.store(new ByteArrayInputStream(png.toByteArray()));
+
+        // when
+        PostResponse response = postService.createPost(testUserId, PostRequest.builder()
+                .title("이미지 정보")
+                .body("내용")
+                .imageUrls(List.of(stored.url(), "https://example.com/image1.jpg"))
+                .build());
+
+        // then
+        PostImageResponse uploaded = response.getImages().get(0);
+        assertThat(uploaded.getWidth()).isEqualTo(400);
+        assertThat(uploaded.getHeight()).isEqualTo(300);
+        assertThat(uploaded.getMimeType()).isEqualTo("image/png");
+        assertThat(uploaded.getByteSize()).isEqualTo(png.size());
+        // 가로 4 × 세로 3 성분: 1 + 1 + 4 + 2 × 11 = 28자
+        assertThat(uploaded.getBlurHash()).hasSize(28).startsWith("L");
+
+        PostImageResponse external = response.getImages().get(1);
+        assertThat(external.getWidth()).isNull();
+        assertThat(external.getBlurHash()).isNull();
+    }
+
     @Test
     @DisplayName("게시글 작성 실패 - 제목 없음")
     void createPost_Fail_NoTitle() {
@@ -197,6 +279,120 @@ class PostServiceTest {
         assertThat(response.getUpdatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("게시글 작성/수정 응답의 작성자 요약 - 요청에서 이미 읽은 현재 사용자로 만들어 사용자 조회 없음")
+    void createAndUpdatePost_AuthorSummaryFromCurrentUser() {
+        // given: 인증된 요청에서 현재 사용자를 이미 읽음, 작성자 요약 캐시와 2차 캐시는 비어 있음
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+        userSummaryCache.invalidate(CacheRegion.USER, testUserId, false);
+        bindRequest(testUserId);
+        currentUserContext.getUser(testUserId);
+        statistics.clear();
+
+        // when
+        PostResponse created = postService.createPost(testUserId,
+                PostRequest.builder().title("작성").body("내용").build());
+        PostResponse updated = postService.updatePost(testUserId, created.getPostId(),
+                PostRequest.builder().title("수정").body("내용").build());
+        entityManager.flush();
+
+        // then
+        assertThat(created.getUser().getNickname()).isEqualTo("테스터");
+        assertThat(updated.getUser().getNickname()).isEqualTo("테스터");
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 응답의 작성자 요약 - 현재 사용자를 읽지 않았으면 요약 캐시에서 꺼내 사용자 조회 없음")
+    void updatePost_AuthorSummaryFromCache() {
+        // given
+        PostResponse created = postService.createPost(testUserId,
+                PostRequest.builder().title("작성").body("내용").build());
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(User.class);
+        userSummaryCache.get(testUserId);
+        statistics.clear();
+
+        // when
+        PostResponse updated = postService.updatePost(testUserId, created.getPostId(),
+                PostRequest.builder().title("수정").body("내용").build());
+        entityManager.flush();
+
+        // then
+        assertThat(updated.getUser().getNickname()).isEqualTo("테스터");
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 이미지 목록은 차이만 반영 (기존 행 유지, 순서만 UPDATE)")
+    void updatePost_ReconcilesImages() {
+        // given
+        PostResponse created = postService.createPost(testUserId, PostRequest.builder()
+                .title("원본 제목")
+                .body("원본 내용")
+                .imageUrls(List.of("a.jpg", "b.jpg", "c.jpg"))
+                .build());
+        entityManager.flush();
+        Map<String, Long> imageIds = created.getImages().stream()
+                .collect(Collectors.toMap(PostImageResponse::getImageUrl, PostImageResponse::getImageId));
+        statistics.clear();
+
+        // when
+        PostResponse response = postService.updatePost(testUserId, created.getPostId(), PostRequest.builder()
+                .title("원본 제목")
+                .body("원본 내용")
+                .imageUrls(List.of("c.jpg", "a.jpg", "d.jpg"))
+                .build());
+        entityManager.flush();
+
+        // then
+        assertThat(response.getImages()).extracting(PostImageResponse::getImageUrl)
+                .containsExactly("c.jpg", "a.jpg", "d.jpg");
+        assertThat(response.getImages()).extracting(PostImageResponse::getOrderNo)
+                .containsExactly(0, 1, 2);
+        assertThat(response.getImages().get(0).getImageId()).isEqualTo(imageIds.get("c.jpg"));
+        assertThat(response.getImages().get(1).getImageId()).isEqualTo(imageIds.get("a.jpg"));
+
+        EntityStatistics images = statistics.getEntityStatistics(PostImage.class.getName());
+        assertThat(images.getInsertCount()).isEqualTo(1);
+        assertThat(images.getDeleteCount()).isEqualTo(1);
+        assertThat(images.getUpdateCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 - 제목만 바뀌면 이미지 SQL 없음")
+    void updatePost_TitleOnly_NoImageWrites() {
+        // given
+        List<String> imageUrls = List.of("a.jpg", "b.jpg", "c.jpg");
+        PostResponse created = postService.createPost(testUserId, PostRequest.builder()
+                .title("원본 제목")
+                .body("원본 내용")
+                .imageUrls(imageUrls)
+                .build());
+        entityManager.flush();
+        statistics.clear();
+
+        // when
+        PostResponse response = postService.updatePost(testUserId, created.getPostId(), PostRequest.builder()
+                .title("수정된 제목")
+                .body("원본 내용")
+                .imageUrls(imageUrls)
+                .build());
+        entityManager.flush();
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("수정된 제목");
+        assertThat(response.getImages()).extracting(PostImageResponse::getImageUrl).containsExactlyElementsOf(imageUrls);
+
+        EntityStatistics images = statistics.getEntityStatistics(PostImage.class.getName());
+        assertThat(images.getInsertCount() + images.getUpdateCount() + images.getDeleteCount()).isZero();
+    }
+
     @Test
     @DisplayName("게시글 수정 실패 - 권한 없음")
     void updatePost_Fail_Forbidden() {
@@ -282,4 +478,11 @@ class PostServiceTest {
         assertThat(response.isLiked()).isFalse();
         assertThat(response.getLikesCount()).isZero();
     }
-}
\ No newline at end of file
+
+    // JwtAuthenticationFilter가 인증한 요청처럼 userId 요청 속성을 둠
+    private void bindRequest(UUID userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
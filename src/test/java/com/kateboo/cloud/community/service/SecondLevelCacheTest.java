@@ -0,0 +1,168 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.dto.request.PostRequest;
+import com.kateboo.cloud.community.dto.request.ProfileUpdateRequest;
+import com.kateboo.cloud.community.entity.Post;
+import com.kateboo.cloud.community.entity.PostImage;
+import com.kateboo.cloud.community.entity.User;
+import com.kateboo.cloud.community.repository.PostRepository;
+import com.kateboo.cloud.community.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2차 캐시 무효화 테스트
+ * 캐시는 커밋 시점에 갱신되므로 테스트 트랜잭션(롤백) 없이 실제로 커밋하고, 끝나면 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = User.builder()
+                .email("cache@example.com")
+                .nickname("캐시")
+                .passwordHash("encoded")
+                .profileImageUrl("https://example.com/profile.jpg")
+                .isActive(true)
+                .build();
+        userId = userRepository.save(user).getUserId();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("게시글 수정 후 캐시된 게시글/이미지 목록이 갱신됨")
+    void updatePost_RefreshesCachedPostAndImages() {
+        // given
+        UUID postId = postService.createPost(userId, postRequest("원본", List.of("a.jpg", "b.jpg"))).getPostId();
+        assertThat(loadImageUrls(postId)).containsExactly("a.jpg", "b.jpg");
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isTrue();
+
+        // when
+        postService.updatePost(userId, postId, postRequest("수정", List.of("c.jpg")));
+        statistics.clear();
+
+        // then
+        assertThat(loadTitle(postId)).isEqualTo("수정");
+        assertThat(loadImageUrls(postId)).containsExactly("c.jpg");
+        assertThat(statistics.getDomainDataRegionStatistics("post").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 후 캐시에서 제거됨")
+    void deletePost_EvictsCachedPost() {
+        // given
+        UUID postId = postService.createPost(userId, postRequest("삭제", List.of("a.jpg"))).getPostId();
+        loadImageUrls(postId);
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isTrue();
+
+        // when
+        postService.deletePost(userId, postId);
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Post.class, postId)).isFalse();
+        assertThat(postRepository.findById(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로필 수정 후 캐시된 사용자가 갱신됨")
+    void updateMyProfile_RefreshesCachedUser() {
+        // given
+        userRepository.findById(userId);
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+
+        // when
+        userService.updateMyProfile(userId, new ProfileUpdateRequest("새닉네임", "https://example.com/new.jpg"));
+        statistics.clear();
+
+        // then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getNickname()).isEqualTo("새닉네임");
+        assertThat(user.getProfileImageUrl()).isEqualTo("https://example.com/new.jpg");
+        assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 후 캐시된 사용자가 비활성으로 갱신됨")
+    void softDeleteAccount_RefreshesCachedUser() {
+        // given
+        userRepository.findById(userId);
+
+        // when
+        userService.softDeleteAccount(userId);
+
+        // then
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getIsActive()).isFalse();
+        assertThat(user.getDeactivatedAt()).isNotNull();
+    }
+
+    private PostRequest postRequest(String title, List<String> imageUrls) {
+        return PostRequest.builder()
+                .title(title)
+                .body("본문")
+                .imageUrls(imageUrls)
+                .build();
+    }
+
+    private String loadTitle(UUID postId) {
+        return transactionTemplate.execute(status -> postRepository.findById(postId).orElseThrow().getTitle());
+    }
+
+    private List<String> loadImageUrls(UUID postId) {
+        return transactionTemplate.execute(status -> postRepository.findById(postId).orElseThrow()
+                .getPostImages().stream()
+                .map(PostImage::getImageUrl)
+                .toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.kateboo.cloud.community.service;
+
+import com.kateboo.cloud.community.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재구성과 동시에 가입한 사용자가 새 필터에서 빠지지 않는지 확인
+ * DB 대신 메모리 집합을 쓰는 UserRepository로 조회 스냅샷 이후의 가입을 재현한다.
+ */
+class UserAvailabilityServiceTest {
+
+    private static final int EXISTING_USERS = 1_000;
+    private static final int CONCURRENT_SIGNUPS = 200;
+
+    // "커밋된" 사용자의 이메일/닉네임
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private final Set<String> nicknames = ConcurrentHashMap.newKeySet();
+
+    @Test
+    @DisplayName("재구성 조회 스냅샷 이후에 가입한 이메일/닉네임도 새 필터에 남아 사용 중으로 응답")
+    void rebuild_ConcurrentSignups_NotLost() throws Exception {
+        // given
+        for (int i = 0; i < EXISTING_USERS; i++) {
+            emails.add("user" + i + "@example.com");
+            nicknames.add("user" + i);
+        }
+
+        List<String> signedUp = IntStream.range(0, CONCURRENT_SIGNUPS)
+                .mapToObj(i -> "new" + i)
+                .toList();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 스냅샷을 읽는 도중에 다른 스레드들이 가입 (스냅샷에는 없음)
+            UserAvailabilityService[] holder = new UserAvailabilityService[1];
+            UserRepository repository = repository(() -> {
+                List<CompletableFuture<Void>> signups = new ArrayList<>();
+                for (String name : signedUp) {
+                    signups.add(CompletableFuture.runAsync(() -> {
+                        emails.add(name + "@example.com");
+                        nicknames.add(name);
+                        holder[0].registerUser(name + "@example.com", name);
+                    }, executor));
+                }
+                CompletableFuture.allOf(signups.toArray(CompletableFuture[]::new)).join();
+            });
+            UserAvailabilityService service = new UserAvailabilityService(repository, new SimpleMeterRegistry(), 1_000);
+            holder[0] = service;
+            service.initialize();
+
+            // when: 빠진 값이 있어 재구성하는 동안 가입이 몰림
+            service.markUserRemoved();
+            CompletableFuture.runAsync(service::rebuildIfStale, executor).get(10, TimeUnit.SECONDS);
+
+            // then
+            for (String name : signedUp) {
+                assertThat(service.isEmailTaken(name + "@example.com")).as(name).isTrue();
+                assertThat(service.isNicknameTaken(name)).as(name).isTrue();
+            }
+            assertThat(service.isEmailTaken("user0@example.com")).isTrue();
+        }
+    }
+
+    /**
+     * count/streamAllIdentifiers/existsBy* 만 구현, 두 번째 스트림 조회(재구성)의 첫 행을 읽은 뒤 duringSnapshot 실행
+     */
+    private UserRepository repository(Runnable duringSnapshot) {
+        int[] streams = {0};
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "count" -> (long) emails.size();
+                    case "existsByEmail" -> emails.contains(((String) args[0]).toLowerCase(Locale.ROOT));
+                    case "existsByNickname" -> nicknames.contains(((String) args[0]).toLowerCase(Locale.ROOT));
+                    case "streamAllIdentifiers" -> snapshot(++streams[0] == 2 ? duringSnapshot : () -> {
+                    });
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private Stream<UserRepository.UserIdentifiers> snapshot(Runnable afterFirstRow) {
+        List<String> snapshotEmails = List.copyOf(emails);
+        List<String> snapshotNicknames = List.copyOf(nicknames);
+        boolean[] fired = {false};
+        return IntStream.range(0, snapshotEmails.size())
+                .mapToObj(i -> {
+                    if (i == 1 && !fired[0]) {
+                        fired[0] = true;
+                        afterFirstRow.run();
+                    }
+                    return identifiers(snapshotEmails.get(i), snapshotNicknames.get(i));
+                });
+    }
+
+    private static UserRepository.UserIdentifiers identifiers(String email, String nickname) {
+        return new UserRepository.UserIdentifiers() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.kateboo.cloud.community.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 테스트용 Hibernate StatementInspector
+ * 트랜잭션 밖에서 SQL이 실행되면(서비스 밖 지연 로딩, 직렬화 중 조회 등) 즉시 실패시킴
+ */
+public class TransactionBoundaryGuard implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("트랜잭션 밖에서 SQL 실행: " + sql);
+        }
+        return sql;
+    }
+}